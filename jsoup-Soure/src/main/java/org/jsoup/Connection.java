@@ -1,10 +1,13 @@
 package org.jsoup;
 
+import org.jsoup.helper.HttpCache;
 import org.jsoup.nodes.Document;
 import org.jsoup.parser.Parser;
 
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.Collection;
 import java.io.IOException;
 
@@ -105,6 +108,32 @@ public interface Connection {
      */
     public Connection ignoreContentType(boolean ignoreContentType);
 
+    /**
+     * Keep the HTTP connection alive after the request, to reuse for later requests to the same host. By default this
+     * is <b>false</b>, and the connection is disconnected once the response is handled: only a body that happened to
+     * be read to its end has already returned its connection for reuse, so a redirect, or a body left partly unread,
+     * makes the next request open a new connection (and TLS handshake). When true, the response body, or a redirect's
+     * body, is read to its end and closed rather than disconnected, and the idle connection is held in the JVM's
+     * keep-alive cache, which keeps at most {@code http.maxConnections} (default 5) idle connections per host.
+     * Connections that fail, or whose body is not read to the end (such as when cut short by the
+     * {@link #maxBodySize(int) max body size}), are still disconnected.
+     * @param keepAlive set to true to reuse connections.
+     * @return this Connection, for chaining
+     */
+    public Connection keepAlive(boolean keepAlive);
+
+    /**
+     * Cache GET responses, and revalidate them on repeat requests. A response with an {@code ETag} or
+     * {@code Last-Modified} header is stored; when the URL is requested again, the request is sent as a conditional
+     * GET, and if the server replies {@code 304 Not Modified}, the response is answered from the cache: status 200,
+     * the cached body, and from {@link #get()}, a copy of the document parsed before (if still in memory). By default
+     * there is no cache.
+     * @param cache cache to use, such as an {@link org.jsoup.helper.LruHttpCache}, shared between connections; or null
+     * for none
+     * @return this Connection, for chaining
+     */
+    public Connection cache(HttpCache cache);
+
     /**
      * Add a request data parameter. Request parameters are sent in the request query string for GETs, and in the request
      * body for POSTs. A request may have multiple values of the same name.
@@ -169,7 +198,8 @@ public interface Connection {
     public Connection parser(Parser parser);
 
     /**
-     * Execute the request as a GET, and parse the result.
+     * Execute the request as a GET, and parse the result. The body is parsed as it is read, and is not
+     * retained: use {@link #execute()} then {@link Response#parse()} to also get the {@link Response#body() body}.
      * @return parsed Document
      * @throws java.net.MalformedURLException if the request URL is not a HTTP or HTTPS URL, or is otherwise malformed
      * @throws HttpStatusException if the response is not OK and HTTP response errors are not ignored
@@ -180,7 +210,8 @@ public interface Connection {
     public Document get() throws IOException;
 
     /**
-     * Execute the request as a POST, and parse the result.
+     * Execute the request as a POST, and parse the result. The body is parsed as it is read, and is not
+     * retained: use {@link #execute()} then {@link Response#parse()} to also get the {@link Response#body() body}.
      * @return parsed Document
      * @throws java.net.MalformedURLException if the request URL is not a HTTP or HTTPS URL, or is otherwise malformed
      * @throws HttpStatusException if the response is not OK and HTTP response errors are not ignored
@@ -201,6 +232,38 @@ public interface Connection {
      */
     public Response execute() throws IOException;
 
+    /**
+     * Set the executor that {@link #executeAsync()} and {@link #getAsync()} run requests on. By default they run on a
+     * shared pool of 8 daemon threads, so however many requests are submitted, at most 8 are fetched at once and the
+     * rest wait their turn. Supply a bounded executor of your own to change that limit.
+     * @param executor executor to run asynchronous requests on
+     * @return this Connection, for chaining
+     */
+    public Connection executor(Executor executor);
+
+    /**
+     * Execute the request in the background, on the connection's {@link #executor(Executor) executor}.
+     * <p/>
+     * The request runs on a copy of this connection's settings, taken when this is called, so the connection may be
+     * changed, or used again, at once, including from other threads. The copy's changes aren't seen here: the response
+     * is not this connection's {@link #response()}, and cookies set on redirects are not added to its request.
+     * @return a future for the response. If the request fails, {@link Future#get()} throws an ExecutionException with
+     * the exception that {@link #execute()} would have thrown as its cause.
+     */
+    public Future<Response> executeAsync();
+
+    /**
+     * Execute the request as a GET in the background, and parse the result. Each document is parsed on the executor
+     * as soon as its body has been read, so parsing overlaps with other fetches.
+     * <p/>
+     * As with {@link #executeAsync()}, the request runs on a copy of this connection's settings, taken when this is
+     * called, and with a {@link Parser#newInstance() new instance} of its parser, so its parse errors are not tracked on
+     * this connection's parser.
+     * @return a future for the parsed Document. If the request fails, {@link Future#get()} throws an
+     * ExecutionException with the exception that {@link #get()} would have thrown as its cause.
+     */
+    public Future<Document> getAsync();
+
     /**
      * Get the request object associated with this connection
      * @return request
@@ -409,6 +472,34 @@ public interface Connection {
     	 */
         public Request ignoreContentType(boolean ignoreContentType);
 
+        /**
+         * Get the current keepAlive configuration.
+         * @return true if the connection will be kept alive for reuse; false (default) if it will be disconnected.
+         */
+        public boolean keepAlive();
+
+        /**
+         * Configures the request to keep its connection alive for reuse.
+         * @param keepAlive set to true to reuse connections.
+         * @return this Request, for chaining
+         * @see Connection#keepAlive(boolean)
+         */
+        public Request keepAlive(boolean keepAlive);
+
+        /**
+         * Get the cache of GET responses.
+         * @return cache, or null (default) for none
+         */
+        public HttpCache cache();
+
+        /**
+         * Set the cache of GET responses.
+         * @param cache cache, or null for none
+         * @return this Request, for chaining
+         * @see Connection#cache(HttpCache)
+         */
+        public Request cache(HttpCache cache);
+
         /**
          * Add a data parameter to the request
          * @param keyval data to add.
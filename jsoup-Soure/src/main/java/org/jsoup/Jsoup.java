@@ -75,6 +75,10 @@ public class Jsoup {
 
     /**
      作为 H T M L 解析文件的内容。
+     <p>
+     Files of 16MB or more are read through a memory mapping. The mapping is only released when it is garbage collected,
+     some time after the parse; until then, on Windows, the file can't be deleted or overwritten. Smaller files are read
+     as a stream, and closed when parsed.
 
      @param in          file to load HTML from
      @param charsetName (optional) character set of file contents. Set to {@code null} to determine from {@code http-equiv} meta tag, if
@@ -90,6 +94,9 @@ public class Jsoup {
 
     /**
      作为 HTML 解析文件的内容。文件的位置作为基 URI 用于限定的相对 Url。
+     <p>
+     As with {@link #parse(File, String, String)}, a file of 16MB or more is read through a memory mapping, and on
+     Windows can't be deleted or overwritten until the mapping is garbage collected.
 
      @param in          file to load HTML from
      @param charsetName (optional) character set of file contents. Set to {@code null} to determine from {@code http-equiv} meta tag, if
@@ -0,0 +1,286 @@
+package org.jsoup.helper;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Guesses the charset of a document that doesn't declare one, from its first bytes. Valid UTF-8 is taken as UTF-8.
+ * Otherwise, in one pass, each candidate charset checks that the bytes are valid in it, and counts how many of the
+ * characters they make are in its frequently used ranges (common hanzi, kana, hangul, punctuation); the valid candidate
+ * with the most frequent characters wins. Bytes that are no good as any multibyte charset are taken as windows-1252.
+ */
+final class CharsetDetector {
+    /** How many bytes are looked at. */
+    static final int detectSize = 16 * 1024;
+
+    private CharsetDetector() {}
+
+    /**
+     * Guess the charset of the data. Does not move the buffer's position.
+     * @param data bytes of the document, from its start
+     * @return charset name; or null if the bytes are all ASCII, so any ASCII compatible charset will do
+     */
+    static String detect(ByteBuffer data) {
+        int start = data.position();
+        int end = Math.min(data.limit(), start + detectSize);
+        Utf8 utf8 = new Utf8();
+        // in order of preference, for equal scores
+        Candidate[] candidates = {new EucKr(), new EucJp(), new ShiftJis(), new Gb18030(), new Big5()};
+
+        byte[] bytes = new byte[end - start];
+        ByteBuffer view = data.duplicate();
+        view.get(bytes);
+        int i = 0;
+        while (i < bytes.length && bytes[i] >= 0) // skip the ASCII start
+            i++;
+        if (i == bytes.length)
+            return null;
+        int first = i;
+        for (; i < bytes.length && !utf8.invalid; i++) // most pages are UTF-8; if so, no need to try the others
+            utf8.feed(bytes[i] & 0xFF);
+        if (!utf8.invalid)
+            return "UTF-8";
+
+        for (i = first; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            for (Candidate candidate : candidates) {
+                if (!candidate.invalid)
+                    candidate.feed(b);
+            }
+        }
+
+        Candidate best = null;
+        for (Candidate candidate : candidates) {
+            if (!candidate.invalid && candidate.chars > 0 && (best == null || candidate.score() > best.score()))
+                best = candidate;
+        }
+        return best != null && best.score() >= 0.5 ? best.charset : "windows-1252";
+    }
+
+    private static boolean in(int b, int from, int to) {
+        return b >= from && b <= to;
+    }
+
+    private static class Utf8 {
+        boolean invalid = false;
+        private int following = 0; // continuation bytes still expected
+
+        void feed(int b) {
+            if (following > 0) {
+                if (in(b, 0x80, 0xBF))
+                    following--;
+                else
+                    invalid = true;
+            } else if (b >= 0x80) {
+                if (in(b, 0xC2, 0xDF))
+                    following = 1;
+                else if (in(b, 0xE0, 0xEF))
+                    following = 2;
+                else if (in(b, 0xF0, 0xF4))
+                    following = 3;
+                else
+                    invalid = true;
+            }
+        }
+    }
+
+    /**
+     * A multibyte charset being tried. Subclasses validate a byte at a time, and tally the characters they complete.
+     */
+    private static abstract class Candidate {
+        final String charset;
+        boolean invalid = false;
+        int chars = 0; // non-ASCII characters
+        int frequent = 0; // of those, in frequently used ranges
+        int lead = -1; // pending lead byte of a multibyte character
+        private int last = 0;
+        private boolean lastWasChar = false;
+        int spaced = 0; // characters next to a space, as between words
+        int kana = 0;
+
+        Candidate(String charset) {
+            this.charset = charset;
+        }
+
+        final void feed(int b) {
+            if (lead == -1 && b < 0x80) {
+                if (b == ' ' && lastWasChar)
+                    spaced++;
+                lastWasChar = false;
+                last = b;
+                return;
+            }
+            int charsBefore = chars;
+            next(b);
+            if (chars > charsBefore) {
+                if (last == ' ')
+                    spaced++;
+                lastWasChar = true;
+                last = 0;
+            }
+        }
+
+        abstract void next(int b);
+
+        // the character from lead to b is complete
+        final void add(boolean isFrequent) {
+            chars++;
+            if (isFrequent)
+                frequent++;
+            lead = -1;
+        }
+
+        double score() {
+            return (double) frequent / chars;
+        }
+    }
+
+    private static class Gb18030 extends Candidate {
+        private int step = 0; // bytes into a four byte sequence
+
+        Gb18030() {
+            super("GB18030");
+        }
+
+        void next(int b) {
+            if (lead == -1) {
+                if (in(b, 0x81, 0xFE))
+                    lead = b;
+                else
+                    invalid = true;
+            } else if (step == 0 && in(b, 0x30, 0x39)) {
+                step = 1;
+            } else if (step == 1) {
+                if (in(b, 0x81, 0xFE))
+                    step = 2;
+                else
+                    invalid = true;
+            } else if (step == 2) {
+                if (in(b, 0x30, 0x39)) {
+                    step = 0;
+                    add(false);
+                } else {
+                    invalid = true;
+                }
+            } else if (in(b, 0x40, 0x7E) || in(b, 0x80, 0xFE)) {
+                // GB2312 hanzi, and the CJK punctuation rows
+                add(b >= 0xA1 && (in(lead, 0xB0, 0xF7) || in(lead, 0xA1, 0xA3)));
+            } else {
+                invalid = true;
+            }
+        }
+    }
+
+    private static class Big5 extends Candidate {
+        Big5() {
+            super("Big5");
+        }
+
+        void next(int b) {
+            if (lead == -1) {
+                if (in(b, 0xA1, 0xF9))
+                    lead = b;
+                else
+                    invalid = true;
+            } else if (in(b, 0x40, 0x7E) || in(b, 0xA1, 0xFE)) {
+                add(in(lead, 0xA4, 0xC6) || in(lead, 0xA1, 0xA3)); // common hanzi, punctuation
+            } else {
+                invalid = true;
+            }
+        }
+    }
+
+    private static class EucKr extends Candidate {
+        EucKr() {
+            super("EUC-KR");
+        }
+
+        void next(int b) {
+            if (lead == -1) {
+                if (in(b, 0xA1, 0xFE))
+                    lead = b;
+                else
+                    invalid = true;
+            } else if (in(b, 0xA1, 0xFE)) {
+                add(in(lead, 0xB0, 0xC8) || lead == 0xA1); // hangul, punctuation
+            } else {
+                invalid = true;
+            }
+        }
+
+        @Override
+        double score() {
+            // korean is written with spaces between words; without them, the bytes are more likely chinese or japanese
+            return spaced * 10 < chars ? super.score() / 2 : super.score();
+        }
+    }
+
+    private static class EucJp extends Candidate {
+        private boolean threeByte = false; // 0x8F: JIS X 0212
+
+        EucJp() {
+            super("EUC-JP");
+        }
+
+        void next(int b) {
+            if (lead == -1) {
+                if (in(b, 0xA1, 0xFE) || b == 0x8E || b == 0x8F)
+                    lead = b;
+                else
+                    invalid = true;
+            } else if (lead == 0x8E) {
+                if (in(b, 0xA1, 0xDF))
+                    add(false); // half width katakana
+                else
+                    invalid = true;
+            } else if (lead == 0x8F && !threeByte) {
+                if (in(b, 0xA1, 0xFE))
+                    threeByte = true;
+                else
+                    invalid = true;
+            } else if (in(b, 0xA1, 0xFE)) {
+                threeByte = false;
+                boolean isKana = lead == 0xA4 || lead == 0xA5;
+                if (isKana)
+                    kana++;
+                add(isKana || in(lead, 0xB0, 0xCF) || lead == 0xA1); // kana, level 1 kanji, punctuation
+            } else {
+                invalid = true;
+            }
+        }
+
+        @Override
+        double score() {
+            // japanese text is full of kana; without it, the bytes are more likely chinese or korean
+            return kana * 20 < chars ? super.score() / 2 : super.score();
+        }
+    }
+
+    private static class ShiftJis extends Candidate {
+        ShiftJis() {
+            super("Shift_JIS");
+        }
+
+        void next(int b) {
+            if (lead == -1) {
+                if (in(b, 0xA1, 0xDF))
+                    add(false); // half width katakana
+                else if (in(b, 0x81, 0x9F) || in(b, 0xE0, 0xFC))
+                    lead = b;
+                else
+                    invalid = true;
+            } else if (in(b, 0x40, 0x7E) || in(b, 0x80, 0xFC)) {
+                boolean isKana = (lead == 0x82 && b >= 0x9F) || (lead == 0x83 && b <= 0x96);
+                if (isKana)
+                    kana++;
+                add(isKana || lead == 0x81 || in(lead, 0x88, 0x98)); // kana, punctuation, level 1 kanji
+            } else {
+                invalid = true;
+            }
+        }
+
+        @Override
+        double score() {
+            return kana * 20 < chars ? super.score() / 2 : super.score();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.jsoup.helper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.Locale;
+
+/**
+ * Finds the charset of an HTML document from its first bytes, before it is decoded: from a byte order mark, or from a
+ * {@code <meta charset>} or {@code <meta http-equiv=content-type>} tag, following the HTML5 prescan algorithm. Works
+ * on the bytes directly, as the tags it looks for are ASCII in any charset that can be prescanned.
+ */
+final class CharsetPrescan {
+    /** How many bytes are scanned. HTML5 asks for 1024; a little more finds metas after long titles and scripts. */
+    static final int prescanSize = 4096;
+
+    private final ByteBuffer data;
+    private final int end;
+    private int pos;
+
+    private CharsetPrescan(ByteBuffer data) {
+        this.data = data;
+        this.pos = data.position();
+        this.end = Math.min(data.limit(), pos + prescanSize);
+    }
+
+    /**
+     * Find the charset declared at the start of the data. Does not move the buffer's position.
+     * @param data bytes of the document, from its start
+     * @return a supported charset name, or null if none is declared in the prescan window
+     */
+    static String detect(ByteBuffer data) {
+        return new CharsetPrescan(data).detect();
+    }
+
+    private String detect() {
+        if (matches(0xEF, 0xBB, 0xBF))
+            return "UTF-8";
+        if (matches(0xFE, 0xFF))
+            return "UTF-16BE";
+        if (matches(0xFF, 0xFE))
+            return "UTF-16LE";
+
+        while (pos < end) {
+            if (matches('<', '!', '-', '-')) {
+                pos = indexOf("-->", pos + 2); // "<!-->" is a whole comment
+                if (pos == -1)
+                    return null;
+                pos += 2; // to the '>'
+            } else if (matchesIgnoreCase("<meta") && isSpaceOrSlash(byteAt(pos + 5))) {
+                pos += 5;
+                String charset = meta();
+                if (charset != null)
+                    return charset;
+            } else if (at('<') && (isLetter(byteAt(pos + 1)) || (byteAt(pos + 1) == '/' && isLetter(byteAt(pos + 2))))) {
+                while (pos < end && !isSpace(byteAt(pos)) && byteAt(pos) != '>')
+                    pos++;
+                while (attribute() != null) {
+                    // skip the tag's attributes, as a quoted value may hold a '<'
+                }
+            } else if (matches('<', '!') || matches('<', '/') || matches('<', '?')) {
+                pos = indexOf(">", pos + 2);
+                if (pos == -1)
+                    return null;
+            }
+            pos++;
+        }
+        return null;
+    }
+
+    // reads the attributes of a meta tag, returning its charset if it declares one
+    private String meta() {
+        boolean seenHttpEquiv = false, seenContent = false, seenCharset = false;
+        boolean gotPragma = false;
+        Boolean needPragma = null; // whether the charset came from content, so needs http-equiv=content-type
+        String charset = null;
+        String[] attr;
+        while ((attr = attribute()) != null) {
+            String name = attr[0], value = attr[1];
+            if (name.equals("http-equiv") && !seenHttpEquiv) {
+                seenHttpEquiv = true;
+                gotPragma = value.equals("content-type");
+            } else if (name.equals("content") && !seenContent) {
+                seenContent = true;
+                if (charset == null) {
+                    charset = fromContent(value);
+                    if (charset != null)
+                        needPragma = Boolean.TRUE;
+                }
+            } else if (name.equals("charset") && !seenCharset) {
+                seenCharset = true;
+                if (charset == null) {
+                    charset = value;
+                    needPragma = Boolean.FALSE;
+                }
+            }
+        }
+        if (needPragma == null || (needPragma && !gotPragma))
+            return null;
+        return supported(charset);
+    }
+
+    // the HTML5 "get an attribute" algorithm: returns {lower case name, value}, or null at the end of the tag
+    private String[] attribute() {
+        while (pos < end && (isSpace(byteAt(pos)) || byteAt(pos) == '/'))
+            pos++;
+        if (pos >= end || byteAt(pos) == '>')
+            return null;
+
+        StringBuilder name = new StringBuilder();
+        StringBuilder value = new StringBuilder();
+        for (; pos < end; pos++) {
+            int b = byteAt(pos);
+            if (b == '=' && name.length() > 0)
+                break;
+            if (isSpace(b) || b == '/' || b == '>')
+                return new String[]{name.toString(), ""};
+            name.append(lowerAscii(b));
+        }
+        while (pos < end && isSpace(byteAt(pos)))
+            pos++;
+        if (pos >= end || byteAt(pos) != '=')
+            return new String[]{name.toString(), ""};
+        pos++;
+        while (pos < end && isSpace(byteAt(pos)))
+            pos++;
+        if (pos >= end)
+            return null;
+
+        int b = byteAt(pos);
+        if (b == '"' || b == '\'') {
+            int quote = b;
+            for (pos++; pos < end; pos++) {
+                b = byteAt(pos);
+                if (b == quote) {
+                    pos++;
+                    return new String[]{name.toString(), value.toString()};
+                }
+                value.append(lowerAscii(b));
+            }
+            return null; // ran out of bytes
+        }
+        for (; pos < end; pos++) {
+            b = byteAt(pos);
+            if (isSpace(b) || b == '>')
+                break;
+            value.append(lowerAscii(b));
+        }
+        return new String[]{name.toString(), value.toString()};
+    }
+
+    // the HTML5 "extract a character encoding from a meta element" algorithm, over a content attribute value
+    private static String fromContent(String content) {
+        int i = 0;
+        while (true) {
+            i = content.toLowerCase(Locale.ENGLISH).indexOf("charset", i);
+            if (i == -1)
+                return null;
+            i += 7;
+            while (i < content.length() && isSpace(content.charAt(i)))
+                i++;
+            if (i < content.length() && content.charAt(i) == '=')
+                break;
+        }
+        i++;
+        while (i < content.length() && isSpace(content.charAt(i)))
+            i++;
+        if (i >= content.length())
+            return null;
+        char c = content.charAt(i);
+        if (c == '"' || c == '\'') {
+            int close = content.indexOf(c, i + 1);
+            return close == -1 ? null : content.substring(i + 1, close);
+        }
+        int start = i;
+        while (i < content.length() && !isSpace(content.charAt(i)) && content.charAt(i) != ';')
+            i++;
+        return content.substring(start, i);
+    }
+
+    // maps a declared name to a supported charset name, or null; as HTML5, a declared UTF-16 can't be, so is UTF-8
+    private static String supported(String charset) {
+        charset = charset.trim();
+        if (charset.length() == 0)
+            return null;
+        if (charset.startsWith("utf-16"))
+            return "UTF-8";
+        if (charset.equals("x-user-defined"))
+            return "windows-1252";
+        try {
+            return Charset.isSupported(charset) ? charset : null;
+        } catch (IllegalCharsetNameException e) {
+            return null;
+        }
+    }
+
+    private int byteAt(int i) {
+        return i < end ? data.get(i) & 0xFF : -1;
+    }
+
+    private boolean at(int b) {
+        return byteAt(pos) == b;
+    }
+
+    private boolean matches(int... bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (byteAt(pos + i) != bytes[i])
+                return false;
+        }
+        return true;
+    }
+
+    private boolean matchesIgnoreCase(String lower) {
+        for (int i = 0; i < lower.length(); i++) {
+            if (lowerAscii(byteAt(pos + i)) != lower.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private int indexOf(String seq, int from) {
+        for (int i = from; i + seq.length() <= end; i++) {
+            int j = 0;
+            while (j < seq.length() && byteAt(i + j) == seq.charAt(j))
+                j++;
+            if (j == seq.length())
+                return i;
+        }
+        return -1;
+    }
+
+    private static boolean isSpace(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\f' || b == '\r';
+    }
+
+    private static boolean isSpaceOrSlash(int b) {
+        return isSpace(b) || b == '/';
+    }
+
+    private static boolean isLetter(int b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static char lowerAscii(int b) {
+        return (char) (b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b);
+    }
+}
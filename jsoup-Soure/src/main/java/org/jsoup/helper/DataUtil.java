@@ -5,8 +5,15 @@ import org.jsoup.nodes.Element;
 import org.jsoup.parser.Parser;
 
 import java.io.*;
+import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.Locale;
@@ -19,11 +26,16 @@ public class DataUtil {
     private static final Pattern charsetPattern = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
     static final String defaultCharset = "UTF-8"; // used if not found in header or meta charset
     private static final int bufferSize = 0x20000; // ~130K.
+    private static final int maxPooledSize = 0x100000; // 1M; 更大的读缓冲区用完即弃，不留给线程复用
+    private static final long minMappedSize = 0x1000000; // 16M; 更小的文件边读边解析，不映射，免得映射锁住文件
+    private static final int maxPresizedLength = 0x100000; // 1M; 声明的长度超过此数时，按实际到达的字节增长，不预先分配
+    // 每个线程复用的读缓冲区，免得每次读取都分配；软引用，内存紧张时可以回收
+    private static final ThreadLocal<SoftReference<byte[]>> readBuffers = new ThreadLocal<SoftReference<byte[]>>();
 
     private DataUtil() {}
 
     /**
-     加载到文档文件。
+     加载到文档文件。16M 及以上的文件通过内存映射读取，映射直到被垃圾回收才释放，在此之前 Windows 上不能删除或覆盖该文件。
      @param in file to load
      @param charsetName character set of input
      @param baseUri base URI of document, to resolve relative links against
@@ -31,17 +43,31 @@ public class DataUtil {
      @throws IOException on IO error
      */
     public static Document load(File in, String charsetName, String baseUri) throws IOException {
+        long size = in.length();
+        if (size >= minMappedSize && size <= Integer.MAX_VALUE)
+            return loadMapped(in, charsetName, baseUri);
+
         FileInputStream inStream = null;
         try {
             inStream = new FileInputStream(in);
-            ByteBuffer byteData = readToByteBuffer(inStream);
-            return parseByteData(byteData, charsetName, baseUri, Parser.htmlParser());
+            return parseInputStream(inStream, charsetName, baseUri, Parser.htmlParser());
         } finally {
             if (inStream != null)
                 inStream.close();
         }
     }
 
+    // 映射文件，从映射区直接解码，堆上不留文件的字节副本
+    static Document loadMapped(File in, String charsetName, String baseUri) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(in, "r");
+        try {
+            MappedByteBuffer mapped = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+            return parseByteBuffer(mapped, charsetName, baseUri, Parser.htmlParser());
+        } finally {
+            file.close(); // 映射在关闭后仍然有效，直到被垃圾回收
+        }
+    }
+
     /**
      解析文档从输入的蒸汽。
      @param in input stream to parse. You will need to close it.
@@ -51,8 +77,7 @@ public class DataUtil {
      @throws IOException on IO error
      */
     public static Document load(InputStream in, String charsetName, String baseUri) throws IOException {
-        ByteBuffer byteData = readToByteBuffer(in);
-        return parseByteData(byteData, charsetName, baseUri, Parser.htmlParser());
+        return parseInputStream(in, charsetName, baseUri, Parser.htmlParser());
     }
 
     /**
@@ -65,8 +90,43 @@ public class DataUtil {
      @throws IOException on IO error
      */
     public static Document load(InputStream in, String charsetName, String baseUri, Parser parser) throws IOException {
-        ByteBuffer byteData = readToByteBuffer(in);
-        return parseByteData(byteData, charsetName, baseUri, parser);
+        return parseInputStream(in, charsetName, baseUri, parser);
+    }
+
+    // 字符集已知，或能从开头的字节预扫描到时，边读边解码边解析，不先缓冲整个输入；否则要先从 meta 中找字符集，所以读入缓冲区。
+    static Document parseInputStream(InputStream in, String charsetName, String baseUri, Parser parser) throws IOException {
+        if (charsetName == null) {
+            if (!in.markSupported())
+                in = new BufferedInputStream(in);
+            charsetName = CharsetPrescan.detect(peek(in, CharsetPrescan.prescanSize));
+            if (charsetName == null)
+                return parseByteData(readToByteBuffer(in), null, baseUri, parser);
+        }
+
+        Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+        return parseReader(new InputStreamReader(in, Charset.forName(charsetName)), charsetName, baseUri, parser);
+    }
+
+    // 同 parseInputStream，但输入已在一个字节缓冲区中（如映射的文件）：字符集已知或预扫描到时，边解码边解析
+    static Document parseByteBuffer(ByteBuffer byteData, String charsetName, String baseUri, Parser parser) throws IOException {
+        if (charsetName == null) {
+            charsetName = CharsetPrescan.detect(byteData);
+            if (charsetName == null)
+                return parseByteData(byteData, null, baseUri, parser);
+        }
+
+        Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+        return parseReader(new ByteBufferReader(byteData, Charset.forName(charsetName)), charsetName, baseUri, parser);
+    }
+
+    private static Document parseReader(Reader in, String charsetName, String baseUri, Parser parser) throws IOException {
+        PushbackReader reader = new PushbackReader(in, 1);
+        int first = reader.read();
+        if (first != -1 && first != 65279) // 去掉字节顺序标记，同 parseByteData
+            reader.unread(first);
+        Document doc = parser.parseInput(reader, baseUri);
+        doc.outputSettings().charset(charsetName);
+        return doc;
     }
 
     // 首先读入字节的缓冲区，然后将解码与适当的字符集。做这种方式来支持
@@ -74,20 +134,26 @@ public class DataUtil {
     static Document parseByteData(ByteBuffer byteData, String charsetName, String baseUri, Parser parser) {
         String docData;
         Document doc = null;
-        if (charsetName == null) { // determine from meta. safe parse as UTF-8
+        if (charsetName == null) // 先预扫描开头的字节（BOM、meta），找到了就只需解码、解析一次
+            charsetName = CharsetPrescan.detect(byteData);
+        if (charsetName == null) { // determine from meta. safe parse as UTF-8, or as the bytes look to be if not UTF-8
             // look for <meta http-equiv="Content-Type" content="text/html;charset=gb2312"> or HTML5 <meta charset="gb2312">
-            docData = Charset.forName(defaultCharset).decode(byteData).toString();
+            String detected = CharsetDetector.detect(byteData);
+            String decodeAs = detected != null ? detected : defaultCharset;
+            docData = Charset.forName(decodeAs).decode(byteData).toString();
             doc = parser.parseInput(docData, baseUri);
             Element meta = doc.select("meta[http-equiv=content-type], meta[charset]").first();
-            if (meta != null) { // if not found, will keep utf-8 as best attempt
+            if (meta != null) { // if not found, will keep the detected charset, or utf-8, as best attempt
                 String foundCharset = meta.hasAttr("http-equiv") ? getCharsetFromContentType(meta.attr("content")) : meta.attr("charset");
-                if (foundCharset != null && foundCharset.length() != 0 && !foundCharset.equals(defaultCharset)) { // need to re-decode
+                if (foundCharset != null && foundCharset.length() != 0 && !sameCharset(foundCharset, decodeAs)) { // need to re-decode
                     charsetName = foundCharset;
                     byteData.rewind();
                     docData = Charset.forName(foundCharset).decode(byteData).toString();
                     doc = null;
                 }
             }
+            if (doc != null && detected != null)
+                doc.outputSettings().charset(detected);
         } else { // specified by content type header (or by user on file load)
             Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
             docData = Charset.forName(charsetName).decode(byteData).toString();
@@ -105,6 +171,29 @@ public class DataUtil {
         return doc;
     }
 
+    // true if the names are of one charset, e.g. "utf8" and "UTF-8", so the bytes needn't be decoded again
+    private static boolean sameCharset(String found, String decodedAs) {
+        if (found.equals(decodedAs))
+            return true;
+        try {
+            return Charset.isSupported(found) && Charset.forName(found).equals(Charset.forName(decodedAs));
+        } catch (IllegalCharsetNameException e) {
+            return false; // left to fail as before, when decoding with it
+        }
+    }
+
+    // 读取流开头的至多 size 个字节，然后回退到开头，流必须支持 mark
+    private static ByteBuffer peek(InputStream in, int size) throws IOException {
+        byte[] start = new byte[size];
+        in.mark(size);
+        int length = 0;
+        int read;
+        while (length < size && (read = in.read(start, length, size - length)) != -1)
+            length += read;
+        in.reset();
+        return ByteBuffer.wrap(start, 0, length);
+    }
+
     /**
      输入的流读入一个字节的缓冲区。
      @param inStream the input stream to read from
@@ -113,27 +202,83 @@ public class DataUtil {
      @throws IOException if an exception occurs whilst reading from the input stream.
      */
     static ByteBuffer readToByteBuffer(InputStream inStream, int maxSize) throws IOException {
+        return readToByteBuffer(inStream, maxSize, -1);
+    }
+
+    /**
+     输入的流读入一个字节的缓冲区。已知长度（如 Content-Length）时，直接读入一个正好大小的数组，不再复制；
+     否则读入本线程复用的缓冲区，最后复制一次。声明的长度不可信（可能有误或恶意），所以预先分配最多 1M，
+     更长的内容随字节到达而增长。
+     @param inStream the input stream to read from
+     @param maxSize the maximum size in bytes to read from the stream. Set to 0 to be unlimited.
+     @param expectedSize the length the stream is expected to have, or -1 if not known
+     @return the filled byte buffer
+     @throws IOException if an exception occurs whilst reading from the input stream.
+     */
+    static ByteBuffer readToByteBuffer(InputStream inStream, int maxSize, int expectedSize) throws IOException {
         Validate.isTrue(maxSize >= 0, "maxSize must be 0 (unlimited) or larger");
         final boolean capped = maxSize > 0;
-        byte[] buffer = new byte[bufferSize];
-        ByteArrayOutputStream outStream = new ByteArrayOutputStream(bufferSize);
-        int read;
-        int remaining = maxSize;
-
-        while (true) {
-            read = inStream.read(buffer);
-            if (read == -1) break;
-            if (capped) {
-                if (read > remaining) {
-                    outStream.write(buffer, 0, remaining);
-                    break;
-                }
-                remaining -= read;
+        byte[] prefix = null;
+        int next = -1;
+        int length = 0;
+        if (expectedSize > 0) {
+            int presized = Math.min(expectedSize, maxPresizedLength);
+            byte[] exact = new byte[capped ? Math.min(presized, maxSize) : presized];
+            length = readFully(inStream, exact);
+            if (length < exact.length) { // ended early
+                byte[] data = new byte[length];
+                System.arraycopy(exact, 0, data, 0, length);
+                return ByteBuffer.wrap(data);
             }
-            outStream.write(buffer, 0, read);
+            if (length == maxSize)
+                return ByteBuffer.wrap(exact);
+            if (length == expectedSize) {
+                next = inStream.read();
+                if (next == -1)
+                    return ByteBuffer.wrap(exact);
+                length++;
+            }
+            prefix = exact; // longer than expected, or than presized: carry on as if not known
         }
-        ByteBuffer byteData = ByteBuffer.wrap(outStream.toByteArray());
-        return byteData;
+
+        SoftReference<byte[]> ref = readBuffers.get();
+        byte[] buffer = ref != null ? ref.get() : null;
+        if (buffer == null || buffer.length < length + 1)
+            buffer = new byte[Math.max(bufferSize, length * 2)];
+        if (prefix != null) {
+            System.arraycopy(prefix, 0, buffer, 0, prefix.length);
+            if (next != -1)
+                buffer[prefix.length] = (byte) next;
+        }
+        while (!capped || length < maxSize) {
+            if (length == buffer.length) {
+                byte[] grown = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, grown, 0, length);
+                buffer = grown;
+            }
+            int toRead = buffer.length - length;
+            if (capped)
+                toRead = Math.min(toRead, maxSize - length);
+            int read = inStream.read(buffer, length, toRead);
+            if (read == -1)
+                break;
+            length += read;
+        }
+        if (buffer.length <= maxPooledSize && (ref == null || ref.get() != buffer))
+            readBuffers.set(new SoftReference<byte[]>(buffer));
+
+        byte[] data = new byte[length];
+        System.arraycopy(buffer, 0, data, 0, length);
+        return ByteBuffer.wrap(data);
+    }
+
+    // 读满缓冲区，除非流先结束；返回读到的字节数
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int length = 0;
+        int read;
+        while (length < buffer.length && (read = in.read(buffer, length, buffer.length - length)) != -1)
+            length += read;
+        return length;
     }
 
     static ByteBuffer readToByteBuffer(InputStream inStream) throws IOException {
@@ -158,5 +303,58 @@ public class DataUtil {
         return null;
     }
 
+    /**
+     从字节缓冲区直接解码的 Reader，不先把字节复制到堆上。解码出错的字节同 Charset.decode 一样替换掉。
+     */
+    static class ByteBufferReader extends Reader {
+        private static final int decoding = 0, flushing = 1, done = 2;
+        private final ByteBuffer in;
+        private final CharsetDecoder decoder;
+        private final CharBuffer spill = CharBuffer.allocate(2); // 调用方的缓冲区放不下一个代理对时，先解码到这里
+        private int state = decoding;
+
+        ByteBufferReader(ByteBuffer in, Charset charset) {
+            this.in = in.duplicate();
+            this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            spill.flip();
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) {
+            if (len == 0)
+                return 0;
+            int count = 0;
+            while (count == 0) {
+                while (spill.hasRemaining() && count < len)
+                    buf[off + count++] = spill.get();
+                if (count == len || state == done)
+                    break;
+                CharBuffer out = CharBuffer.wrap(buf, off + count, len - count);
+                decode(out);
+                count = out.position() - off;
+                if (count == 0) { // 放不下一个完整的字符
+                    spill.clear();
+                    decode(spill);
+                    spill.flip();
+                }
+            }
+            return count == 0 ? -1 : count;
+        }
 
+        private void decode(CharBuffer out) {
+            if (state == decoding) {
+                if (decoder.decode(in, out, true).isOverflow())
+                    return;
+                state = flushing; // 输入都已解码
+            }
+            if (state == flushing && decoder.flush(out).isUnderflow())
+                state = done;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
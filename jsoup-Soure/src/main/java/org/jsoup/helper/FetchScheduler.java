@@ -0,0 +1,277 @@
+package org.jsoup.helper;
+
+import org.jsoup.Connection;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches many URLs in parallel, politely. URLs are added to a frontier, de-duplicated, and fetched by a pool of worker
+ * threads, with at most {@link #maxPerHost(int) maxPerHost} requests to a host at once and at least
+ * {@link #hostDelay(long) hostDelay} between the starts of requests to a host. Hosts are served round robin, so one
+ * busy host doesn't hold up the others. Each response is handed to the {@link Callback} on the worker that fetched it,
+ * which can parse it and {@link #add(String) add} the links it finds; for example, a listing page and then all its
+ * detail pages:
+ * <pre>
+ * final FetchScheduler scheduler = new FetchScheduler(new FetchScheduler.Callback() {
+ *     public void fetched(String url, Connection.Response res, FetchScheduler scheduler) throws IOException {
+ *         for (Element link : res.parse().select("a[href$=.java]"))
+ *             scheduler.add(link.absUrl("href"));
+ *     }
+ *     public void failed(String url, Exception e) { }
+ * }).threads(8).maxPerHost(2).hostDelay(100);
+ * scheduler.add(listingUrl);
+ * scheduler.await();
+ * scheduler.shutdown();
+ * </pre>
+ * Requests use keep-alive connections; override {@link #connect(String)} to configure them further.
+ */
+public class FetchScheduler {
+    /**
+     * Receives the results of fetches. Called on the worker threads, so must be thread safe.
+     */
+    public interface Callback {
+        /**
+         * A URL was fetched.
+         * @param url the URL, as added
+         * @param response the executed response
+         * @param scheduler this scheduler, to add more URLs to
+         * @throws IOException if handling the response fails; passed on to {@link #failed}
+         */
+        void fetched(String url, Connection.Response response, FetchScheduler scheduler) throws IOException;
+
+        /**
+         * A URL could not be fetched, or its {@link #fetched} call threw.
+         * @param url the URL, as added
+         * @param e the failure
+         */
+        void failed(String url, Exception e);
+    }
+
+    private final Callback callback;
+    private int threads = 4;
+    private int maxPerHost = 2;
+    private long hostDelay = 0;
+
+    // frontier state, guarded by this
+    private final Set<String> seen = new HashSet<String>();
+    private final LinkedHashMap<String, Host> hosts = new LinkedHashMap<String, Host>(); // hosts with queued URLs, in turn order
+    private final Map<String, Host> allHosts = new HashMap<String, Host>();
+    private int pending = 0; // queued and in progress
+    private boolean shutdown = false;
+    private List<Thread> workers;
+
+    /**
+     * Create a scheduler. Workers start when the first URL is added.
+     * @param callback callback for the results
+     */
+    public FetchScheduler(Callback callback) {
+        Validate.notNull(callback, "Callback must not be null");
+        this.callback = callback;
+    }
+
+    /**
+     * Set the number of worker threads, which bounds the requests in progress across all hosts. Default 4.
+     * @param threads number of workers
+     * @return this scheduler, for chaining
+     */
+    public synchronized FetchScheduler threads(int threads) {
+        Validate.isTrue(threads > 0, "Threads must be 1 or more");
+        Validate.isTrue(workers == null, "Threads can't be changed once started");
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Set the most requests in progress to one host at once. Default 2.
+     * @param maxPerHost maximum concurrent requests per host
+     * @return this scheduler, for chaining
+     */
+    public synchronized FetchScheduler maxPerHost(int maxPerHost) {
+        Validate.isTrue(maxPerHost > 0, "Max per host must be 1 or more");
+        this.maxPerHost = maxPerHost;
+        notifyAll();
+        return this;
+    }
+
+    /**
+     * Set the least time between starting requests to the same host. Default 0.
+     * @param millis delay in milliseconds
+     * @return this scheduler, for chaining
+     */
+    public synchronized FetchScheduler hostDelay(long millis) {
+        Validate.isTrue(millis >= 0, "Host delay must be 0 or more");
+        this.hostDelay = millis;
+        notifyAll();
+        return this;
+    }
+
+    /**
+     * Add a URL to fetch, unless it has been added before (ignoring any #fragment).
+     * @param url absolute http or https URL
+     * @return true if added; false if a duplicate
+     * @throws IllegalArgumentException if the URL is malformed
+     * @throws IllegalStateException if the scheduler has been shut down
+     */
+    public boolean add(String url) {
+        Validate.notEmpty(url, "URL must not be empty");
+        URL parsed;
+        try {
+            parsed = new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Malformed URL: " + url, e);
+        }
+        String key = parsed.getRef() != null ? url.substring(0, url.indexOf('#')) : url;
+        String hostKey = parsed.getProtocol() + "://" + parsed.getAuthority().toLowerCase(Locale.ENGLISH);
+
+        synchronized (this) {
+            if (shutdown)
+                throw new IllegalStateException("Scheduler has been shut down");
+            if (!seen.add(key))
+                return false;
+            Host host = allHosts.get(hostKey);
+            if (host == null) {
+                host = new Host();
+                allHosts.put(hostKey, host);
+            }
+            host.queue.add(url);
+            if (!hosts.containsKey(hostKey))
+                hosts.put(hostKey, host);
+            pending++;
+            if (workers == null)
+                start();
+            notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Wait until every added URL (including those added by callbacks) has been fetched and handled.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void await() throws InterruptedException {
+        while (pending > 0)
+            wait();
+    }
+
+    /**
+     * Wait until every added URL has been fetched and handled, or the timeout passes.
+     * @param timeout time to wait
+     * @param unit unit of the timeout
+     * @return true if all done; false if the timeout passed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        long end = System.currentTimeMillis() + unit.toMillis(timeout);
+        while (pending > 0) {
+            long left = end - System.currentTimeMillis();
+            if (left <= 0)
+                return false;
+            wait(left);
+        }
+        return true;
+    }
+
+    /**
+     * Stop the workers once their current fetches finish. Queued URLs are dropped.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        for (Host host : hosts.values()) {
+            pending -= host.queue.size();
+            host.queue.clear();
+        }
+        hosts.clear();
+        notifyAll();
+    }
+
+    /**
+     * Create the connection for a URL. By default a keep-alive connection; override to set a user agent, timeout,
+     * cookies and so on.
+     * @param url URL to fetch
+     * @return connection, ready to execute
+     */
+    protected Connection connect(String url) {
+        return HttpConnection.connect(url).keepAlive(true);
+    }
+
+    private void start() {
+        workers = new ArrayList<Thread>(threads);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread("jsoup-fetch-" + (i + 1)) {
+                public void run() {
+                    work();
+                }
+            };
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            String url;
+            Host host;
+            synchronized (this) {
+                try {
+                    host = take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (host == null)
+                    return; // shut down
+                url = host.queue.removeFirst();
+            }
+
+            try {
+                Connection.Response res = connect(url).execute();
+                callback.fetched(url, res, this);
+            } catch (Exception e) {
+                callback.failed(url, e);
+            } finally {
+                synchronized (this) {
+                    host.active--;
+                    pending--;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    // waits for a host that is under its limits and has a URL queued, and claims a request slot on it
+    private Host take() throws InterruptedException {
+        while (!shutdown) {
+            long now = System.currentTimeMillis();
+            long wait = 0; // 0 for no host ready later
+            for (Map.Entry<String, Host> entry : hosts.entrySet()) {
+                Host host = entry.getValue();
+                if (host.active >= maxPerHost)
+                    continue;
+                long readyAt = host.lastStart + hostDelay;
+                if (readyAt <= now) {
+                    host.active++;
+                    host.lastStart = now;
+                    // to the back of the turn order, or out of it if nothing else is queued for the host
+                    hosts.remove(entry.getKey());
+                    if (host.queue.size() > 1)
+                        hosts.put(entry.getKey(), host);
+                    return host;
+                }
+                if (wait == 0 || readyAt - now < wait)
+                    wait = readyAt - now;
+            }
+            wait(wait);
+        }
+        return null;
+    }
+
+    private static class Host {
+        final LinkedList<String> queue = new LinkedList<String>();
+        int active = 0;
+        long lastStart = 0;
+    }
+}
@@ -0,0 +1,144 @@
+package org.jsoup.helper;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeVisitor;
+
+/**
+ * A cache of HTTP responses, so a repeated GET can be made conditional. When a connection has a cache, a cached entry
+ * for its URL turns the request into a conditional GET ({@code If-None-Match} / {@code If-Modified-Since}), and a
+ * {@code 304 Not Modified} reply is answered from the entry: its body, or the document parsed from it before. Responses
+ * with an {@code ETag} or {@code Last-Modified} header are stored. Implementations must be thread safe.
+ * @see LruHttpCache
+ * @see org.jsoup.Connection#cache(HttpCache)
+ */
+public interface HttpCache {
+    /**
+     * Get the entry for a URL.
+     * @param url absolute URL, including any query
+     * @return the entry, or null if none is cached
+     */
+    Entry get(String url);
+
+    /**
+     * Store an entry, replacing any for its URL.
+     * @param entry entry to store
+     */
+    void put(Entry entry);
+
+    /**
+     * Remove the entry for a URL, if any.
+     * @param url absolute URL
+     */
+    void remove(String url);
+
+    /**
+     * A cached response: its validators, content type and body, and the document parsed from it, if any yet.
+     */
+    public static class Entry {
+        private final String url;
+        private final String etag;
+        private final String lastModified;
+        private final String contentType;
+        private final byte[] body;
+        private volatile Document document;
+        private volatile long documentSize;
+
+        /**
+         * Create an entry.
+         * @param url absolute URL
+         * @param etag ETag header value, or null
+         * @param lastModified Last-Modified header value, or null
+         * @param contentType Content-Type header value, or null
+         * @param body response body
+         */
+        public Entry(String url, String etag, String lastModified, String contentType, byte[] body) {
+            Validate.notNull(url, "URL must not be null");
+            Validate.notNull(body, "Body must not be null");
+            Validate.isTrue(etag != null || lastModified != null, "Entry must have an ETag or Last-Modified validator");
+            this.url = url;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String url() {
+            return url;
+        }
+
+        public String etag() {
+            return etag;
+        }
+
+        public String lastModified() {
+            return lastModified;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        /**
+         * Get the body. Shared, do not modify.
+         * @return body bytes
+         */
+        public byte[] body() {
+            return body;
+        }
+
+        /**
+         * Get the document parsed from the body, if it has been parsed while this entry was in memory. Shared: clone
+         * it before use.
+         * @return parsed document, or null
+         */
+        public Document document() {
+            return document;
+        }
+
+        /**
+         * Keep the document parsed from the body, to answer a later {@code 304} without parsing again. The document
+         * is counted in the entry's {@link #size()}.
+         * @param document parsed document, which must not be modified after
+         */
+        public void document(Document document) {
+            documentSize = document != null ? estimateSize(document) : 0;
+            this.document = document;
+        }
+
+        /**
+         * Estimate the memory this entry holds: its body, and the document parsed from it, if kept.
+         * @return estimated size, in bytes
+         */
+        public long size() {
+            return body.length + documentSize;
+        }
+
+        // about 160 bytes a node, and 2 a character of its text or attributes, as measured on the test pages
+        private static long estimateSize(Document document) {
+            final long[] size = {0};
+            document.traverse(new NodeVisitor() {
+                public void head(Node node, int depth) {
+                    long chars = 0;
+                    if (node instanceof TextNode)
+                        chars = ((TextNode) node).getWholeText().length();
+                    else if (node instanceof DataNode)
+                        chars = ((DataNode) node).getWholeData().length();
+                    else if (node instanceof Comment)
+                        chars = ((Comment) node).getData().length();
+                    for (Attribute attribute : node.attributes())
+                        chars += attribute.getKey().length() + attribute.getValue().length();
+                    size[0] += 160 + 2 * chars;
+                }
+
+                public void tail(Node node, int depth) {
+                }
+            });
+            return size[0];
+        }
+    }
+}
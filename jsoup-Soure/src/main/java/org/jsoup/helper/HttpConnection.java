@@ -6,6 +6,7 @@ import org.jsoup.UnsupportedMimeTypeException;
 import org.jsoup.nodes.Document;
 import org.jsoup.parser.Parser;
 import org.jsoup.parser.TokenQueue;
+import org.jsoup.parser.XmlTreeBuilder;
 
 import java.io.*;
 import java.net.HttpURLConnection;
@@ -15,7 +16,11 @@ import java.net.URLEncoder;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 /**
  * Implementation of {@link Connection}.
@@ -34,8 +39,11 @@ public class HttpConnection implements Connection {
         return con;
     }
 
+    private static final int ASYNC_THREADS = 8;
+
     private Connection.Request req;
     private Connection.Response res;
+    private Executor executor;
 
 	private HttpConnection() {
         req = new Request();
@@ -99,6 +107,16 @@ public class HttpConnection implements Connection {
         return this;
     }
 
+    public Connection keepAlive(boolean keepAlive) {
+        req.keepAlive(keepAlive);
+        return this;
+    }
+
+    public Connection cache(HttpCache cache) {
+        req.cache(cache);
+        return this;
+    }
+
     public Connection data(String key, String value) {
         req.data(KeyVal.create(key, value));
         return this;
@@ -158,13 +176,18 @@ public class HttpConnection implements Connection {
 
     public Document get() throws IOException {
         req.method(Method.GET);
-        execute();
+        res = fetch(req);
         return res.parse();
     }
 
+    private static Response fetch(Connection.Request req) throws IOException {
+        // a cached response needs its body kept, so isn't streamed
+        return req.cache() != null ? Response.execute(req) : Response.executeStreamed(req);
+    }
+
     public Document post() throws IOException {
         req.method(Method.POST);
-        execute();
+        res = Response.executeStreamed(req);
         return res.parse();
     }
 
@@ -173,6 +196,51 @@ public class HttpConnection implements Connection {
         return res;
     }
 
+    public Connection executor(Executor executor) {
+        Validate.notNull(executor, "Executor must not be null");
+        this.executor = executor;
+        return this;
+    }
+
+    public Future<Connection.Response> executeAsync() {
+        final Connection.Request request = Request.copyOf(req); // so the task and the caller don't share one
+        FutureTask<Connection.Response> task = new FutureTask<Connection.Response>(new Callable<Connection.Response>() {
+            public Connection.Response call() throws IOException {
+                return Response.execute(request);
+            }
+        });
+        executor().execute(task);
+        return task;
+    }
+
+    public Future<Document> getAsync() {
+        final Connection.Request request = Request.copyOf(req).method(Method.GET);
+        FutureTask<Document> task = new FutureTask<Document>(new Callable<Document>() {
+            public Document call() throws IOException {
+                return fetch(request).parse(); // parses on this thread as soon as the body is in
+            }
+        });
+        executor().execute(task);
+        return task;
+    }
+
+    private Executor executor() {
+        return executor != null ? executor : AsyncPool.executor;
+    }
+
+    // the default executor for async requests, created on first use
+    private static final class AsyncPool {
+        static final Executor executor = Executors.newFixedThreadPool(ASYNC_THREADS, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "jsoup-async-" + count.incrementAndGet());
+                thread.setDaemon(true); // don't hold up exit
+                return thread;
+            }
+        });
+    }
+
     public Connection.Request request() {
         return req;
     }
@@ -311,6 +379,8 @@ public class HttpConnection implements Connection {
         private Collection<Connection.KeyVal> data;
         private boolean ignoreHttpErrors = false;
         private boolean ignoreContentType = false;
+        private boolean keepAlive = false;
+        private HttpCache cache;
         private Parser parser;
 
       	private Request() {
@@ -319,7 +389,7 @@ public class HttpConnection implements Connection {
             followRedirects = true;
             data = new ArrayList<Connection.KeyVal>();
             method = Connection.Method.GET;
-            headers.put("Accept-Encoding", "gzip");
+            headers.put("Accept-Encoding", "gzip, deflate");
             parser = Parser.htmlParser();
         }
 
@@ -370,6 +440,24 @@ public class HttpConnection implements Connection {
             return this;
         }
 
+        public boolean keepAlive() {
+            return keepAlive;
+        }
+
+        public Connection.Request keepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public HttpCache cache() {
+            return cache;
+        }
+
+        public Connection.Request cache(HttpCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
         public Request data(Connection.KeyVal keyval) {
             Validate.notNull(keyval, "Key val must not be null");
             data.add(keyval);
@@ -388,10 +476,31 @@ public class HttpConnection implements Connection {
         public Parser parser() {
             return parser;
         }
+
+        // a copy of a request's settings, to run in the background without sharing any state with its connection
+        static Request copyOf(Connection.Request from) {
+            Request copy = new Request();
+            copy.url = from.url();
+            copy.method = from.method();
+            copy.headers.clear();
+            copy.headers.putAll(from.headers());
+            copy.cookies.putAll(from.cookies());
+            copy.timeoutMilliseconds = from.timeout();
+            copy.maxBodySizeBytes = from.maxBodySize();
+            copy.followRedirects = from.followRedirects();
+            copy.data.addAll(from.data());
+            copy.ignoreHttpErrors = from.ignoreHttpErrors();
+            copy.ignoreContentType = from.ignoreContentType();
+            copy.keepAlive = from.keepAlive();
+            copy.cache = from.cache();
+            copy.parser = from.parser().newInstance();
+            return copy;
+        }
     }
 
     public static class Response extends Base<Connection.Response> implements Connection.Response {
         private static final int MAX_REDIRECTS = 20;
+        private static final int MAX_DRAIN_BYTES = 64 * 1024; // left unread beyond this, a connection isn't worth keeping
         private int statusCode;
         private String statusMessage;
         private ByteBuffer byteData;
@@ -400,6 +509,11 @@ public class HttpConnection implements Connection {
         private boolean executed = false;
         private int numRedirects = 0;
         private Connection.Request req;
+        // when executed to be streamed into the parser: the body, not yet read, and its connection
+        private HttpURLConnection conn;
+        private InputStream dataStream;
+        private InputStream bodyStream;
+        private HttpCache.Entry cacheEntry; // the cache entry that holds this response, if any
 
         Response() {
             super();
@@ -415,10 +529,17 @@ public class HttpConnection implements Connection {
         }
         
         static Response execute(Connection.Request req) throws IOException {
-            return execute(req, null);
+            return execute(req, null, false);
+        }
+
+        /**
+         * Execute the request, but leave the body unread, for {@link #parse()} to parse as it is read off the connection.
+         */
+        static Response executeStreamed(Connection.Request req) throws IOException {
+            return execute(req, null, true);
         }
 
-        static Response execute(Connection.Request req, Response previousResponse) throws IOException {
+        static Response execute(Connection.Request req, Response previousResponse, boolean stream) throws IOException {
             Validate.notNull(req, "Request must not be null");
             String protocol = req.url().getProtocol();
             if (!protocol.equals("http") && !protocol.equals("https"))
@@ -427,14 +548,34 @@ public class HttpConnection implements Connection {
             // set up the request for execution
             if (req.method() == Connection.Method.GET && req.data().size() > 0)
                 serialiseRequestUrl(req); // appends query string
+            HttpCache cache = req.method() == Method.GET ? req.cache() : null;
+            HttpCache.Entry cached = cache != null ? cache.get(req.url().toExternalForm()) : null;
             HttpURLConnection conn = createConnection(req);
+            if (cached != null) { // ask for 304 Not Modified if the cached response is still current
+                if (cached.etag() != null && !req.hasHeader("If-None-Match"))
+                    conn.setRequestProperty("If-None-Match", cached.etag());
+                if (cached.lastModified() != null && !req.hasHeader("If-Modified-Since"))
+                    conn.setRequestProperty("If-Modified-Since", cached.lastModified());
+            }
             Response res;
+            boolean reusable = false; // set once the body has been read to the end, if keeping alive
+            boolean streaming = false; // set once the open connection is handed to the response
             try {
                 conn.connect();
                 if (req.method() == Connection.Method.POST)
                     writePost(req.data(), conn.getOutputStream());
 
                 int status = conn.getResponseCode();
+                if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                    res = new Response(previousResponse);
+                    res.setupFromConnection(conn, previousResponse);
+                    res.setupFromCache(cached);
+                    res.req = req;
+                    if (req.keepAlive())
+                        reusable = discardBody(conn);
+                    res.executed = true;
+                    return res;
+                }
                 boolean needsRedirect = false;
                 if (status != HttpURLConnection.HTTP_OK) {
                     if (status == HttpURLConnection.HTTP_MOVED_TEMP || status == HttpURLConnection.HTTP_MOVED_PERM || status == HttpURLConnection.HTTP_SEE_OTHER)
@@ -445,13 +586,15 @@ public class HttpConnection implements Connection {
                 res = new Response(previousResponse);
                 res.setupFromConnection(conn, previousResponse);
                 if (needsRedirect && req.followRedirects()) {
+                    if (req.keepAlive())
+                        reusable = discardBody(conn);
                     req.method(Method.GET); // always redirect with a get. any data param from original req are dropped.
                     req.data().clear();
                     req.url(new URL(req.url(), res.header("Location")));
                     for (Map.Entry<String, String> cookie : res.cookies.entrySet()) { // add response cookies to request (for e.g. login posts)
                         req.cookie(cookie.getKey(), cookie.getValue());
                     }
-                    return execute(req, res);
+                    return execute(req, res, stream);
                 }
                 res.req = req;
 
@@ -465,20 +608,37 @@ public class HttpConnection implements Connection {
                 InputStream dataStream = null;
                 try {
                     dataStream = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream();
-                    bodyStream = res.hasHeader("Content-Encoding") && res.header("Content-Encoding").equalsIgnoreCase("gzip") ?
-                            new BufferedInputStream(new GZIPInputStream(dataStream)) :
-                            new BufferedInputStream(dataStream);
-
-                    res.byteData = DataUtil.readToByteBuffer(bodyStream, req.maxBodySize());
+                    String encoding = res.header("Content-Encoding");
+                    boolean compressed = encoding != null && !encoding.trim().equalsIgnoreCase("identity");
+                    bodyStream = new BufferedInputStream(decode(dataStream, encoding));
                     res.charset = DataUtil.getCharsetFromContentType(res.contentType); // may be null, readInputStream deals with it
+
+                    if (stream) { // hand the open streams and connection to parse(), which closes them
+                        res.conn = conn;
+                        res.dataStream = dataStream;
+                        res.bodyStream = bodyStream;
+                        res.executed = true;
+                        streaming = true;
+                        return res;
+                    }
+                    // the Content-Length, unless compressed, sizes the body buffer exactly
+                    res.byteData = DataUtil.readToByteBuffer(bodyStream, req.maxBodySize(), compressed ? -1 : conn.getContentLength());
+                    if (req.keepAlive())
+                        reusable = drain(bodyStream) && drain(dataStream);
+                    if (cache != null && status == HttpURLConnection.HTTP_OK)
+                        res.store(cache);
                 } finally {
-                    if (bodyStream != null) bodyStream.close();
-                    if (dataStream != null) dataStream.close();
+                    if (!streaming) {
+                        if (bodyStream != null) bodyStream.close();
+                        if (dataStream != null) dataStream.close();
+                    }
                 }
             } finally {
                 // per Java's documentation, this is not necessary, and precludes keepalives. However in practise,
                 // connection errors will not be released quickly enough and can cause a too many open files error.
-                conn.disconnect();
+                // So only a connection that was read cleanly to the end is left for the keep-alive cache to reuse.
+                if (!reusable && !streaming)
+                    conn.disconnect();
             }
 
             res.executed = true;
@@ -503,14 +663,28 @@ public class HttpConnection implements Connection {
 
         public Document parse() throws IOException {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before parsing response");
+            if (bodyStream != null)
+                return parseStream();
+            Validate.isTrue(byteData != null, "Response body was parsed as it was read, so is not retained. Use .execute() then .parse() to keep it");
+            // cached documents are from the html parser; xml, or tracking errors, parses afresh
+            boolean cacheDocument = cacheEntry != null && !(req.parser().getTreeBuilder() instanceof XmlTreeBuilder)
+                && !req.parser().isTrackErrors();
+            if (cacheDocument && cacheEntry.document() != null) {
+                Document doc = cacheEntry.document().clone();
+                charset = doc.outputSettings().charset().name();
+                return doc;
+            }
             Document doc = DataUtil.parseByteData(byteData, charset, url.toExternalForm(), req.parser());
             byteData.rewind();
             charset = doc.outputSettings().charset().name(); // update charset from meta-equiv, possibly
+            if (cacheDocument)
+                cacheEntry.document(doc.clone());
             return doc;
         }
 
         public String body() {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before getting response body");
+            Validate.isTrue(byteData != null, "Response body was parsed as it was read, so is not retained. Use .execute() then .parse() to keep it");
             // charset gets set from header on execute, and from meta-equiv on parse. parse may not have happened yet
             String body;
             if (charset == null)
@@ -523,9 +697,134 @@ public class HttpConnection implements Connection {
 
         public byte[] bodyAsBytes() {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before getting response body");
+            Validate.isTrue(byteData != null, "Response body was parsed as it was read, so is not retained. Use .execute() then .parse() to keep it");
             return byteData.array();
         }
 
+        // parses the body as it comes off the connection. If the charset is not in the header nor found by a prescan
+        // of the first bytes, the body is read in full first, as the charset may be in a later meta tag.
+        private Document parseStream() throws IOException {
+            InputStream in = req.maxBodySize() > 0 ? new MaxSizeInputStream(bodyStream, req.maxBodySize()) : bodyStream;
+            boolean reusable = false;
+            try {
+                Document doc = DataUtil.parseInputStream(in, charset, url.toExternalForm(), req.parser());
+                charset = doc.outputSettings().charset().name(); // update charset from meta-equiv, possibly
+                if (req.keepAlive())
+                    reusable = drain(bodyStream) && drain(dataStream);
+                return doc;
+            } finally {
+                bodyStream.close();
+                dataStream.close();
+                if (!reusable)
+                    conn.disconnect();
+                bodyStream = null;
+                dataStream = null;
+                conn = null;
+            }
+        }
+
+        // reads and discards what is left of the stream, so its connection can be reused. false if there's too much.
+        private static boolean drain(InputStream in) throws IOException {
+            byte[] buffer = new byte[4096];
+            int remaining = MAX_DRAIN_BYTES;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                remaining -= read;
+                if (remaining < 0)
+                    return false;
+            }
+            return true;
+        }
+
+        // wraps the body in a decoder for its Content-Encoding, which inflates as it is read. Unknown encodings pass through.
+        private static InputStream decode(InputStream in, String encoding) throws IOException {
+            if (encoding == null)
+                return in;
+            encoding = encoding.trim().toLowerCase(Locale.ENGLISH);
+            boolean gzip = encoding.equals("gzip") || encoding.equals("x-gzip");
+            if (!gzip && !encoding.equals("deflate"))
+                return in;
+
+            in = new BufferedInputStream(in, 8192);
+            in.mark(2);
+            int cmf = in.read();
+            int flg = in.read();
+            in.reset();
+            if (cmf == -1) // empty, as a HEAD or 204 reply
+                return in;
+            if (gzip)
+                return new GZIPInputStream(in, 8192);
+            // deflate should be zlib wrapped, but some servers send the raw deflate data: only zlib has this header
+            boolean zlib = (cmf & 0x0F) == 8 && flg != -1 && ((cmf << 8) | flg) % 31 == 0;
+            return new InflatingInputStream(in, new Inflater(!zlib));
+        }
+
+        // frees its inflater on close, which InflaterInputStream doesn't do for one it was given
+        private static class InflatingInputStream extends InflaterInputStream {
+            InflatingInputStream(InputStream in, Inflater inflater) {
+                super(in, inflater, 8192);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        }
+
+        // ends the stream after max bytes, as readToByteBuffer does when capped
+        private static class MaxSizeInputStream extends FilterInputStream {
+            private int remaining;
+
+            MaxSizeInputStream(InputStream in, int max) {
+                super(in);
+                remaining = max;
+            }
+
+            @Override
+            public int read() throws IOException {
+                if (remaining <= 0)
+                    return -1;
+                int b = super.read();
+                if (b != -1)
+                    remaining--;
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (remaining <= 0)
+                    return -1;
+                int read = super.read(b, off, Math.min(len, remaining));
+                if (read > 0)
+                    remaining -= read;
+                return read;
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false; // a reset would undo the count
+            }
+
+            @Override
+            public void close() {
+                // the underlying stream is closed by its owner
+            }
+        }
+
+        // discards the body of a response that isn't used (a redirect), so its connection can be reused
+        private static boolean discardBody(HttpURLConnection conn) throws IOException {
+            InputStream in = conn.getErrorStream() != null ? conn.getErrorStream() : conn.getInputStream();
+            try {
+                return drain(in);
+            } finally {
+                in.close();
+            }
+        }
+
         // set up connection defaults, and details from request
         private static HttpURLConnection createConnection(Connection.Request req) throws IOException {
             HttpURLConnection conn = (HttpURLConnection) req.url().openConnection();
@@ -543,6 +842,34 @@ public class HttpConnection implements Connection {
             return conn;
         }
 
+        // answer a 304 from the cached response: its content, with the headers of the 304
+        private void setupFromCache(HttpCache.Entry cached) {
+            statusCode = HttpURLConnection.HTTP_OK;
+            statusMessage = "OK";
+            contentType = cached.contentType();
+            if (contentType != null)
+                header("Content-Type", contentType);
+            charset = DataUtil.getCharsetFromContentType(contentType);
+            byteData = ByteBuffer.wrap(cached.body());
+            cacheEntry = cached;
+        }
+
+        // store this response in the cache, if it can be revalidated; else make sure a stale copy isn't used
+        private void store(HttpCache cache) {
+            String key = url.toExternalForm();
+            String etag = header("ETag");
+            String lastModified = header("Last-Modified");
+            String cacheControl = header("Cache-Control");
+            boolean noStore = cacheControl != null && cacheControl.toLowerCase(Locale.ENGLISH).contains("no-store");
+            boolean truncated = req.maxBodySize() > 0 && byteData.remaining() >= req.maxBodySize();
+            if ((etag == null && lastModified == null) || noStore || truncated) {
+                cache.remove(key);
+                return;
+            }
+            cacheEntry = new HttpCache.Entry(key, etag, lastModified, contentType, byteData.array().clone());
+            cache.put(cacheEntry);
+        }
+
         // set up url, method, header, cookies
         private void setupFromConnection(HttpURLConnection conn, Connection.Response previousResponse) throws IOException {
             method = Connection.Method.valueOf(conn.getRequestMethod());
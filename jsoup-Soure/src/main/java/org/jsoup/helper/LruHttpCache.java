@@ -0,0 +1,269 @@
+package org.jsoup.helper;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * An {@link HttpCache} that holds recently used entries in memory, and optionally more on disk, evicting the least
+ * recently used when a tier is over its size: in memory, the {@link HttpCache.Entry#size() estimated size} of the
+ * bodies and of the documents parsed from them; on disk, the bytes of the files. Entries dropped from memory stay on
+ * disk, and are brought back into memory when used again; parsed documents are only kept in memory. The disk tier
+ * survives restarts.
+ * <pre>
+ * HttpCache cache = new LruHttpCache(4 * 1024 * 1024).directory(new File(cacheDir, "jsoup"), 32 * 1024 * 1024);
+ * Document doc = Jsoup.connect(url).cache(cache).get();
+ * </pre>
+ */
+public class LruHttpCache implements HttpCache {
+    private static final int version = 1;
+    private static final String suffix = ".cache";
+    private static final String tempPrefix = "entry", tempSuffix = ".tmp";
+
+    private final long maxMemoryBytes;
+    private long memoryBytes = 0;
+    private final LinkedHashMap<String, Counted> memory = new LinkedHashMap<String, Counted>(16, 0.75f, true);
+
+    private File directory;
+    private long maxDiskBytes;
+    private long diskBytes = 0;
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<String, Long>(16, 0.75f, true); // file name: size
+
+    /**
+     * Create a memory only cache.
+     * @param maxMemoryBytes most bytes of entries, as estimated by {@link HttpCache.Entry#size()}, to hold in memory
+     */
+    public LruHttpCache(long maxMemoryBytes) {
+        Validate.isTrue(maxMemoryBytes >= 0, "Max memory bytes must be 0 or more");
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * Also keep entries on disk, in a directory of their own. Entries already there from before are used, and files
+     * left part written by an earlier run are removed.
+     * @param directory directory to store entries in; created if missing
+     * @param maxDiskBytes most bytes of files to hold on disk
+     * @return this cache, for chaining
+     * @throws IOException if the directory can't be created
+     */
+    public synchronized LruHttpCache directory(File directory, long maxDiskBytes) throws IOException {
+        Validate.notNull(directory, "Directory must not be null");
+        Validate.isTrue(maxDiskBytes > 0, "Max disk bytes must be more than 0");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Could not create cache directory " + directory);
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+
+        File[] temps = directory.listFiles(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return name.startsWith(tempPrefix) && name.endsWith(tempSuffix);
+            }
+        });
+        for (File temp : temps)
+            temp.delete();
+
+        File[] files = directory.listFiles(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return name.endsWith(suffix);
+            }
+        });
+        Arrays.sort(files, new Comparator<File>() { // oldest use first, as last modified is touched on use
+            public int compare(File a, File b) {
+                return a.lastModified() < b.lastModified() ? -1 : a.lastModified() > b.lastModified() ? 1 : 0;
+            }
+        });
+        disk.clear();
+        diskBytes = 0;
+        for (File file : files) {
+            disk.put(file.getName(), file.length());
+            diskBytes += file.length();
+        }
+        trimDisk();
+        return this;
+    }
+
+    public Entry get(String url) {
+        File file;
+        synchronized (this) {
+            Counted counted = memory.get(url);
+            Entry entry = counted != null ? counted.entry : null;
+            if (counted != null && counted.size != entry.size())
+                putMemory(entry); // its document, kept since it was put, is counted now
+            if (directory == null)
+                return entry;
+            String name = fileName(url);
+            boolean onDisk = disk.get(name) != null; // also marks it used there
+            if (entry != null || !onDisk)
+                return entry;
+            file = new File(directory, name);
+        }
+
+        Entry entry;
+        try {
+            entry = read(file);
+        } catch (IOException e) {
+            entry = null; // unreadable, or evicted meanwhile
+        }
+        synchronized (this) {
+            if (entry == null || !entry.url().equals(url)) // or another url with the same hash
+                return null;
+            file.setLastModified(System.currentTimeMillis());
+            putMemory(entry);
+        }
+        return entry;
+    }
+
+    public void put(Entry entry) {
+        Validate.notNull(entry, "Entry must not be null");
+        File dir;
+        synchronized (this) {
+            putMemory(entry);
+            dir = directory;
+        }
+        if (dir == null)
+            return;
+
+        String name = fileName(entry.url());
+        File file = new File(dir, name);
+        try {
+            File temp = File.createTempFile(tempPrefix, tempSuffix, dir);
+            boolean renamed = false;
+            try {
+                write(entry, temp);
+                synchronized (this) {
+                    if (file.exists() && !file.delete())
+                        return;
+                    if (!temp.renameTo(file))
+                        return;
+                    renamed = true;
+                    Long old = disk.put(name, file.length());
+                    if (old != null)
+                        diskBytes -= old;
+                    diskBytes += file.length();
+                    trimDisk();
+                }
+            } finally {
+                if (!renamed)
+                    temp.delete();
+            }
+        } catch (IOException e) {
+            // an entry that can't be written to disk is just not cached there
+        }
+    }
+
+    public synchronized void remove(String url) {
+        Counted counted = memory.remove(url);
+        if (counted != null)
+            memoryBytes -= counted.size;
+        if (directory != null) {
+            String name = fileName(url);
+            Long size = disk.remove(name);
+            if (size != null) {
+                diskBytes -= size;
+                new File(directory, name).delete();
+            }
+        }
+    }
+
+    // the two methods below are called holding the lock
+
+    private void putMemory(Entry entry) {
+        Counted old = memory.remove(entry.url());
+        if (old != null)
+            memoryBytes -= old.size;
+        long size = entry.size();
+        if (size > maxMemoryBytes)
+            return;
+        memory.put(entry.url(), new Counted(entry, size));
+        memoryBytes += size;
+        for (Counted counted : memory.values()) { // documents kept since their entries were put
+            long now = counted.entry.size();
+            memoryBytes += now - counted.size;
+            counted.size = now;
+        }
+        Iterator<Counted> it = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes) {
+            memoryBytes -= it.next().size;
+            it.remove();
+        }
+    }
+
+    private void trimDisk() {
+        Iterator<Map.Entry<String, Long>> it = disk.entrySet().iterator();
+        while (diskBytes > maxDiskBytes) {
+            Map.Entry<String, Long> eldest = it.next();
+            diskBytes -= eldest.getValue();
+            new File(directory, eldest.getKey()).delete();
+            it.remove();
+        }
+    }
+
+    // an entry in memory, with the size it was counted at, as its document may be kept after it is put
+    private static final class Counted {
+        final Entry entry;
+        long size;
+
+        Counted(Entry entry, long size) {
+            this.entry = entry;
+            this.size = size;
+        }
+    }
+
+    private static void write(Entry entry, File file) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeInt(version);
+            out.writeUTF(entry.url());
+            writeNullable(out, entry.etag());
+            writeNullable(out, entry.lastModified());
+            writeNullable(out, entry.contentType());
+            out.writeInt(entry.body().length);
+            out.write(entry.body());
+        } finally {
+            out.close();
+        }
+    }
+
+    private static Entry read(File file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            if (in.readInt() != version)
+                return null;
+            String url = in.readUTF();
+            String etag = readNullable(in);
+            String lastModified = readNullable(in);
+            String contentType = readNullable(in);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new Entry(url, etag, lastModified, contentType, body);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static String fileName(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(url.getBytes("UTF-8"));
+            StringBuilder name = new StringBuilder(hash.length * 2 + suffix.length());
+            for (byte b : hash) {
+                name.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return name.append(suffix).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.jsoup.helper;
 
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -138,4 +140,55 @@ public final class StringUtil {
         }
         return false;
     }
+
+    /**
+     * Test if a whitespace separated list, such as a class attribute, holds a token, ignoring case. The list is split
+     * as {@code split("\\s+")} would, without making the pieces.
+     * @param tokens the list
+     * @param token token to look for
+     * @return true if one of the tokens equals the token, ignoring case
+     */
+    public static boolean containsToken(String tokens, String token) {
+        int length = tokens.length();
+        for (int start = 0; start < length; ) {
+            int stop = start;
+            while (stop < length && !isSpace(tokens.charAt(stop)))
+                stop++;
+            if (stop - start == token.length() && tokens.regionMatches(true, start, token, 0, stop - start))
+                return true;
+            start = stop + 1;
+        }
+        return false;
+    }
+
+    // whitespace as the regex \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Resolve a possibly relative URL against a base URI, as {@link org.jsoup.nodes.Node#absUrl(String)} does.
+     * @param baseUri base URI; if it isn't a valid URL, the relative URL is used only if it is absolute itself
+     * @param relUrl URL to resolve
+     * @return the absolute URL, or an empty string if one can't be made
+     */
+    public static String resolve(String baseUri, String relUrl) {
+        URL base;
+        try {
+            try {
+                base = new URL(baseUri);
+            } catch (MalformedURLException e) {
+                // the base is unsuitable, but the attribute may be abs on its own, so try that
+                URL abs = new URL(relUrl);
+                return abs.toExternalForm();
+            }
+            // workaround: java resolves '//path/file + ?foo' to '//path/?foo', not '//path/file?foo' as desired
+            if (relUrl.startsWith("?"))
+                relUrl = base.getPath() + relUrl;
+            URL abs = new URL(base, relUrl);
+            return abs.toExternalForm();
+        } catch (MalformedURLException e) {
+            return "";
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package org.jsoup.helper;
+
+import java.io.IOException;
+
+/**
+ * Carries an IOException out through an interface that can't throw it, such as a
+ * {@link org.jsoup.select.NodeVisitor}, or the parser reading its input. Caught where the call began, and its cause
+ * rethrown.
+ */
+public final class UncheckedIOException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedIOException(IOException cause) {
+        super(cause);
+    }
+
+    @Override
+    public IOException getCause() {
+        return (IOException) super.getCause();
+    }
+}
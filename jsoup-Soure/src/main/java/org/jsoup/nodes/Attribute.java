@@ -2,6 +2,7 @@ package org.jsoup.nodes;
 
 import org.jsoup.helper.Validate;
 
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -69,12 +70,12 @@ public class Attribute implements Map.Entry<String, String>, Cloneable  {
         return key + "=\"" + Entities.escape(value, (new Document("")).outputSettings()) + "\"";
     }
 
-    protected void html(StringBuilder accum, Document.OutputSettings out) {
+    protected void html(Appendable accum, Document.OutputSettings out) throws IOException {
         accum
                 .append(key)
-                .append("=\"")
-                .append(Entities.escape(value, out))
-                .append("\"");
+                .append("=\"");
+        Entities.escape(accum, value, out);
+        accum.append('"');
     }
 
     /**
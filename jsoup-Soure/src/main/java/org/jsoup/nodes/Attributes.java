@@ -2,6 +2,7 @@ package org.jsoup.nodes;
 
 import org.jsoup.helper.Validate;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -132,17 +133,21 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
      */
     public String html() {
         StringBuilder accum = new StringBuilder();
-        html(accum, (new Document("")).outputSettings()); // 输出设置有点臭，但很少使用这个 html()
+        try {
+            html(accum, (new Document("")).outputSettings()); // 输出设置有点臭，但很少使用这个 html()
+        } catch (IOException e) {
+            throw new RuntimeException(e); // StringBuilder 不会抛出
+        }
         return accum.toString();
     }
 
-    void html(StringBuilder accum, Document.OutputSettings out) {
+    void html(Appendable accum, Document.OutputSettings out) throws IOException {
         if (attributes == null)
             return;
 
         for (Map.Entry<String, Attribute> entry : attributes.entrySet()) {
             Attribute attribute = entry.getValue();
-            accum.append(" ");
+            accum.append(' ');
             attribute.html(accum, out);
         }
     }
@@ -187,11 +192,6 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
 
     private class Dataset extends AbstractMap<String, String> {
 
-        private Dataset() {
-            if (attributes == null)
-                attributes = new LinkedHashMap<String, Attribute>(2);
-        }
-
         public Set<Entry<String, String>> entrySet() {
             return new EntrySet();
         }
@@ -201,6 +201,8 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
             String dataKey = dataKey(key);
             String oldValue = hasKey(dataKey) ? attributes.get(dataKey).getValue() : null;
             Attribute attr = new Attribute(dataKey, value);
+            if (attributes == null)
+                attributes = new LinkedHashMap<String, Attribute>(2); // made on the first put, so reads change nothing
             attributes.put(dataKey, attr);
             return oldValue;
         }
@@ -220,7 +222,8 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
         }
 
         private class DatasetIterator implements Iterator<Entry<String, String>> {
-            private Iterator<Attribute> attrIter = attributes.values().iterator();
+            private Iterator<Attribute> attrIter = attributes == null ?
+                    Collections.<Attribute>emptyList().iterator() : attributes.values().iterator();
             private Attribute attr;
             public boolean hasNext() {
                 while (attrIter.hasNext()) {
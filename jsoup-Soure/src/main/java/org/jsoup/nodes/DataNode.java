@@ -1,5 +1,7 @@
 package org.jsoup.nodes;
 
+import java.io.IOException;
+
 /**
  一个数据节点的样式的内容，编写脚本标记等，内容不应该显示在 text ()。
 
@@ -39,11 +41,11 @@ public class DataNode extends Node{
         return this;
     }
 
-    void outerHtmlHead(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlHead(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
         accum.append(getWholeData()); // 数据没有逃过回报从数据节点，所以"在脚本中，样式是平原
     }
 
-    void outerHtmlTail(StringBuilder accum, int depth, Document.OutputSettings out) {}
+    void outerHtmlTail(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {}
 
     public String toString() {
         return outerHtml();
@@ -4,14 +4,22 @@ import org.jsoup.helper.StringUtil;
 import org.jsoup.helper.Validate;
 import org.jsoup.parser.Tag;
 import org.jsoup.select.Elements;
+import org.jsoup.select.FrozenDocument;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetEncoder;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  A HTML Document.
+ <p/>
+ Documents are not synchronized, but reading one changes nothing in it. So a document can be read (selected from,
+ traversed, and output) from many threads at once, as long as none of them changes it while it is read.
 
  @author Jonathan Hedley, jonathan@hedley.net */
 public class Document extends Element {
@@ -180,6 +188,38 @@ public class Document extends Element {
         return super.html(); // no outer wrapper tag
     }
 
+    @Override
+    void outerHtml(HtmlAccumulator accum, OutputSettings out) throws IOException {
+        html(new HtmlAccumulator(accum, true), out); // no outer wrapper tag
+    }
+
+    /**
+     Write this document's HTML to an output stream, encoded in the charset of the supplied output settings. The HTML is
+     the same as {@link #outerHtml()} would give with those settings, but is encoded and written as it is serialised,
+     rather than built as a string and then converted to bytes. The stream is flushed but not closed.
+     @param outStream stream to write to
+     @param settings output settings (charset, escape mode, pretty printing) to serialise with
+     @throws IOException if the stream throws
+     */
+    public void writeTo(OutputStream outStream, OutputSettings settings) throws IOException {
+        Validate.notNull(outStream);
+        Validate.notNull(settings);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outStream, settings.charset()));
+        outerHtml(new HtmlAccumulator(writer, false), settings);
+        writer.flush();
+    }
+
+    /**
+     Write this document's HTML to an output stream, using the document's own output settings.
+     @param outStream stream to write to
+     @throws IOException if the stream throws
+     @see #writeTo(OutputStream, OutputSettings)
+     */
+    public void writeTo(OutputStream outStream) throws IOException {
+        writeTo(outStream, outputSettings);
+    }
+
     /**
      Set the text of the {@code body} of this document. Any existing nodes within the body will be cleared.
      @param text unencoded text
@@ -196,9 +236,23 @@ public class Document extends Element {
         return "#document";
     }
 
+    /**
+     * Make a read-only snapshot of this document, for querying. The snapshot is much smaller than the document, and
+     * can be queried from many threads at once. Later changes to this document are not seen by it.
+     * @return a frozen copy of this document
+     */
+    public FrozenDocument freeze() {
+        return new FrozenDocument(this);
+    }
+
     @Override
     public Document clone() {
-        Document clone = (Document) super.clone();
+        return (Document) super.clone();
+    }
+
+    @Override
+    Document shallowClone(Node parent) {
+        Document clone = (Document) super.shallowClone(parent);
         clone.outputSettings = this.outputSettings.clone();
         return clone;
     }
@@ -209,7 +263,7 @@ public class Document extends Element {
     public static class OutputSettings implements Cloneable {
         private Entities.EscapeMode escapeMode = Entities.EscapeMode.base;
         private Charset charset = Charset.forName("UTF-8");
-        private CharsetEncoder charsetEncoder = charset.newEncoder();
+        private Entities.EscapeTable escapeTable; // 按 escapeMode 和 charset 查找，使用时才获取
         private boolean prettyPrint = true;
         private boolean outline = false;
         private int indentAmount = 1;
@@ -235,6 +289,7 @@ public class Document extends Element {
          */
         public OutputSettings escapeMode(Entities.EscapeMode escapeMode) {
             this.escapeMode = escapeMode;
+            escapeTable = null;
             return this;
         }
 
@@ -258,7 +313,7 @@ public class Document extends Element {
         public OutputSettings charset(Charset charset) {
             // todo: this should probably update the doc's meta charset
             this.charset = charset;
-            charsetEncoder = charset.newEncoder();
+            escapeTable = null;
             return this;
         }
 
@@ -272,8 +327,11 @@ public class Document extends Element {
             return this;
         }
 
-        CharsetEncoder encoder() {
-            return charsetEncoder;
+        Entities.EscapeTable escapeTable() {
+            // a benign race when outputting from many threads: tables are shared and their own fields are final
+            if (escapeTable == null)
+                escapeTable = Entities.EscapeTable.get(escapeMode, charset);
+            return escapeTable;
         }
 
         /**
@@ -342,7 +400,7 @@ public class Document extends Element {
                 throw new RuntimeException(e);
             }
             clone.charset(charset.name()); // 新的字符集和编码字符集
-            clone.escapeMode = Entities.EscapeMode.valueOf(escapeMode.name());
+            clone.escapeMode(Entities.EscapeMode.valueOf(escapeMode.name()));
             // indentAmount，prettyPrint 是基元，因此 object.clone() 将处理
             return clone;
         }
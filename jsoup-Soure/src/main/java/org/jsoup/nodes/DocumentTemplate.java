@@ -0,0 +1,37 @@
+package org.jsoup.nodes;
+
+import org.jsoup.helper.Validate;
+
+/**
+ * A template to make many copies of a document from, each cheaply. Where {@link Document#clone()} copies every node up
+ * front, a copy from a template copies only the document node; the children of each node are copied from the
+ * template's when they are first reached. So a copy that only has a few elements changed before it is output costs
+ * little more than the nodes on the paths to them (and their siblings).
+ * <p/>
+ * The template keeps its own copy of the document, which can't be reached or changed, so later changes to the source
+ * document, or to any copy, don't show in other copies. A template can be used from many threads at once; each copy
+ * is a document like any other, which many threads can read at once, but which must not be changed while it is read.
+ * <p/>
+ * E.g.: <code>DocumentTemplate page = new DocumentTemplate(Jsoup.parse(html));</code>, then per request,
+ * <code>Document doc = page.newDocument(); doc.getElementById("user").text(name);</code>
+ */
+public final class DocumentTemplate {
+    private final Document template;
+
+    /**
+     * Make a template of a document.
+     * @param document document to copy; it is copied in full once, now, and can be changed after
+     */
+    public DocumentTemplate(Document document) {
+        Validate.notNull(document);
+        template = document.clone();
+    }
+
+    /**
+     * Make a new copy of the template's document.
+     * @return a new document, independent of the template and of its other copies
+     */
+    public Document newDocument() {
+        return (Document) template.lazyClone(null);
+    }
+}
@@ -3,6 +3,8 @@ package org.jsoup.nodes;
 import org.jsoup.helper.StringUtil;
 import org.jsoup.helper.Validate;
 
+import java.io.IOException;
+
 /**
  * A {@code <!DOCTYPE>} node.
  */
@@ -31,7 +33,7 @@ public class DocumentType extends Node {
     }
 
     @Override
-    void outerHtmlHead(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlHead(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
         accum.append("<!DOCTYPE ").append(attr("name"));
         if (!StringUtil.isBlank(attr("publicId")))
             accum.append(" PUBLIC \"").append(attr("publicId")).append("\"");
@@ -41,6 +43,6 @@ public class DocumentType extends Node {
     }
 
     @Override
-    void outerHtmlTail(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlTail(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
     }
 }
@@ -6,6 +6,7 @@ import org.jsoup.parser.Parser;
 import org.jsoup.parser.Tag;
 import org.jsoup.select.*;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -18,7 +19,6 @@ import java.util.regex.PatternSyntaxException;
  */
 public class Element extends Node {
     private Tag tag;
-    private Set<String> classNames;
 
     /**
      *创建一个新的、 独立的元素。(在这独立是没有父)。
@@ -776,25 +776,13 @@ public class Element extends Node {
      * @see #textNodes()
      */
     public String text() {
-        final StringBuilder accum = new StringBuilder();
-        new NodeTraversor(new NodeVisitor() {
-            public void head(Node node, int depth) {
-                if (node instanceof TextNode) {
-                    TextNode textNode = (TextNode) node;
-                    appendNormalisedText(accum, textNode);
-                } else if (node instanceof Element) {
-                    Element element = (Element) node;
-                    if (accum.length() > 0 &&
-                            (element.isBlock() || element.tag.getName().equals("br")) &&
-                            !TextNode.lastCharIsWhitespace(accum))
-                        accum.append(" ");
-                }
-            }
-
-            public void tail(Node node, int depth) {
-            }
-        }).traverse(this);
-        return accum.toString().trim();
+        StringBuilder accum = new StringBuilder();
+        try {
+            TextCollector.text(this, accum);
+        } catch (IOException e) {
+            throw new RuntimeException(e); // StringBuilder 不会抛出
+        }
+        return accum.toString();
     }
 
     /**
@@ -922,11 +910,8 @@ public class Element extends Node {
      * @return set of classnames, empty if no class attribute
      */
     public Set<String> classNames() {
-        if (classNames == null) {
-            String[] names = className().split("\\s+");
-            classNames = new LinkedHashSet<String>(Arrays.asList(names));
-        }
-        return classNames;
+        String[] names = className().split("\\s+");
+        return new LinkedHashSet<String>(Arrays.asList(names)); // a new set each time, so reads don't change the element
     }
 
     /**
@@ -946,12 +931,7 @@ public class Element extends Node {
      * @return true if it does, false if not
      */
     public boolean hasClass(String className) {
-        Set<String> classNames = classNames();
-        for (String name : classNames) {
-            if (className.equalsIgnoreCase(name))
-                return true;
-        }
-        return false;
+        return StringUtil.containsToken(className(), className);
     }
 
     /**
@@ -1026,7 +1006,7 @@ public class Element extends Node {
         return this;
     }
 
-    void outerHtmlHead(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlHead(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
         if (accum.length() > 0 && out.prettyPrint()
                 && (tag.formatAsBlock() || (parent() != null && parent().tag().formatAsBlock()) || out.outline()) )
             //换行并调整缩进
@@ -1042,7 +1022,7 @@ public class Element extends Node {
             accum.append(">");
     }
 
-    void outerHtmlTail(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlTail(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
         if (!(childNodes.isEmpty() && tag.isSelfClosing())) {
             if (out.prettyPrint() && (!childNodes.isEmpty() && (
                     tag.formatAsBlock() || (out.outline() && (childNodes.size()>1 || (childNodes.size()==1 && !(childNodes.get(0) instanceof TextNode))))
@@ -1062,13 +1042,28 @@ public class Element extends Node {
      */
     public String html() {
         StringBuilder accum = new StringBuilder();
-        html(accum);
-        return accum.toString().trim();
+        try {
+            html(new HtmlAccumulator(accum, true), getOutputSettings());
+        } catch (IOException e) {
+            throw new RuntimeException(e); // StringBuilder 不会抛出
+        }
+        return accum.toString();
+    }
+
+    /**
+     * 将元素的内部 HTML 直接写入 appendable，结果与 {@link #html()} 相同，但不先构建完整的字符串。
+     * @param accum appendable to write the HTML into
+     * @throws IOException if the appendable throws
+     * @see #html()
+     */
+    public void html(Appendable accum) throws IOException {
+        Validate.notNull(accum);
+        html(new HtmlAccumulator(accum, true), getOutputSettings());
     }
 
-    private void html(StringBuilder accum) {
+    void html(HtmlAccumulator accum, Document.OutputSettings out) throws IOException {
         for (Node node : childNodes)
-            node.outerHtml(accum);
+            node.outerHtml(accum, out);
     }
 
     /**
@@ -1102,8 +1097,6 @@ public class Element extends Node {
 
     @Override
     public Element clone() {
-        Element clone = (Element) super.clone();
-        clone.classNames = null; // 推导了对第一次打击，否则获取一个指针，源类名
-        return clone;
+        return (Element) super.clone();
     }
 }
@@ -3,9 +3,10 @@ package org.jsoup.nodes;
 import org.jsoup.parser.Parser;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,29 +17,93 @@ import java.util.regex.Pattern;
  */
 public class Entities {
     public enum EscapeMode {
-        / * * 限制实体适合 XHTML 输出: lt，gt，amp、 apos 和 quot 只。*/
-        xhtml(xhtmlByVal),
-        / * * 默认 HTML 输出的实体。*/
-        base(baseByVal),
-        / * * 完成 HTML 实体。*/
-        extended(fullByVal);
+        /** 限制实体适合 XHTML 输出: lt，gt，amp、 apos 和 quot 只。*/
+        xhtml,
+        /** 默认 HTML 输出的实体。*/
+        base,
+        /** 完成 HTML 实体。*/
+        extended;
 
-        private Map<Character, String> map;
-
-        EscapeMode(Map<Character, String> map) {
-            this.map = map;
-        }
+        private volatile Map<Character, String> map; // built on first use, escaping doesn't need it
 
         public Map<Character, String> getMap() {
+            Map<Character, String> map = this.map;
+            if (map == null) {
+                Escapes escapes = escapes();
+                map = new HashMap<Character, String>();
+                for (int i = 0; i < escapes.codes.length; i++) {
+                    if (escapes.codes[i] > Character.MAX_VALUE)
+                        break; // sorted, so the rest are outside the BMP, and not chars
+                    String escape = escapes.escapes[i];
+                    map.put((char) escapes.codes[i], escape.substring(1, escape.length() - 1));
+                }
+                this.map = map;
+            }
             return map;
         }
+
+        // the named escape for the code point (e.g. "&amp;"), or null if it has none in this mode
+        String escapeOf(int codePoint) {
+            return escapes().escapeOf(codePoint);
+        }
+
+        // only the extended mode loads the full entity set
+        private Escapes escapes() {
+            if (this == xhtml)
+                return xhtmlEscapes;
+            else if (this == base)
+                return Base.escapes;
+            else
+                return Full.escapes;
+        }
+    }
+
+    /**
+     * The named escapes of an escape mode, as sorted code points and their escapes (e.g. "&amp;amp;"), to binary
+     * search without boxing. Code points outside the BMP (e.g. &amp;hopf;) are held as surrogate pairs in the source
+     * string.
+     */
+    private static final class Escapes {
+        final int[] codes;
+        final String[] escapes;
+
+        Escapes(String codes, String escapes) {
+            this.codes = new int[codes.codePointCount(0, codes.length())];
+            for (int i = 0, offset = 0; offset < codes.length(); i++) {
+                this.codes[i] = codes.codePointAt(offset);
+                offset += Character.charCount(this.codes[i]);
+            }
+            this.escapes = new String[this.codes.length];
+            int start = 0;
+            for (int i = 0; i < this.codes.length; i++) {
+                int end = escapes.indexOf(';', start) + 1;
+                this.escapes[i] = escapes.substring(start, end);
+                start = end;
+            }
+        }
+
+        String escapeOf(int codePoint) {
+            int i = Arrays.binarySearch(codes, codePoint);
+            return i >= 0 ? escapes[i] : null;
+        }
+    }
+
+    // The entity tables are precompiled into EntitiesData, and each set is loaded the first time it is used (by the
+    // JVM's lazy class initialisation). The base set covers the default escape mode and almost all parsing; the full
+    // set is only loaded for the extended escape mode, or to look up a reference that is not a base entity.
+    private static final class Base {
+        static final EntityTrie names = new EntityTrie(EntitiesData.baseLabels, EntitiesData.baseNodes,
+                EntitiesData.baseValues, EntitiesData.baseValueLengths);
+        static final Escapes escapes = new Escapes(EntitiesData.baseEscapeCodes, EntitiesData.baseEscapes);
+    }
+
+    private static final class Full {
+        static final EntityTrie names = new EntityTrie(EntitiesData.fullLabels, EntitiesData.fullNodes,
+                EntitiesData.fullValues, EntitiesData.fullValueLengths);
+        static final Escapes escapes = new Escapes(EntitiesData.fullEscapeCodes, EntitiesData.fullEscapes);
     }
 
-    private static final Map<String, Character> full;
-    private static final Map<Character, String> xhtmlByVal;
-    private static final Map<String, Character> base;
-    private static final Map<Character, String> baseByVal;
-    private static final Map<Character, String> fullByVal;
+    private static final Escapes xhtmlEscapes = new Escapes(EntitiesData.xhtmlEscapeCodes, EntitiesData.xhtmlEscapes);
     private static final Pattern unescapePattern = Pattern.compile("&(#(x|X)?([0-9a-fA-F]+)|[a-zA-Z]+\\d*);?");
     private static final Pattern strictUnescapePattern = Pattern.compile("&(#(x|X)?([0-9a-fA-F]+)|[a-zA-Z]+\\d*);");
 
@@ -50,7 +115,7 @@ public class Entities {
     如果已知的命名实体，则 * @return true
      */
     public static boolean isNamedEntity(String name) {
-        return full.containsKey(name);
+        return find(name) != null;
     }
 
     /**
@@ -60,122 +125,245 @@ public class Entities {
      * @see #isNamedEntity(String)
      */
     public static boolean isBaseNamedEntity(String name) {
-        return base.containsKey(name);
+        return Base.names.find(name) != null;
     }
 
     /**
      * 获得命名实体的字符值
      * @param 的名字命名实体 (例如"lt"或"amp")
-    命名实体的字符值的 * @return (例如 ' <' 或 '与')
+    命名实体的字符值的 * @return (例如 ' <' 或 '与')，如果该实体不是单个字符 (例如 &amp;Afr; 是代理项对)，则为 null
+     * @see #getByName(String)
      */
     public static Character getCharacterByName(String name) {
-        return full.get(name);
+        char[] chars = find(name);
+        return chars != null && chars.length == 1 ? Character.valueOf(chars[0]) : null;
+    }
+
+    /**
+     * Get the string value of a named entity, which may be more than one char.
+     * @param name named entity (e.g. "lt" or "Afr")
+     * @return the entity's value (e.g. "&lt;" or "\uD835\uDD04"), or null if it is not a named entity
+     */
+    public static String getByName(String name) {
+        char[] chars = find(name);
+        return chars != null ? new String(chars) : null;
+    }
+
+    /**
+     * Find a named entity from a name held in a char array, without building a string. For the tokeniser, which
+     * looks up names straight from its input buffer.
+     * @param name array holding the name
+     * @param offset start of the name
+     * @param length length of the name
+     * @param baseOnly only match entities in the base set (which may be used without a trailing ';'). Otherwise the
+     * full set is loaded, if it hasn't been yet.
+     * @return the entity's chars, or null if not a named entity. The array is shared and must not be modified.
+     */
+    public static char[] getCharsByName(char[] name, int offset, int length, boolean baseOnly) {
+        char[] chars = Base.names.find(name, offset, length);
+        if (chars == null && !baseOnly)
+            chars = Full.names.find(name, offset, length);
+        return chars;
+    }
+
+    // the base set is a subset of the full, so is tried first to avoid loading the full set
+    private static char[] find(String name) {
+        char[] chars = Base.names.find(name);
+        return chars != null ? chars : Full.names.find(name);
     }
 
     static String escape(String string, Document.OutputSettings out) {
-        return escape(string, out.encoder(), out.escapeMode());
+        return escape(string, out.escapeTable());
     }
 
     static String escape(String string, CharsetEncoder encoder, EscapeMode escapeMode) {
-        StringBuilder accum = new StringBuilder(string.length() * 2);
-        Map<Character, String> map = escapeMode.getMap();
+        return escape(string, EscapeTable.get(escapeMode, encoder.charset()));
+    }
 
+    private static String escape(String string, EscapeTable table) {
+        int first = table.firstEscape(string);
+        if (first < 0)
+            return string; // 常见情况: 不需要转义，不复制
+
+        StringBuilder accum = new StringBuilder(string.length() + 16);
+        try {
+            escape(accum, string, first, table);
+        } catch (IOException e) {
+            throw new RuntimeException(e); // StringBuilder 不会抛出
+        }
+        return accum.toString();
+    }
+
+    static void escape(Appendable accum, String string, Document.OutputSettings out) throws IOException {
+        EscapeTable table = out.escapeTable();
+        int first = table.firstEscape(string);
+        if (first < 0)
+            accum.append(string);
+        else
+            escape(accum, string, first, table);
+    }
+
+    // writes string into accum, escaping from first (the first char that needs it); runs that need no escaping are
+    // appended in bulk
+    private static void escape(Appendable accum, String string, int first, EscapeTable table) throws IOException {
         final int length = string.length();
-        for (int offset = 0; offset < length; ) {
-            final int codePoint = string.codePointAt(offset);
-
-            //代理项对，拆分为单个字符常见的情况上效率执行 (保存创建字符串，char[]):
-            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-                final char c = (char) codePoint;
-                if (map.containsKey(c))
-                    accum.append('&').append(map.get(c)).append(';');
-                else if (encoder.canEncode(c))
-                    accum.append(c);
-                else
-                    accum.append("&#x").append(Integer.toHexString(codePoint)).append(';');
+        accum.append(string, 0, first);
+        int run = first; // start of the current unescaped run
+        int[] bits = null;
+        int block = -1;
+        for (int i = first; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c >>> 8 != block) {
+                block = c >>> 8;
+                bits = table.block(block);
+            }
+            if ((bits[(c >>> 5) & 7] & (1 << c)) == 0)
+                continue;
+
+            if (i > run)
+                accum.append(string, run, i);
+            if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                //代理项对，作为一个码位处理
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    int codePoint = string.codePointAt(i);
+                    String named = table.escapeMode.escapeOf(codePoint);
+                    if (named != null)
+                        accum.append(named);
+                    else if (table.canEncode(string.subSequence(i, i + 2)))
+                        accum.append(string, i, i + 2);
+                    else
+                        appendNumeric(accum, codePoint);
+                    i++;
+                } else {
+                    appendNumeric(accum, c); // 孤立代理项无法编码
+                }
             } else {
-                final String c = new String(Character.toChars(codePoint));
-                if (encoder.canEncode(c))
-                    accum.append(c);
+                String named = table.escapeMode.escapeOf(c);
+                if (named != null)
+                    accum.append(named);
                 else
-                    accum.append("&#x").append(Integer.toHexString(codePoint)).append(';');
+                    appendNumeric(accum, c);
             }
-
-            offset += Character.charCount(codePoint);
+            run = i + 1;
         }
-
-        return accum.toString();
+        if (run < length)
+            accum.append(string, run, length);
     }
 
-    static String unescape(String string) {
-        return unescape(string, false);
+    private static void appendNumeric(Appendable accum, int codePoint) throws IOException {
+        accum.append("&#x").append(Integer.toHexString(codePoint)).append(';');
     }
 
     /**
-     *取消转义的输入的字符串。
-     * @param 字符串
-    严格的如果"严格的"* @param (即，需要尾随 ';' 的焦炭，否则为是可选的)
-     * @return
+     * Which chars of the BMP need escaping for an escape mode and output charset: those with a named entity in the
+     * mode, those the charset can't encode, and surrogates (which are checked as a pair). Blocks of 256 chars are
+     * filled on first use, and tables are shared between all output settings with the same mode and charset, so
+     * escaping is one bit test per char rather than a map lookup and a {@link CharsetEncoder#canEncode(char)} call.
      */
-    static String unescape(String string, boolean strict) {
-        return Parser.unescapeEntities(string, strict);
-    }
+    static final class EscapeTable {
+        private static final Map<String, EscapeTable> tables = new HashMap<String, EscapeTable>();
+
+        final EscapeMode escapeMode;
+        private final CharsetEncoder encoder; // only used under lock
+        private final boolean unicode; // charset can encode any code point
+        private final int encodableBelow; // chars below this are known to be encodable
+        private final AtomicReferenceArray<int[]> blocks = new AtomicReferenceArray<int[]>(256);
+
+        private EscapeTable(EscapeMode escapeMode, Charset charset) {
+            this.escapeMode = escapeMode;
+            this.encoder = charset.newEncoder();
 
-    // xhtml 已经限制实体
-    private static final Object[][] xhtmlArray = {
-            {"quot", 0x00022},
-            {"amp", 0x00026},
-            {"apos", 0x00027},
-            {"lt", 0x0003C},
-            {"gt", 0x0003E}
-    };
-
-    static {
-        xhtmlByVal = new HashMap<Character, String>();
-        base = loadEntities("entities-base.properties");  // most common / default
-        baseByVal = toCharacterKey(base);
-        full = loadEntities("entities-full.properties"); // extended and overblown.
-        fullByVal = toCharacterKey(full);
-
-        for (Object[] entity : xhtmlArray) {
-            Character c = Character.valueOf((char) ((Integer) entity[1]).intValue());
-            xhtmlByVal.put(c, ((String) entity[0]));
+            String name = charset.name();
+            unicode = name.startsWith("UTF-") || name.equals("GB18030");
+            if (unicode)
+                encodableBelow = Character.MIN_SURROGATE;
+            else if (name.equals("US-ASCII"))
+                encodableBelow = 0x80;
+            else if (name.equals("ISO-8859-1"))
+                encodableBelow = 0x100;
+            else
+                encodableBelow = 0;
         }
-    }
 
-    private static Map<String, Character> loadEntities(String filename) {
-        Properties properties = new Properties();
-        Map<String, Character> entities = new HashMap<String, Character>();
-        try {
-            InputStream in = Entities.class.getResourceAsStream(filename);
-            properties.load(in);
-            in.close();
-        } catch (IOException e) {
-            throw new MissingResourceException("Error loading entities resource: " + e.getMessage(), "Entities", filename);
+        static EscapeTable get(EscapeMode escapeMode, Charset charset) {
+            String key = escapeMode.name() + ":" + charset.name();
+            synchronized (tables) {
+                EscapeTable table = tables.get(key);
+                if (table == null) {
+                    table = new EscapeTable(escapeMode, charset);
+                    tables.put(key, table);
+                }
+                return table;
+            }
         }
 
-        for (Map.Entry entry: properties.entrySet()) {
-            Character val = Character.valueOf((char) Integer.parseInt((String) entry.getValue(), 16));
-            String name = (String) entry.getKey();
-            entities.put(name, val);
+        /**
+         * Get the escape bits for a block of 256 chars; bit (c & 255) is set if c needs escaping.
+         */
+        int[] block(int block) {
+            int[] bits = blocks.get(block);
+            return bits != null ? bits : fill(block);
         }
-        return entities;
-    }
 
-    private static Map<Character, String> toCharacterKey(Map<String, Character> inMap) {
-        Map<Character, String> outMap = new HashMap<Character, String>();
-        for (Map.Entry<String, Character> entry: inMap.entrySet()) {
-            Character character = entry.getValue();
-            String name = entry.getKey();
+        /**
+         * Find the first char in the string that needs escaping.
+         * @return index of the first char to escape, or -1 if none do
+         */
+        int firstEscape(String string) {
+            int[] bits = null;
+            int block = -1;
+            final int length = string.length();
+            for (int i = 0; i < length; i++) {
+                final char c = string.charAt(i);
+                if (c >>> 8 != block) {
+                    block = c >>> 8;
+                    bits = block(block);
+                }
+                if ((bits[(c >>> 5) & 7] & (1 << c)) != 0)
+                    return i;
+            }
+            return -1;
+        }
 
-            if (outMap.containsKey(character)) {
-                // 重复数据消除、 喜欢的小写版本
-                if (name.toLowerCase().equals(name))
-                    outMap.put(character, name);
-            } else {
-                outMap.put(character, name);
+        synchronized boolean canEncode(CharSequence surrogatePair) {
+            return unicode || encoder.canEncode(surrogatePair);
+        }
+
+        private synchronized int[] fill(int block) {
+            int[] bits = blocks.get(block);
+            if (bits != null)
+                return bits; // filled by another thread
+
+            bits = new int[8];
+            int start = block << 8;
+            for (int c = start; c < start + 256; c++) {
+                char ch = (char) c;
+                boolean escape;
+                if (ch >= Character.MIN_SURROGATE && ch <= Character.MAX_SURROGATE)
+                    escape = true;
+                else if (escapeMode.escapeOf(ch) != null)
+                    escape = true;
+                else
+                    escape = !(c < encodableBelow || unicode || encoder.canEncode(ch));
+                if (escape)
+                    bits[(c >>> 5) & 7] |= 1 << c;
             }
+            blocks.set(block, bits);
+            return bits;
         }
-        return outMap;
+    }
+
+    static String unescape(String string) {
+        return unescape(string, false);
+    }
+
+    /**
+     *取消转义的输入的字符串。
+     * @param 字符串
+    严格的如果"严格的"* @param (即，需要尾随 ';' 的焦炭，否则为是可选的)
+     * @return
+     */
+    static String unescape(String string, boolean strict) {
+        return Parser.unescapeEntities(string, strict);
     }
 }
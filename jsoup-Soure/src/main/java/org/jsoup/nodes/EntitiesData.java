@@ -0,0 +1,846 @@
+package org.jsoup.nodes;
+
+/**
+ * Entity tables, precompiled from entities-base.properties and entities-full.properties by BuildEntities
+ * (in the tests). See {@link EntityTrie} for the format. Generated: do not edit.
+ */
+final class EntitiesData {
+    private EntitiesData() {}
+
+    static final String xhtmlEscapeCodes =
+            "\"&'<>";
+
+    static final String xhtmlEscapes =
+            "&quot;&amp;&apos;&lt;&gt;";
+
+    static final String baseLabels =
+            "\000ACEGILNOQRTUYabcdefgilmnopqrstuyEMacgrtuOcTacguTacguTtacgstuUEHacguaacegmrturceoueiacgturtacegqua" +
+            "taibotacgrstualouaeehuzhiacgmuaeulPciriimPeHcirmcirmicirlimOGOcirmcciulrpiimvednprgvcirhmacixrumqccds" +
+            "ticirdlimruuoqgcyplomcirlmcnmiuranllYduraluralluraallTRuraluurtianllbdityriuralcurcaelurrdplurafmalla" +
+            "sntut123ireuralulgtcvgditcvtcvdtcvsdNtcvttcegvgdailedtcv13tclvsooodtcvsdmdognstcvteeeleeeeeeeheeeeeee" +
+            "rlneee244eetteeeheneee";
+
+    static final String baseNodes =
+            " \010\002\005\001\004\001\001\006\001\001\001\004\001\010\001\004\002\005\001\001\006\002\002\003\007" +
+            "\003\001\002\004\002\005\003\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001" +
+            "\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001" +
+            "\001\002\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\200\001\002\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\200\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\200\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\200\001" +
+            "\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\002\001\001\001" +
+            "\001\001\001\001\001\200\001\200\003\001\001\001\001\001\001\200\001\001\200\001\001\001\001\001\001\001" +
+            "\200\200\001\001\001\001\200\001\001\001\200\001\001\001\001\001\001\200\200\001\001\001\001\200\001\001" +
+            "\001\001\001\001\001\001\200\001\001\001\200\200\001\001\001\001\001\200\002\001\001\001\001\001\200\001" +
+            "\200\001\001\200\001\001\001\001\200\200\001\001\200\200\001\001\200\001\200\200\200\200\001\001\001\001" +
+            "\001\001\200\001\200\200\001\200\001\200\001\001\001\200\001\001\200\001\001\001\200\001\001\001\200\001" +
+            "\200\001\001\001\200\200\200\001\200\001\001\001\200\001\001\001\200\001\002\001\001\200\200\001\001\200" +
+            "\200\001\001\001\200\001\001\001\001\200\200\200\200\200\001\200\001\001\200\200\200\200\200\200\200\200" +
+            "\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200" +
+            "\200\200\200\200\200\200\200";
+
+    static final String baseValues =
+            "><><&\320\256&\260\360\254\256\255\250\245\304\251\313\317\326\"\334\344\242\251\353\357\257\240\252\272" +
+            "\366\266\"\247\271\262\263\374\377\306\302\305\312\316\324\336\333\342\264\346\345\270\352\356\241\253" +
+            "\265\364\243\273\337\376\327\373\301\300\303\307\311\310\315\314\321\323\322\330\325\332\331\335\341\340" +
+            "\343\246\347\244\367\351\350\275\274\276\355\354\277\267\361\363\362\370\365\261\372\371\375";
+
+    static final String baseValueLengths =
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001";
+
+    static final String baseEscapeCodes =
+            "\"&<>\240\241\242\243\244\245\246\247\250\251\252\253\254\255\256\257\260\261\262\263\264\265\266\267" +
+            "\270\271\272\273\274\275\276\277\300\301\302\303\304\305\306\307\310\311\312\313\314\315\316\317\320\321" +
+            "\322\323\324\325\326\327\330\331\332\333\334\335\336\337\340\341\342\343\344\345\346\347\350\351\352\353" +
+            "\354\355\356\357\360\361\362\363\364\365\366\367\370\371\372\373\374\375\376\377";
+
+    static final String baseEscapes =
+            "&quot;&amp;&lt;&gt;&nbsp;&iexcl;&cent;&pound;&curren;&yen;&brvbar;&sect;&uml;&copy;&ordf;&laquo;&not;" +
+            "&shy;&reg;&macr;&deg;&plusmn;&sup2;&sup3;&acute;&micro;&para;&middot;&cedil;&sup1;&ordm;&raquo;&frac1" +
+            "4;&frac12;&frac34;&iquest;&Agrave;&Aacute;&Acirc;&Atilde;&Auml;&Aring;&AElig;&Ccedil;&Egrave;&Eacute;" +
+            "&Ecirc;&Euml;&Igrave;&Iacute;&Icirc;&Iuml;&ETH;&Ntilde;&Ograve;&Oacute;&Ocirc;&Otilde;&Ouml;&times;&O" +
+            "slash;&Ugrave;&Uacute;&Ucirc;&Uuml;&Yacute;&THORN;&szlig;&agrave;&aacute;&acirc;&atilde;&auml;&aring;" +
+            "&aelig;&ccedil;&egrave;&eacute;&ecirc;&euml;&igrave;&iacute;&icirc;&iuml;&eth;&ntilde;&ograve;&oacute" +
+            ";&ocirc;&otilde;&ouml;&divide;&oslash;&ugrave;&uacute;&ucirc;&uuml;&yacute;&thorn;&yuml;";
+
+    static final String fullLabels =
+            "\000ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyzEMabcfglmnoprstuaceforsuHOacdefhilorsuDJSZace" +
+            "fiosNTacdfglmopqstuxcfiosJTabcdfgorstAacfiosuEJOacdfgmnostucfosuHJacfosJTaceflmostacefiosuJacefostuEa" +
+            "cdfgmoprstuvacfhilorsUfosBEacefhiorsuHOacfhimoqstuHRSacfhiorsabcdfgmnoprstuDbcdefosvcefosfiosAIUacfos" +
+            "uHacdefosabcefglmnoprstuwNabcdefiklnoprsuacdefhilorstuwyAHabcdefhijlorstuwzDacdefglmnopqrstuxacefilno" +
+            "prsEabcdefgijlnorstAabcefkosyacefgijmnopqstucfmosuacfghjosABEHabcdefghjlmnoprstuDacdefhilnopsuLRVabcd" +
+            "efghijlmoprstuvwSacdefghilmoprstuvacefhilmorsufiopsuABHabcdefhilmnoprstuxabcdefhilmopqrstuwzabcdefhio" +
+            "prswAHabcdfghlmoprstuwABDacdefloprszcefoprscdfhilmnorsuvwacefiosuacdefhioswlPcriyrrpadgppicsimcrycrtr" +
+            "pecmcPcpyaeioodnrirolnpuocpocccgrsaylrafptuwctGHcaiyorreapgpsuciamipyrlpruccmreiyorpecRctirlprctmclcc" +
+            "iyorraptvgptcikmiyrpcekccpeyrpcccmnpraeyfsreinpwchtpydlrnpcccaeygswrBnptcilciybrraeipeclimeryriuipeio" +
+            "ciOrpcaGcnraeyvrogpuichlCcFcaeiyrogaprucabcmpOAHcbuaeyreilpictcrriybrradigpADETadpsicimaayaerrpcdidrp" +
+            "crpccccciyrpcmccayortrpccrdiuylrrepapdggpEaeiopictyimciocrroyqcmprtrgaakooptwxrevceiolmcpraeiuodmnrce" +
+            "irulmnpaocuddelprvwcilraglrsklayaoglmiraaegsvcclptuwbccotdrahaciDocsaioyoDrrsilsapsgsgpalscsuvDacdiah" +
+            "mrciplymilrlaltopraaoclcmpriyolqsrgmcEajEaespacicdlqrrilmraialrrsamoprcltbpciycxfrrinolaopcfotcgptruc" +
+            "iikmiyrapcekpeyrrccpcartagacegmnpqrtabraeuycqrsfgqsilrEabcachtioEaesabnoptwzaachmtachiqtcdhilqrrDclpr" +
+            "oyaarocdncdpdpctlmeiDdbcptsaeouyaAaqsxrestAapsvcAadestiptaorAaitchimpqugilrmDHdilrAancsiyabioslcrortb" +
+            "mnacitaeipaeladiosvcloimbryrrimotvauipuEaceinosucinrnprcaeoartaacdenqrtabraeuyclqsacgilraognsahmomabp" +
+            "tapaachqhirlcqEaceinpsyoAacmstxracoygmaaeitflpacsuacemtarbcmnpAanlruraeyolreikolmnepsraipchtioracrriy" +
+            "abhirrabctalgpadhlsucitcdiramaraanryaelrrtprtciidirpecaiutrAaAaaidptAacqpteeciynrcpccmcayoetrcgpcjniu" +
+            "erahcoflnrillkvwanafvrpyYuilrdrntitccsogitfrnsrCtyyygrhrtcmffDEbnrrurrtamctofiairmlsolfArrymedrtfarDe" +
+            "rbfirrpyiyurtacgleiofarlclrfrrcyypdfryubglrrdtsfdgferrilufryurdatLrBfCDEGLPRSTVrliurlacgcfnralmlrtsnf" +
+            "cmdprTfrrugrrdehfngreHyTurdrrmlftarrschesRDcyrdrtndfprrurcerlaceoofroqeroeinrllsrsbtyfrargfrfryyyurfr" +
+            "lyurtoafruertiafphcladsvelmrszofcdsrnrmllontkvwknuapsnahwcostuvwrcn13ctfttDHUVbdhmptuvivbrmmllpuabcde" +
+            "oprdrptiptycEcefmsbompgifryrsrbpoapsabcdoalrveeoncrrgerhaargrttpsrmaiioyorlfempsbnkorrylroiranygotutr" +
+            "rltoadndctppofruiioilaeiporromlolseolalilitinffakrcswrumertqscdleypqifvrmcioPuadelsrrfidrrrrlcewrtkfb" +
+            "raruhurycainfticgtfeaidcelpyofaoernlclrtfrrcpdeyyfrrrarrumrbguraerrakrdibauduhtqscdgssorlyroardupqinr" +
+            "rgpafliabefrroarqrmburciormauPiduoretskmssracduprlefrptafgaaluopupprdnpsrrueiqirrradyrrrfqsirdfinrlce" +
+            "rrgrcromiasbcpllgiesaaanAArreutrslvtoiinaatrirncgcdnfrrurefmgrlrallmlaastcimptvmncnsnfnpucmEasdfpirrc" +
+            "tfirtstrrarruimgurairrakrdibaduhltsorvhgirauinrraflirorqrburmiuuuprudrEasoitrrtiwmtorhyrmdeglnprrlspd" +
+            "letbfdrauuafrrtiaranEdemnprscg123Edehlmnpsrrwigkrdtrrtcnasrdetabcfaidadempsterycrxhrrurcerrlasarlorrc" +
+            "ofroauipornrrolirlnrrsgeknprstsbelbtrforrgrbgefarprprrrrrpsoflirrrclreduyryfrylurttayrfrjgtvcvarnyggd" +
+            "seuoeetteoicilelkenrnootsarevoaroeoqlABLRTaotocverynllltneliavictckcezoDEgtcvriigrsndyccyaitdaoiACDFR" +
+            "TUVarEFGLSTtoLRlrrouistoiteierouolqxrereiquiedgtcavrarCsdeBPiMceeuorttoirtdhDcctoictalreeTreNEyoieaSe" +
+            "lotoyvcavrrnnrwuerwrlgdhhaiTscetctoWtvcegvshargnlestptaniogpdntcepseetgoutioeaiudptqtrpeeokk244koiLRl" +
+            "rDUduLRlrHLRhlroLRlrDUduiliLRlrHLRhlrmeaiebheEetnrauotnsoicsltekelnicsnafldnosrseetrrcrrauorryeeedntt" +
+            "etvrcogrsathlrosmndnroaqilqladharootfrrgrtteocotvotory1nsslvrlmalsvatrttcniligiggslvt123457lntavclcoe" +
+            "lpqmeelrtaeproqeislccwctioaarhlrasoletclvntiagrelphdrnoagrarndsEdsvdychcyaierirtpaddlobfhlpstirkcesoi" +
+            "lohsahlrtlcoeadegshodukrrriospqmgrklmrarumsanlrrriuegoorteereaefshtetemhuosiosuloipthssatsrroighrhria" +
+            "smrrrrrtsminiaiucrrhiuredruescesdarpsrsfrrrhratchalgrvrrroerarupsrroosderlilnoieaehckabcdemsttdeacens" +
+            "epialstmesmeitrirtcpdeloabcfhlpstwiorkcesoilhoipshodutnrrsdgrkrumglruoeeeflhtooeicpilmberhrainwpctaoq" +
+            "EEelarlhaecaeppbprrmlrfisoduEelaeiuacensosdsauEeleiurhrageoieeakspinesoiomenoilbizyotetyvcrarhvlrkroi" +
+            "rnrwrshlarogitdfrgvhrpaohirhihrhaqiaipizcaertcirrrrtumrruuigtctoraeeeFneldsuqeaynlnlrewCeutudeparninr" +
+            "tuerreierkenenSVoTisedledeleyrokoqeenersieyleacnlnreolierperiqureliateieiLRkmnPenlidnaenpueuiefsevgub" +
+            "cplreeceouhesaraaiadcrelnlsACDFTUVaIteyyenlDLRUCetehstnlfpEFTekececeBPPoniAonLRoelrchheenieeeydodvhrr" +
+            "xeeiopriedbsyueprpolicailedwlstmexnumerstqedcpptnlsyrmqeidiuetneotdrrrcpptrevwnaiyrhoneeytnmexnprdnuu" +
+            "eroarnpklaernnetetsv34loconstDrteneggli234568354585688edeatsrrsprtlqsmptyispnrrteirhklneetniaettlecro" +
+            "toveyvlnletnaefskplilleklnlrahraeihatspoqtitrlndttreairsetrgtndorkesrsrhasorartrtbdsssmarthheoanlkovr" +
+            "tarevvlneteetqbpeeenohrhirrkorecdesosofpheslmtdlntfkvciouniwipuqaesismliuolperneletepfskplillneklnlar" +
+            "natrlahlrstgtsetiorestaenlmikornnympfvturspryrsesesefnefgtolurtmbppuqaesituoourlutmbpkortnlc4fsvaspmb" +
+            "dtrregtnumikaeectenponpornpeltsptioogeirprarqphsepseeenfruaellstaDDMPTiuerurhtdeaCDLRUVrefgertmenibnS" +
+            "VrrtnwuasaebegriuwogeiDTVcrgulesalrfgfgeiStlvGLekagCbmasatscehascedtnrrarlnrettenreolerpermaloeipiISU" +
+            "EdaeoaquiDiaralwAlrwaeinaidmpabreqnnsimgrevnctumuraugoqruseuumvdaadnriqmxtlrpamqeernwrqvdaoousabrwroe" +
+            "rrenntDsangnnootrelsruoofgnrirahdtysmdurarrfgrnoptgqrmeaofpgrseetaredlueuariaxlwsriabcabcltampeettgnw" +
+            "snfeaekohirmonprpqimanrntqysmadurerraeiqhdasnrrnwuiasresueehttsrenprpqimbtlbrtsenwoypiakluseudewaonre" +
+            "eiphpmtagrnslDooilisrnIcCdinlooeoipeovthAoarlrtmetEFGLSTStnarlcltlolbnohAVaoeetohalasndrththfgpruerek" +
+            "ralelttTEGTertreereilceDuesiEUgriuwoeiDTVcrprawfgArnunqsttrcullorraruBDrirrfglnteabcdefghdqtgimeeksep" +
+            "nsezuissbporrRSacdtteeppsedrtsntsraonpwrstgllttdttlxoseiwwtheteslkvropthetrrtgrcxtshorroepdprgrsrgeri" +
+            "aeelslrrtrlpqmrefivltrrfguroctitsdrtlitttqerlpqmqermpmresmlrrroorlaitaanchiittnumeltntlctntwfngADrweR" +
+            "TVtrwlydiiarrqurelipaHlyterewilTVrtrenwecowtlEtteoARtartthafsMTVesiupenserqridsTetesEFTcyeknspESTolqp" +
+            "lolbnoAVaoeetolrynthrctbpiuESTEeealdtcesaorborthBLSTShleqsgeaatkrsiansrugouterwaoteiioxsstatwoateorth" +
+            "arttwwfaohrohlrdrqqekoyrosopthiethamteeepqqoyrqqerdlqreirnwonogtsfuseCytoaitntghrotBUieeTVrlSeualyful" +
+            "esalaluIiCTfBBRneeeAVrcgnVtraGqeEwriAriaAtceheasneVtriueleerSEdequiaDQetlqlineuEewilTVrrenwecowioeAAt" +
+            "rleseoaqliqlEeeknrworwoAtaieipSolnrnotrstecewiiwrorsoatsratorahstxrerioalrntnwtowtoalrxeonwoahtgeseli" +
+            "qqphqxeoqooeifgolrsnglifssoDQeclaoAARTLRtrwiapgeceeoSmmllSalasndcLmooiraigBecreotlVeoBrrurqrgrrgrrAed" +
+            "irtLgneELTaaadsEiuqstulllouthaualamiqBBLneeercgnVtrewdrrAoerernlualuqetnwiwrArnplapnegegwchcclrtmerns" +
+            "nlsrranrraqirgreigawawleiqxstoraaatelnsiqxxwfgthweieoenougkADGTlurrieeiAToncrAhVtecwqaESmlEtteeipnmma" +
+            "rgrVtrcwoeecrareauohrohrrricnyeeStrqeinlteSlabpuSEaldBuoenandleluraegBecotlVeoBsrrrwstsandauthAurread" +
+            "caduellreiedolreeoriduorrumohrfglrrlfganrrrriqeuinthatfglrnrtuorwcoriDrrrgefgrewAarteoVtulqaLqeEnmech" +
+            "aeootrBEctBroalawtowtoorukSTrsptuslgelensealqlEeabtselteniiarfrVtwoeecraooreEeltelaermorreecopeeifgsg" +
+            "weiqwolopwopiewtotherrethiduoprrmlsletratheieobtaiutualIoohthrerlrVcreoaluleurqeasktccrwoaqtoawtlAwaw" +
+            "womSphGsaiasdlramgerlauqrleiEtblctaeorBEctBrwwocqtElsrwoaewdlrfgthesfgwwswogsawtooletlopwoooeoqerrtfg" +
+            "nulelstbvdnwwtARtorBoetBcrrSalsaueAktBrruorrerrwSpairccleeneltsnauesqrikAccraqtoawtuEqiowtnoeithtthns" +
+            "oarwwqewsowwsnqorthtreeeleetAriAwoawcoatBeqrSslatreoaarrrrpacneeaEtneEetlaQuiberktBruorriaquswowfgttn" +
+            "rrqnnswotiIQCeerrgrwrtrroaueqlrtrrlooaceSalqEtEqtEluaurtreoaaroluarnthsroswanuoAgrohrorrauowwceptBuqq" +
+            "uEqolmiotrrlnaltowltoncrowtorraweaeaauuaqutuwlwDettuawAwercrrlaaluaemgeotlreellalruerlarolIwntegral";
+
+    static final String fullNodes =
+            "4\020\010\016\013\020\005\014\010\016\005\007\013\010\011\016\011\004\014\015\013\016\011\005\004\011" +
+            "\010\020\020\017\023\022\013\020\012\017\006\010\026\016\027\022\014\006\025\023\015\022\016\007\016\010" +
+            "\012\001\001\001\001\002\001\001\001\001\001\002\001\001\002\001\001\002\001\003\001\001\001\001\001\001" +
+            "\001\003\004\001\002\001\001\001\001\004\001\001\001\201\001\001\001\003\002\001\001\002\004\002\001\001" +
+            "\001\003\001\001\001\001\002\002\001\001\002\001\001\002\001\001\001\003\001\001\200\001\001\003\001\001" +
+            "\200\001\001\001\200\001\002\001\001\001\002\002\001\001\001\001\001\002\001\001\001\202\002\003\001\001" +
+            "\002\002\001\001\002\001\001\001\001\002\001\001\001\001\200\005\003\002\001\201\001\003\003\200\001\001" +
+            "\002\001\001\001\001\200\001\001\003\003\001\004\001\001\200\001\001\002\001\001\001\003\001\001\200\002" +
+            "\001\001\001\001\001\001\001\200\001\002\203\002\001\001\001\001\001\001\003\003\201\001\001\001\002\001" +
+            "\002\001\002\001\001\204\001\001\001\001\001\002\001\001\004\001\001\002\002\003\001\002\001\001\001\002" +
+            "\002\001\002\001\001\001\001\002\002\010\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001" +
+            "\001\001\001\200\001\001\001\001\001\001\002\001\001\001\001\001\001\002\001\002\001\001\001\001\001\204" +
+            "\001\201\001\002\002\002\002\206\001\003\001\001\002\001\002\001\002\001\005\001\001\001\003\001\004\001" +
+            "\002\004\002\003\004\001\003\001\003\001\001\004\002\002\001\007\002\001\001\001\004\002\002\202\003\002" +
+            "\001\005\001\001\005\002\003\002\002\001\002\002\002\004\001\200\002\202\203\003\002\002\003\004\002\003" +
+            "\002\002\003\001\001\001\003\001\003\001\002\001\002\001\201\003\001\002\001\203\001\201\001\001\203\004" +
+            "\001\001\002\205\001\004\001\001\003\001\001\005\003\002\001\202\002\002\001\203\001\003\204\004\001\001" +
+            "\002\201\002\002\001\001\001\002\001\001\002\001\001\001\001\001\001\003\001\201\001\011\003\004\004\204" +
+            "\003\201\002\001\204\002\004\010\001\005\006\207\001\001\004\002\001\001\001\001\003\002\001\002\200\002" +
+            "\202\001\001\002\004\001\005\001\205\001\003\003\202\001\006\001\002\003\004\007\004\201\006\003\200\002" +
+            "\002\005\001\002\003\002\001\004\003\001\003\206\003\001\001\001\001\001\001\001\003\202\002\200\003\211" +
+            "\002\001\001\001\001\001\001\003\003\001\001\007\003\004\004\003\003\002\003\003\001\001\004\002\001\004" +
+            "\003\001\200\001\001\211\001\007\001\004\002\001\004\003\001\003\001\004\002\005\003\001\002\001\003\001" +
+            "\001\001\004\003\003\001\003\003\002\001\001\002\001\002\003\002\001\002\002\002\002\006\003\001\003\002" +
+            "\001\001\001\001\002\001\001\003\001\001\001\001\001\001\001\001\002\001\001\200\201\001\003\001\001\002" +
+            "\200\002\001\001\003\002\002\002\001\001\001\002\001\001\001\001\001\002\001\002\001\002\001\001\001\001" +
+            "\001\002\001\200\001\001\001\200\200\001\001\001\200\001\001\001\001\001\001\001\001\001\002\200\001\001" +
+            "\001\200\001\001\001\001\001\001\001\201\001\001\001\001\001\001\001\001\200\200\001\002\001\003\002\001" +
+            "\001\001\201\001\001\001\001\001\001\001\001\200\201\200\002\001\001\202\001\001\001\001\200\200\001\001" +
+            "\001\200\001\200\001\001\001\001\001\001\001\002\001\001\200\001\001\001\200\200\001\001\001\001\001\001" +
+            "\001\001\001\001\200\001\200\001\001\001\001\001\200\001\200\001\001\001\001\001\001\001\001\001\001\001" +
+            "\200\001\200\001\002\001\201\001\001\001\001\001\001\001\001\001\200\200\001\001\001\001\001\001\001\001" +
+            "\200\200\001\001\001\001\001\001\001\001\001\001\200\001\001\200\001\001\001\001\001\001\200\001\200\200" +
+            "\001\001\200\001\001\001\001\001\001\001\200\001\001\001\200\001\001\001\212\001\001\001\001\001\200\001" +
+            "\200\001\001\001\001\001\001\001\001\002\001\001\001\200\200\200\001\001\001\001\001\002\001\200\001\200" +
+            "\001\001\001\200\001\001\001\001\001\200\001\200\200\001\001\001\001\001\200\001\001\001\001\001\001\001" +
+            "\001\200\200\001\001\001\001\001\001\001\001\201\002\200\202\001\001\001\001\200\200\001\001\200\200\002" +
+            "\001\001\001\001\001\001\001\001\002\001\200\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\001\200\003\200\001\001\001\001\001\200\001\001\200\001\001\001\001\001" +
+            "\001\001\200\200\001\001\001\001\001\001\200\001\001\001\200\001\001\001\001\200\001\001\200\001\200\001" +
+            "\002\001\002\200\204\206\001\001\200\001\200\001\001\001\001\001\200\001\001\001\001\001\001\001\002\001" +
+            "\001\200\001\001\001\001\001\003\200\007\001\002\002\001\001\001\201\001\014\001\001\001\001\001\001\001" +
+            "\001\001\001\204\002\002\001\001\001\001\001\001\001\200\001\001\200\206\001\001\002\002\003\001\001\001" +
+            "\002\001\001\002\001\204\004\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\002\001\200\001" +
+            "\001\001\200\001\001\200\001\001\202\001\002\001\001\204\001\001\001\002\002\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\200\001\001\200\001\201\001\200\201\001\001\001\200\001\001\001\001" +
+            "\001\001\002\002\003\001\001\001\001\001\001\200\200\001\001\001\001\002\001\200\001\001\002\200\001\001" +
+            "\001\001\001\001\002\001\002\001\001\200\001\001\200\001\001\200\001\200\202\203\200\200\001\001\200\200" +
+            "\200\200\001\201\001\001\001\001\001\002\001\001\001\005\001\001\001\001\002\001\001\001\001\001\200\002" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\200\200\001\002\001\001\001\003\001\001\001" +
+            "\001\001\204\001\001\001\001\001\001\001\001\001\001\001\001\200\200\001\001\001\001\001\001\001\200\200" +
+            "\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\200\001\001\202\001\001\002\001\002\001" +
+            "\200\001\001\002\001\001\200\202\204\001\001\200\200\001\001\001\001\001\001\001\001\001\200\001\201\001" +
+            "\002\001\001\001\003\001\002\202\001\001\001\001\200\001\001\001\200\001\002\001\002\001\001\001\001\001" +
+            "\002\002\001\001\002\201\001\001\200\001\001\200\200\001\203\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\202\001\001\002\001\001\001\200\001\001\001\001\001\001\200\201\001\201\001\001\001" +
+            "\201\200\001\001\001\001\203\001\201\001\001\202\001\001\202\001\001\001\001\202\001\001\001\001\001\003" +
+            "\001\001\001\001\202\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\200" +
+            "\001\001\200\001\200\001\001\002\001\200\001\001\003\001\001\001\001\001\203\001\001\001\200\001\001\001" +
+            "\002\001\001\203\200\005\200\201\001\001\001\200\001\001\001\001\001\200\001\001\201\001\003\003\001\001" +
+            "\001\200\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\002" +
+            "\001\002\001\200\001\001\001\001\001\001\200\001\001\200\001\201\001\001\001\001\001\200\001\001\002\001" +
+            "\003\001\001\001\001\001\001\200\002\001\001\001\001\001\001\200\002\001\201\001\003\001\001\200\001\001" +
+            "\001\001\001\001\001\001\201\001\002\001\200\001\207\001\002\001\002\201\001\201\001\002\002\001\202\001" +
+            "\001\001\001\001\001\002\210\001\200\001\214\001\001\001\001\001\200\001\001\001\200\001\001\200\002\002" +
+            "\002\001\001\001\001\001\203\001\001\001\007\001\002\001\001\001\001\001\001\001\001\002\001\200\001\001" +
+            "\001\001\200\001\001\001\002\001\001\200\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\007\200\001\202\001\002\200\001\001\001\001\001\001\001\002\001\200\001\001\001" +
+            "\001\001\001\001\200\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\002\001\200\200" +
+            "\200\001\001\001\001\001\001\001\200\001\001\001\200\001\001\001\001\200\001\001\001\001\001\001\001\001" +
+            "\001\200\001\001\200\001\001\200\001\200\001\001\001\200\200\001\200\001\200\200\001\001\001\001\001\001" +
+            "\001\200\001\001\001\001\001\001\001\001\001\200\001\001\001\200\001\001\200\200\200\001\200\001\001\001" +
+            "\001\001\001\200\001\001\001\006\200\001\001\001\001\200\001\001\001\001\001\200\001\001\001\200\200\200" +
+            "\001\001\001\200\001\001\200\200\001\001\001\001\200\200\001\200\001\001\001\001\200\001\200\001\002\200" +
+            "\001\200\001\001\200\001\001\001\001\002\001\001\200\200\200\001\001\200\001\200\200\001\001\200\200\001" +
+            "\001\200\200\200\001\001\200\001\200\001\001\012\006\001\001\004\200\001\200\001\001\001\001\200\200\200" +
+            "\001\001\001\001\001\001\001\001\200\002\001\003\001\001\001\002\002\001\001\200\001\001\001\001\001\001" +
+            "\001\001\001\200\001\200\001\001\001\200\002\001\001\001\200\001\001\001\001\200\200\200\200\001\001\200" +
+            "\201\001\001\001\001\200\001\001\200\001\001\200\001\001\001\001\001\001\001\001\200\200\001\200\200\001" +
+            "\001\001\001\001\001\001\001\200\001\001\001\001\001\001\200\001\200\001\001\201\001\001\001\001\001\001" +
+            "\001\001\001\200\001\001\001\001\001\001\001\201\001\200\001\200\001\200\001\001\201\001\200\200\001\001" +
+            "\001\200\200\200\200\200\200\200\001\001\200\200\200\200\001\001\200\001\200\200\200\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\001\200\200\001\001\001\002\001\001\200\001\200\200\001\001\200\001\001" +
+            "\200\001\001\200\004\001\001\201\001\001\001\001\001\001\200\200\001\003\003\002\001\001\001\001\001\001" +
+            "\001\002\001\001\200\200\001\001\004\204\004\206\001\004\204\001\001\001\004\206\001\001\001\200\001\201" +
+            "\202\201\202\001\001\001\002\001\001\001\001\001\001\001\001\200\001\001\201\200\001\200\202\200\001\001" +
+            "\001\001\001\001\202\201\001\200\001\201\001\001\200\201\201\001\001\001\001\001\001\002\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\200\001\001\200\201\001\001\001\001\001\001\001\001\001\002\202\001\001" +
+            "\001\001\200\001\001\001\200\001\001\001\001\001\003\001\001\001\200\200\200\001\001\201\001\001\001\200" +
+            "\001\001\200\001\001\001\201\001\200\001\001\001\001\001\001\001\201\200\001\200\201\001\202\001\001\001" +
+            "\001\001\001\001\001\001\001\200\001\200\200\200\200\001\001\001\001\001\001\001\001\001\200\001\001\200" +
+            "\200\001\201\001\006\001\001\200\001\001\001\001\200\200\001\001\001\001\001\200\201\201\001\200\001\200" +
+            "\202\200\001\001\001\001\002\001\001\001\001\200\001\200\001\001\202\200\001\001\001\001\001\001\001\001" +
+            "\002\200\001\200\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\003\001\200\001\001\001\001" +
+            "\001\002\001\001\200\001\200\200\001\001\200\204\001\001\200\001\001\200\200\001\001\001\001\001\200\200" +
+            "\200\200\001\200\001\001\200\001\001\001\001\202\001\207\001\200\001\001\001\002\001\001\001\200\200\001" +
+            "\001\001\200\005\200\001\001\001\001\005\001\001\002\001\200\001\001\001\001\001\001\201\201\001\001\001" +
+            "\001\003\001\001\200\001\001\001\001\001\200\201\001\001\001\001\001\200\202\200\001\001\200\001\001\001" +
+            "\001\001\001\001\202\001\001\001\200\200\201\001\001\001\001\001\001\001\001\001\001\200\200\001\001\200" +
+            "\200\001\001\001\001\001\001\001\001\001\001\001\001\200\200\001\001\001\200\001\001\002\001\001\001\200" +
+            "\001\200\001\001\001\200\200\001\001\200\001\200\001\001\001\200\200\001\001\201\001\001\001\001\001\001" +
+            "\001\001\200\001\201\001\001\001\202\001\202\200\001\200\001\001\001\001\001\001\001\001\001\001\002\001" +
+            "\001\200\201\001\001\200\200\001\001\001\200\001\001\200\001\001\001\001\001\001\001\200\001\200\200\001" +
+            "\001\001\001\200\200\001\200\001\200\001\200\001\001\200\001\201\002\200\001\001\001\200\001\200\001\001" +
+            "\001\002\210\001\200\001\200\001\205\001\200\001\001\200\003\201\001\001\200\001\200\200\001\200\002\001" +
+            "\200\001\200\001\001\200\001\001\001\203\001\212\001\001\001\001\001\002\001\001\001\200\200\001\001\200" +
+            "\203\200\001\001\002\200\001\200\001\001\001\001\001\001\001\001\001\200\001\001\201\001\001\001\200\200" +
+            "\001\001\001\203\001\001\001\200\001\001\001\001\200\001\001\001\001\202\001\002\200\200\001\002\200\001" +
+            "\001\001\200\001\001\001\201\201\201\001\001\001\001\001\001\001\200\001\200\001\201\200\001\200\001\001" +
+            "\002\001\200\001\200\001\001\001\201\001\001\200\001\201\001\002\001\001\003\205\200\200\200\200\200\002" +
+            "\201\001\001\001\002\001\003\001\002\001\001\001\200\001\001\200\001\001\001\001\001\001\001\001\001\001" +
+            "\200\200\001\001\201\200\001\001\001\001\200\001\001\001\001\001\200\200\001\001\001\001\200\200\001\200" +
+            "\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\200\001\001\001\001\202\001\001\001\001\001" +
+            "\200\001\001\201\001\200\001\200\201\001\001\001\001\001\003\201\001\002\001\001\001\001\001\200\001\200" +
+            "\001\001\200\001\001\001\001\001\200\001\200\200\001\200\001\001\001\001\001\200\200\001\200\001\001\001" +
+            "\001\200\001\001\001\200\001\001\200\001\200\200\200\200\200\001\001\200\001\200\200\001\200\200\200\200" +
+            "\001\001\200\001\200\200\200\001\200\001\001\001\001\001\001\200\001\001\001\001\001\001\200\001\001\001" +
+            "\001\001\001\201\001\001\001\001\001\200\001\001\001\200\001\200\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\200\001\001\200\002\200\001\201\001\001\001\001\001\001\201\001\001\200\001\001\200" +
+            "\200\001\001\001\001\001\200\001\200\001\200\001\001\001\001\001\200\001\200\200\001\200\200\001\001\001" +
+            "\001\001\001\002\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\003\001" +
+            "\001\001\200\001\200\001\001\200\200\001\001\001\001\001\002\001\001\001\001\001\200\001\001\200\001\001" +
+            "\001\001\001\010\001\001\001\001\001\001\001\001\200\004\200\001\001\001\001\001\001\001\200\200\200\001" +
+            "\001\001\200\001\203\001\001\001\001\200\001\200\001\001\200\002\201\200\001\001\001\201\001\001\002\001" +
+            "\200\001\200\201\001\001\001\001\200\200\001\200\001\001\001\001\001\200\200\200\001\001\200\200\200\200" +
+            "\001\001\200\001\201\001\200\001\200\001\001\200\201\001\001\200\001\001\001\001\001\001\001\200\200\001" +
+            "\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\003\200\200\200\200\200\001\001\200" +
+            "\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\001\200\200\200\200\200\200\200\200" +
+            "\001\001\001\200\200\200\200\200\200\200\200\200\200\001\200\001\200\200\200\001\001\200\201\001\001\001" +
+            "\001\001\001\200\200\200\001\001\200\201\200\001\001\201\001\001\001\001\001\201\201\201\001\001\001\001" +
+            "\001\001\200\200\200\200\200\001\200\200\001\001\001\001\001\200\001\003\001\001\200\200\001\200\001\001" +
+            "\001\200\001\200\001\001\200\001\200\001\001\200\200\001\200\001\200\001\001\001\001\001\201\001\001\001" +
+            "\001\001\001\001\001\001\001\001\200\200\200\200\001\001\200\001\001\001\200\001\200\001\001\001\001\200" +
+            "\202\002\200\001\200\001\200\001\001\200\001\001\001\201\001\200\200\200\200\001\001\001\001\001\200\001" +
+            "\200\200\200\001\200\001\006\002\003\001\002\001\200\200\001\201\001\200\001\200\001\001\200\001\200\200" +
+            "\200\200\200\200\200\001\001\001\001\001\002\001\001\001\001\001\001\200\200\001\001\001\001\001\200\001" +
+            "\001\001\001\001\001\001\001\001\200\200\001\001\200\001\200\200\200\200\001\001\200\200\001\201\001\001" +
+            "\001\001\001\001\200\200\001\200\001\201\200\001\200\200\200\001\200\201\001\001\200\001\200\001\001\001" +
+            "\001\200\001\200\201\001\001\001\001\001\001\001\200\200\002\200\001\001\001\200\201\001\001\001\001\001" +
+            "\001\001\001\200\001\001\001\001\001\001\001\001\001\200\201\200\200\001\001\200\001\001\001\200\200\200" +
+            "\200\200\001\001\001\001\200\001\001\001\001\001\001\200\001\201\200\001\200\200\201\001\200\200\001\001" +
+            "\001\001\001\200\200\001\001\200\001\001\001\001\200\001\200\001\001\001\202\001\001\001\001\200\002\001" +
+            "\001\001\200\001\200\001\201\001\001\200\200\200\001\201\001\001\001\200\200\200\200\200\200\002\200\200" +
+            "\201\201\201\001\001\001\200\200\200\001\201\001\001\201\200\200\002\200\001\200\200\001\001\001\001\200" +
+            "\001\001\001\001\001\001\200\001\201\001\001\200\200\001\001\200\200\001\200\200\200\001\200\200\200\001" +
+            "\001\200\200\200\201\001\001\001\001\001\200\001\001\200\001\001\001\001\001\200\001\001\001\001\200\001" +
+            "\002\200\001\001\001\001\200\200\001\001\001\003\001\201\200\001\001\001\001\001\200\001\001\001\001\001" +
+            "\201\200\001\200\001\200\001\200\200\001\200\001\201\200\001\001\001\001\001\001\200\001\201\200\200\002" +
+            "\200\001\001\001\200\001\201\001\001\200\001\001\200\201\006\001\200\200\001\200\200\200\200\200\001\001" +
+            "\001\001\200\001\201\001\001\200\200\001\001\001\200\001\200\001\200\200\001\001\200\200\200\200\001\201" +
+            "\001\001\200\001\200\001\002\202\001\200\200\200\200\001\001\200\001\001\001\200\001\001\001\200\200\202" +
+            "\202\002\200\001\001\001\200\001\200\001\001\001\200\200\001\001\001\001\002\001\001\001\003\001\001\001" +
+            "\001\002\001\001\200\200\001\001\001\002\200\001\201\001\200\001\001\001\001\002\202\002\001\200\001\200" +
+            "\200\202\001\001\001\001\200\001\001\001\001\200\001\001\200\001\200\001\001\200\001\200\200\001\200\001" +
+            "\001\200\200\200\001\001\200\200\200\001\001\001\200\200\001\001\001\001\200\200\200\001\200\200\001\200" +
+            "\200\001\001\001\001\001\200\001\001\001\001\001\200\001\200\001\001\200\200\200\001\200\001\201\001\001" +
+            "\200\200\200\200\200\200\200\001\001\200\200\001\001\200\001\001\200\001\001\001\001\200\200\200\001\200" +
+            "\200\001\200\001\001\200\200\001\001\200\200\001\001\001\004\001\001\200\001\200\001\001\001\200\001\200" +
+            "\200\001\001\001\200\001\006\001\001\001\001\001\001\200\200\200\200\001\001\001\001\001\001\200\001\002" +
+            "\200\001\200\200\200\001\200\001\001\200\001\001\200\200\001\001\001\001\001\200\200\200\200\200\001\200" +
+            "\200\001\001\001\002\001\001\001\001\003\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001" +
+            "\001\200\001\001\001\200\200\200\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\200\200\200\200\001\001\200\200\200\001\001\001\001\001\001\001\001\001\200\200\200" +
+            "\200\001\002\001\001\001\002\001\001\001\001\001\001\200\200\200\200\200\001\001\001\001\001\203\201\001" +
+            "\001\001\200\200\200\001\001\001\001\001\001\200\200\001\200\200\200\002\001\001\001\001\001\001\001\001" +
+            "\001\001\001\200\200\200\001\001\200\200\200\200\001\200\200\200\001\200\001\201\001\200\001\200\201\001" +
+            "\200\001\001\001\001\001\200\201\001\201\001\200\001\200\001\200\001\001\001\001\001\001\001\200\001\200" +
+            "\001\001\001\200\200\200\001\001\001\200\200\001\200\200\200\200\001\200\200\200\200\200\001\001\001\001" +
+            "\200\002\001\200\001\001\201\200\200\002\001\200\200\200\002\201\001\200\200\200\201\001\001\001\200\001" +
+            "\001\200\200\200\001\200\001\001\001\200\001\001\201\200\200\200\200\001\001\001\001\001\001\001\001\001" +
+            "\200\200\200\001\001\200\200\200\200\200\200\001\200\001\200\200\200\200\001\200\001\001\200\200\001\001" +
+            "\001\001\001\200\200\200\200\001\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200" +
+            "\001\201\200\001\200\001\001\200\200\001\001\001\200\200\200\200\001\201\200\200\001\001\200\001\001\200" +
+            "\200\200\200\200\200\200\200\200\001\001\200\001\200\200\001\001\001\001\200\001\200\200\200\200\200\200" +
+            "\200\200\001\200\200\200\001\200\200\200\200\001\200\200\200\200\002\200\200\200\001\001\001\001\001\001" +
+            "\001\001\201\200\001\001\002\001\001\200\200\200\001\200\200\201\001\001\001\001\001\200\001\200\200\001" +
+            "\200\001\200\200\200\200\200\200\200\001\200\001\001\001\203\200\200\001\200\200\200\200\201\200\200\200" +
+            "\001\001\001\001\200\200\200\001\001\200\200\200\001\200\200\201\001\001\200\003\003\001\001\200\001\200" +
+            "\200\002\200\001\001\001\001\200\001\200\200\200\200\001\200\200\200\001\200\200\200\200\200\001\001\200" +
+            "\001\200\001\200\200\201\001\200\200\200\200\001\200\001\201\200\001\001\200\200\200\001\001\001\001\001" +
+            "\200\001\001\001\001\200\200\001\001\001\200\200\200\200\001\001\001\200\200\001\200\200\001\200\200\200" +
+            "\200\001\200\200\001\200\200\002\200\200\001\200\001\001\200\200\200\001\001\001\001\001\001\001\201\200" +
+            "\001\200\001\200\200\200\200\001\001\200\200\200\200\001\200\001\200\001\200\200\001\001\200\200\200\001" +
+            "\001\001\200\001\200\200\201\200\001\200\001\200\200\200\200\200\001\200\001\001\001\001\202\200\200\200" +
+            "\001\001\200\001\001\001\001\200\001\001\001\001\001\001\001\202\200\200\200\200\001\200\200\200\200\200" +
+            "\200\001\001\200\001\001\200\200\201\200\200\200\001\200\001\200\001\001\001\001\200\001\200\200\200\200" +
+            "\200\201\200\001\001\001\001\001\201\200\200\001\200\001\001\001\200\001\200\001\001\001\200\200\200\001" +
+            "\200\200\200\200\200\200\200\200\200\200\200\200\200\001\001\001\200\001\001\200\200\200\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\200\001\001\001\001\002\001\001\001\001\001\001\001\201\001\200\001" +
+            "\001\200\001\001\001\001\001\001\006\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001" +
+            "\202\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\200\200\001\001\001\001\001\001\001\001\001\203\001\001\001\001\001\001\001\001\001\200\001\200\001" +
+            "\001\001\001\001\001\200\001\002\001\001\001\002\001\001\001\003\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\202\001\001\001\200\001\001\001" +
+            "\200\001\001\001\200\001\010\201\200\001\200\001\001\001\001\201\001\001\200\200\200\200\200\001\001\001" +
+            "\200\001\001\001\001\001\001\001\200\001\001\001\200\200\001\001\001\005\001\200\001\200\001\001\200\200" +
+            "\200\200\001\200\002\001\001\001\001\200\200\200\200\201\200\001\001\001\200\001\001\001\001\001\001\200" +
+            "\001\001\001\200\200\002\200\001\001\001\001\001\001\201\001\200\001\001\001\200\200\001\001\001\001\001" +
+            "\001\001\001\001\001\001\200\200\001\200\200\200\200\200\001\001\001\001\001\001\001\201\001\200\001\001" +
+            "\200\200\001\001\001\001\001\001\001\200\200\001\200\001\200\200\001\001\001\001\200\001\001\001\001\200" +
+            "\201\200\200\001\001\200\200\200\200\200\200\001\200\001\001\001\200\200\001\001\001\200\200\200\200\200" +
+            "\200\001\001\200\001\200\001\200\200\200\001\001\001\001\001\001\200\001\001\001\001\200\200\001\200\200" +
+            "\001\200\200\200\200\001\001\001\001\001\001\001\001\001\200\001\001\200\001\200\001\001\001\200\200\001" +
+            "\001\001\001\001\001\200\200\200\200\001\001\001\001\001\001\001\200\200\200\200\200\200\200\200\001\001" +
+            "\200\001\001\001\001\001\200\001\001\200\200\001\002\001\200\001\001\200\001\001\200\001\001\001\001\001" +
+            "\001\001\200\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\200\001\002\001" +
+            "\001\001\002\001\001\001\003\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\200\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\200\001\001\001\002\001\002\001\001\001\001\001\001\003\001\001\001\001\001\001\001\200\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\203\001\001\002\001\200\001\001\203\001\002\001\001\001\001\001\001" +
+            "\001\202\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\203\200\201\001\001\001" +
+            "\001\001\001\200\200\001\001\001\001\001\001\001\001\001\001\001\004\001\001\200\200\200\200\200\200\200" +
+            "\200\200\200\200\200\200\001\001\001\200\200\200\001\200\001\200\200\001\001\001\200\200\200\200\001\001" +
+            "\001\200\200\001\001\001\200\200\001\001\200\001\001\200\001\001\200\001\001\200\200\001\001\001\001\001" +
+            "\200\200\200\200\001\001\200\001\001\001\200\200\200\200\001\001\001\001\200\200\001\001\200\200\200\200" +
+            "\200\200\200\200\001\001\001\001\001\200\200\001\001\001\200\001\200\002\001\001\001\200\200\001\001\200" +
+            "\001\200\001\001\001\200\001\001\001\001\001\001\001\001\001\200\200\001\200\200\001\001\001\200\200\200" +
+            "\200\200\001\200\001\200\001\001\001\001\001\001\001\001\200\200\200\200\200\001\001\200\001\201\201\002" +
+            "\201\001\001\001\001\200\200\201\001\001\200\001\200\200\204\200\200\001\001\200\001\001\001\200\001\200" +
+            "\001\001\200\200\001\001\200\001\001\200\200\001\001\001\001\001\200\001\200\001\001\001\001\200\001\001" +
+            "\001\001\001\001\001\202\200\001\001\001\002\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\200\001\001\002\001\001\202\001\001\001\001\200\002\001\001\001\001\001\001\001\200\001" +
+            "\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\200\200\001\001\001\001\001\001\001\200\001" +
+            "\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\200\001\001\200\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\200\200\001\001\001\200\002\001\200\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\200\200\200\001\001\001\001\200\200\001\001\001\001\001\200\001\001\001" +
+            "\001\001\001\200\001\200\001\001\001\001\001\001\001\200\200\001\200\001\001\201\001\001\003\001\001\200" +
+            "\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\200\001\200\001\200\200\002\200\001\001\001" +
+            "\001\200\001\001\002\001\001\001\001\001\001\001\200\001\001\001\001\200\201\001\001\001\200\201\200\001" +
+            "\001\001\200\001\001\001\001\002\001\001\001\200\001\001\200\001\001\200\001\001\002\001\001\001\001\001" +
+            "\001\003\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\200\001\001\001" +
+            "\001\001\001\001\001\001\200\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\201\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\203" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\201\001\001" +
+            "\001\001\202\001\001\001\001\200\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\001\200\200\001\001\200\001\001\001\200\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\001\001\200\001\001\200\002\001\001\001\001\001\200\001\001\001\001\200" +
+            "\001\001\001\001\001\001\001\001\001\200\200\200\001\001\200\001\001\001\200\200\001\200\001\001\200\001" +
+            "\001\001\001\001\200\001\001\001\201\001\001\001\001\001\001\001\200\001\001\200\200\001\001\200\200\001" +
+            "\001\200\001\001\001\001\001\001\001\001\001\200\200\200\001\001\001\200\200\001\001\001\001\001\004\001" +
+            "\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001" +
+            "\001\001\200\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\200\001\001\001\001\001\001\001\001\001\200\001\002\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\201\001\001\002\001\201\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\201\001\200\200\001\001\001\001\200\001\001\001" +
+            "\200\200\001\001\001\001\001\001\001\001\200\001\200\001\001\200\001\001\001\001\001\200\002\001\200\001" +
+            "\002\200\200\200\200\001\001\200\001\001\001\002\200\200\001\001\001\001\001\002\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\200\001\200\001\001\001\200\200\200\001\001\001\001\001\001\001\001\001\001\001" +
+            "\200\200\200\200\001\001\001\001\001\200\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\200\001\001\200\001\001\201\001" +
+            "\001\001\200\200\001\200\200\001\001\001\200\001\001\001\001\001\001\200\001\202\001\001\201\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\200\001\200" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001" +
+            "\200\001\001\001\001\001\001\001\001\001\001\200\001\001\001\200\001\201\001\001\001\001\001\001\200\001" +
+            "\001\001\001\001\200\001\001\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\200\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001" +
+            "\200\001\001\001\200\201\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\002\001\001\200\001" +
+            "\001\001\001\200\001\001\001\001\200\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\200\001\001\200\001\200\001\001\200\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\200\001\200" +
+            "\001\001\001\001\200\200\001\200\001\001\001\001\200\001\001\001\001\200\001\202\001\001\201\001\001\001" +
+            "\001\001\001\001\200\001\200\200\001\001\001\200\001\001\001\200\200\001\001\200\203\001\001\001\001\200" +
+            "\001\001\001\001\200\200\001\200\001\200\001\001\001\001\001\200\001\001\200\001\200\001\001\001\201\001" +
+            "\001\001\001\001\001\001\001\001\200\200\001\001\201\001\001\200\001\001\001\001\001\001\001\001\001\001" +
+            "\200\001\001\001\001\001\001\001\002\001\001\200\001\001\001\001\001\201\001\001\001\001\001\001\001\001" +
+            "\200\001\200\200\200\001\001\001\001\201\200\001\001\001\001\001\001\200\001\200\001\200\001\200\200\001" +
+            "\001\001\001\001\001\200\001\001\001\200\001\001\200\001\001\001\001\001\200\001\001\001\200\001\200\001" +
+            "\001\200\001\001\001\001\001\001\001\200\001\001\001\001\001\200\200\200\001\001\001\201\001\200\001\001" +
+            "\200\001\001\200\001\001\001\001\001\001\200\001\200\200\001\001\200\001\200\201\001\001\200\001\200\200" +
+            "\001\001\200\001\201\200\001\200\001\001\001\001\001\001\200\001\001\001\200\001\001\001\001\001\200\200" +
+            "\001\001\001\001\001\001\200\200\001\001\001\001\001\001\001\001\001\001\001\001\201\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\200\200\001\001\200\200\001\001\001\200\001\001\001\001\001\001\001\200\200" +
+            "\201\001\001\001\001\001\001\001\001\001\200\001\001\001\001\001\001\001\201\001\001\001\001\001\200\001" +
+            "\001\001\001\001\001\200\001\200\001\001\001\200\001\200\200\001\200\200\001\001\001\200\200\200\001\001" +
+            "\200\001\001\200\200\200\200\001\001\200\001\001\001\001\001\200\001\200\200\001\001\001\001\001\200\001" +
+            "\001\200\001\001\001\001\001\200\001\001\001\200\200\001\200\001\001\001\001\001\200\200\001\001\001\001" +
+            "\001\001\001\200\001\001\001\001\201\001\001\001\200\001\001\001\001\001\001\001\001\001\001\200\001\001" +
+            "\200\200\001\001\001\001\200\200\001\001\001\001\200\200\001\001\001\200\200\001\200\200\001\200\001\001" +
+            "\001\001\001\001\001\001\001\001\200\200\001\200\200\001\001\001\200\001\200\001\200\200\200\200\001\001" +
+            "\001\001\200\001\001\001\001\001\200\001\001\001\001\200\001\001\001\001\200\001\001\001\001\001\200\001" +
+            "\200\001\001\200\200\200\001\200\001\001\200\200\001\001\001\001\001\001\001\001\001\001\001\200\200\001" +
+            "\001\001\200\200\001\200\001\001\001\001\001\001\001\001\001\001\200\200\001\001\200\200\200\200\200\001" +
+            "\200\200\001\200\001\001\001\001\001\001\001\200\001\001\200\001\001\200\200\001\001\001\001\001\001\001" +
+            "\001\001\001\001\200\200\200\200\001\001\001\001\001\200\001\200\200\001\001\200\200\200\001\001\200\001" +
+            "\001\200\200\001\200\001\001\200\001\200\200\200\200\001\200\001\001\200\001\200\001\001\001\200\001\200" +
+            "\001\001\001\001\001\001\200";
+
+    static final String fullValues =
+            "\u2145>\u22d9\u226b\u2111<\u22d8\u226a\u039c\u039d\u2a54\u03a0\u2abb\u211c\u2abc\u039e\u223e\u2061\u2248" +
+            "\u2146\u2147\u2a9a\u2a99\u2267\u2265\u226b\u2277>\u2063\u2148\u2208\u2062\u2266\u2264\u2276\u226a<\u2213" +
+            "\u03bc\u2260\u220b\u03bd\u24c8\u2228\u03c0\261\u227a\u211e\u227b\u2118\u2240\u03be&\u0410\ud835\udd04" +
+            "\u2a53\u0411\ud835\udd05\u22d2\u212d\u03a7\u22d3\u0414\u2207\ud835\udd07\250\u014a\320\u042d\ud835\udd08" +
+            "\u0397\u0424\ud835\udd09\u0413\ud835\udd0a^\u210c\u0418\u2111\u222c\u0419\ud835\udd0d\u041a\ud835\udd0e" +
+            "\u041b\ud835\udd0f\u21b0\u2905\u041c\ud835\udd10\u041d\ud835\udd11\u2aec\u041e\ud835\udd12\u041f\ud835" +
+            "\udd13\u03a6\u03a8\ud835\udd14\256\u0420\u211c\u03a1\u21b1\u0421\ud835\udd16\u22d0\u2211\u22d1\011\u03a4" +
+            "\u0422\ud835\udd17\u0423\ud835\udd18\u0412\u22c1\ud835\udd19\ud835\udd1a\ud835\udd1b\u042b\ud835\udd1c" +
+            "\u0417\u2128\u223f\u0430\ud835\udd1e&\u2227\u2220\u2a70\u224a*\u0431\ud835\udd1f\u22a5\u2229\ud835\udd20" +
+            "\u03c7\u25cb\u222a\u0434\260\ud835\udd21\250\367\u02d9\u044d\ud835\udd22\u2a96\u2113\u2a95\u014b\u03b7" +
+            "\360\u0444\ud835\udd23\u2a8c\u2a86\u0433\u22db\u2265\u2a7e\ud835\udd24\u22d9\u2a92\u2aa5\u2aa4\u2269\u2a88" +
+            "\ud835\udd25\u0438\u21d4\ud835\udd26\u222b\u0439\ud835\udd27\u043a\ud835\udd28\u2a8b\u2a85\u2aab\u043b" +
+            "\u22da\u2264\u2a7d\ud835\udd29\u2a91\u2268\u2a87\u25ca\u200e\u21b0\u21a6\u043c\ud835\udd2a\u2127\u2223" +
+            "\u2249\u043d\ud835\udd2b\u2271\u226f\u22fc\u220b\u2270\u226e\254\u2280\u2281#\u043e\ud835\udd2c\u29c1" +
+            "\u03a9\u29c0\u2a5d\u2a5b\u2225\u043f\ud835\udd2d\u03c6\u03d6\u2ab3\u2aaf\u03c8\ud835\udd2e\u0440\256\ud835" +
+            "\udd2f\u03c1\u200f\u21b1\u2ab4\u2ab0\u0441\ud835\udd30\255\u223c\u2aaa/\u25a1\u2282\u2211\u2283\u03c4" +
+            "\u0442\ud835\udd31\u22a4\u0443\ud835\udd32\250\u0432\u2228\ud835\udd33\ud835\udd34\ud835\udd35\u044b\245" +
+            "\ud835\udd36\u0437\ud835\udd37\u200d\ud835\udd38\ud835\udc9c\304\u2ae7\u0392\ud835\udd39\u212c\u0427\251" +
+            "\u010a\u2102\ud835\udc9e\u0402\u0405\u040f\u21a1\ud835\udd3b\ud835\udc9f\u0116\ud835\udd3c\u2130\u2a73" +
+            "\313\ud835\udd3d\u2131\u0403\u0120\ud835\udd3e\ud835\udca2\u210d\u210b\u0415\u0401\u0130\ud835\udd40\u0399" +
+            "\u2110\317\ud835\udd41\ud835\udca5\u0425\u040c\ud835\udd42\ud835\udca6\u0409\u27ea\u219e\ud835\udd43\u2112" +
+            "\ud835\udd44\u2133\u040a\u2115\ud835\udca9\ud835\udd46\ud835\udcaa\326\u2119\ud835\udcab\"\u211a\ud835" +
+            "\udcac\u27eb\u21a0\u211d\u211b\u0428\ud835\udd4a\u221a\ud835\udcae\u22c6\u0426\ud835\udd4b\ud835\udcaf" +
+            "\u219f\ud835\udd4c\u03d2\ud835\udcb0\334\u2aeb\u2016\ud835\udd4d\ud835\udcb1\ud835\udd4e\ud835\udcb2\ud835" +
+            "\udd4f\ud835\udcb3\u042f\u0407\u042e\ud835\udd50\ud835\udcb4\u0178\u0416\u017b\u0396\u2124\ud835\udcb5" +
+            "\u2a5c\u2a5a\u29a4\ud835\udd52\u224b'\ud835\udcb6\344\u2aed\u23b5\u03b2\u2136\u2310\ud835\udd53\u2550" +
+            "\u2551\u2500\u2502\ud835\udcb7\u223d\\\u2022\u224e\u010b\242\u0447\u29c3\u02c6\u2257\u2201\u2245\ud835" +
+            "\udd54\251\ud835\udcb8\u2acf\u2ad0\u21d3\u2965\u2193\u2010\u22c4\u0452\ud835\udd55\ud835\udcb9\u0455\u29f6" +
+            "\u25bf\u045f\u2251\u2256\u0117\u2003\u2002\ud835\udd56\u22d5\u03b5\u212f\u2242\353\u20ac!\u266d\u0192" +
+            "\ud835\udd57\u22d4\ud835\udcbb\u0121\u2267\u0453\u2a8a\u2a88\ud835\udd58\u210a\u2273\u2aa7\u21d4\275\u2194" +
+            "\u210f\ud835\udd59\ud835\udcbd\u0435\u22b7\u0451\ud835\udd5a\u03b9\ud835\udcbe\u2208\357\ud835\udd5b\ud835" +
+            "\udcbf\u0445\u045c\ud835\udd5c\ud835\udcc0\u21d0\u2962\u27e8\u2190\u2aad{\u2936\u21b2\u2266\u0459\u2a89" +
+            "\u2a87\ud835\udd5d\u29eb(\ud835\udcc1\u2272[\u2aa6\u25c3\257\u2642\u2720\u2adb\u2026\ud835\udd5e\ud835" +
+            "\udcc2\240\u2a43\u2a42\u2271\u226f\u22fa\u045a\u2025\u2270\u2224\ud835\udd5f\u2226\ud835\udcc3\u2241\u2284" +
+            "\u2285\u2279\u2278\u229b\u229a\u2a38\u2299\u02db\u222e\u29b6\ud835\udd60\u29b7\252\272\u2a56\u2134\u2298" +
+            "\366\266\u2202\u22a5\u03d5+\ud835\udd61\u2ab7\u227a\u2ab5\u220f\u221d\ud835\udcc5\u2a0c\ud835\udd62\ud835" +
+            "\udcc6\"\u21d2\u2964\u27e9\u2192}\u2937\u21b3\u211c\u25ad\u03f1\u02da\ud835\udd63)\ud835\udcc7]\u25b9" +
+            "\u2ab8\u2ab6\u22c5\247;\u2736\u0448\u2243\u2a9e\u2a9d\u2223\u2aac\u29c4\ud835\udd64\u2225\u25aa\ud835" +
+            "\udcc8\u2606\u2ac5\u2286\u227b\u266a\271\262\263\u2ac6\u2287\u23b4\u20db\u222d\u2928\ud835\udd65\u2929" +
+            "\u225c\ud835\udcc9\u0446\u21d1\u2963\u2191\ud835\udd66\u03c5\ud835\udcca\u25b5\374\u21d5\u2ae8\u2195|" +
+            "\ud835\udd67\ud835\udccb\ud835\udd68\ud835\udccc\u22c2\u22c3\u27fc\u22fb\ud835\udd69\ud835\udccd\u22c1" +
+            "\u044f\u0457\ud835\udd6a\ud835\udcce\u044e\377\u017c\u03b6\u0436\ud835\udd6b\ud835\udccf\u200c\306\302" +
+            "\u0391\u0100\u0104\305\u02d8\u0108\u2237\u2a2f\u2ae4\u0394\312\u0112\u0118\u2a75\u0393\u011c\u02c7\u0124" +
+            "\u0132\316\u012a\u012e\u0406\u0134\u0404\u039a\u0152\324\u014c\u03a9\u2033\u2910\u015c\u03a3\336\u2122" +
+            "\u040b\u0398\u223c\u040e\333\u016a\u22c3\u0172\u22a5\u016e\u22ab\u22a9\u0174\u22c0\u0176\342\264\346\u2135" +
+            "\u03b1\u0101\u2a3f\u2220\u221f\305\u0105\345\u2248\u2a11\u224c\u201e\u03f6\u2423\u2592\u2591\u2593\u2588" +
+            "\u2557\u2554\u2556\u2553\u2566\u2569\u2564\u2567\u255d\u255a\u255c\u2559\u256c\u2563\u2560\u256b\u2562" +
+            "\u255f\u2555\u2552\u2510\u250c\u2565\u2568\u252c\u2534\u255b\u2558\u2518\u2514\u256a\u2561\u255e\u253c" +
+            "\u2524\u251c\u02d8\u204f\u22cd\u29c5\u2aae\u224f\u2041\u02c7\u2a4d\u0109\u2a4c\270\u2713\u2663:,\u21b5" +
+            "\u2717\u2ad1\u2ad2\u22ef\u22de\u22df\u2a45\u22ce\u22cf\u2231\u22a3\u02dd\u21ca\u03b4\u21c3\u21c2\u2666" +
+            "\u22f2\u2250\u22f1\u25be\u21f5\u296f\u2a77\352\u2252\u0113\u2205\u0119\u2a71\u03f5\u2242\u2261\u2253\u2971" +
+            "\u2250\u2203\ufb00\ufb01\ufb02\u25b1\u2ad9\u2044\u2322\u03b3\u011d\u2aa9\u2137\u2269\u22e7`\u2a8e\u2a90" +
+            "\u2a7a\u22d7\u21ad\u0125\u21ff\356\241\u222d\u2129\u0133\u012b\u2111\u0131\u01b5\u221e\u012f\u2a3c\u22f9" +
+            "\u22f4\u2208\u0456\u0135\u0237\u0454\u03ba\u21da\u290e\u2991\253\u21e4\u290c\u2772\u298b\u2308\u201c\u2aa8" +
+            "\u21bd\u21bc\u2584\u21c7\u25fa\u2268\u22e6\u27ec\u21fd\u27e6\u2985\u21c6\u21cb\u22bf\u2a8d\u2a8f\u2018" +
+            "\u2a79\u22d6\u22b4\u25c2\u223a\u2014\265\u2212\u22b8\u2207\u0149\u266e\u2247\u2013\u21d7\u2197\u2275\u21ce" +
+            "\u21ae\u2af2\u21cd\u219a\u226e\u2274\u22ea\u2209\u220c\u2280\u21cf\u219b\u22eb\u2244\u2224\u2226\u2288" +
+            "\u2281\u2289\u2007\u21d6\u2196\364\u229d\u0153\u29bf\u29b5\u21ba\u29be\u203e\u014d\u03c9\u29b9\u2295\u21bb" +
+            "\u2134\u233d\u2afd\u260e\u229e\u2a72\243\u227c\u2032\u2ab9\u227e?\u21db\u290f\u221a\u2992\u29a5\273\u21e5" +
+            "\u2933\u219d\u2236\u290d\u2773\u298c\u2309\u201d\u211d\u21c1\u21c0\u21c4\u21cc\u2aee\u27ed\u21fe\u27e7" +
+            "\u2986\u21c9\u2019\u22b5\u25b8\u201a\u227d\u015d\u2aba\u227f\u22a1\u2a66\u21d8\u2198\u2216\u266f\u03c3" +
+            "\u2243\u2aa0\u2a9f\u2246\u2190\u2323\u2293\u2294\u228f\u2290\u2192\u2605\257\u2acb\u228a\u2acc\u228b\u21d9" +
+            "\u2199\337\u03b8\u2248\376\u02dc\327\u2122\u29cd\u045b\u226c\u045e\373\u21c5\u296e\u21bf\u21be\u2580\u25f8" +
+            "\u016b\u0173\u228e\u03d2\u016f\u25f9\u22f0\u25b4\u21c8\u2ae9\u22a8\u03d6\u22a2\u225a\u22b2\u221d\u22b3" +
+            "\u0175\u2227\u25ef\u25bd\u27fa\u27f7\u27f8\u27f5\u2a00\u27f9\u27f6\u25b3\u0177\301\u0102\300\u2254\303" +
+            "\u2306\u224e\u0106\u010c\307\u2a74\u222f\u224d\u2021\u010e\u20dc\u0110\311\u011a\310\u2203\u2200\u03dc" +
+            "\u011e\u0122\u042a\u0126\315\314\u0128\u0408\u0136\u0139\u039b\u013d\u013b\u013f\u0141\u0143\u0147\u0145" +
+            "\321\323\u0150\322\330\325\u2a37\u0154\u2916\u0158\u0156\u0429\u042c\u015a\u0160\u015e\u25a1\u22d0\u22d1" +
+            "\u0164\u0162\u0166\332\u016c\u0170\331\u0168\u2ae6\u2016\u22aa\335\u0179\u017d\341\u0103\340\u2a55\u2221" +
+            "\u2222\u2a6f\u2248\343\u22bd\u2305\u2235\u212c\u22c2\u22c3\u22c1\u290d\u22a5\u22c8\u29c9\u2035\246\u2022" +
+            "\u224f\u0107\u2a44\u2a4b\u2a47\u2a40\u010d\347\u2257\u2aef\u2254@\u2218\u222e\u2210\u2117\u21b6\u2a46" +
+            "\u2a4a\u228d\u21b7\244\u232d\u2020\u2138\u010f\u297f\367\u22c7\u231e\u230d$\u231f\u230c\u0111\351\u2a6e" +
+            "\u011b\u2255\350\u2a98\u2a97\u2205\u2004\u2005\u29e3\u2256=\u225f\u2640\ufb03\ufb04\u2200\275\u2153\274" +
+            "\u2155\u2159\u215b\u2154\u2156\276\u2157\u215c\u2158\u215a\u215d\u215e\u01f5\u03dd\u011f\u2a80\u2a94\u2995" +
+            "\u2978\u22d7\u2273\u200a\u210b\u044a\u2665\u2026\u22b9\u223b\u2015\u210f\u0127\u2043\u2010\355\354\u2a0c" +
+            "\u29dc\u2105\u0131\u22ba\277\u22f3\u0129\u0458\u03f0\u0137\u0138\u291b\u013a\u2112\u03bb\u27e8\u291d\u21a9" +
+            "\u21ab\u2939\u21a2\u2919{[\u013e\u013c\u201e\u2a7f\u2a93\u297c\u230a\u296a\u296b\u0140\u23b0\u2a2d\u2217" +
+            "_\u2993\u296d\u2039\u201a\u0142\u22cb\u22c9\u2976\u2996\u21a6\u25ae\u2a29*\u2af0\267\u229f\u2238\u2213" +
+            "\u22a7\u223e\u22af\u22ae\u0144\u0148\u0146\u2924\u2262\u2928\u2204\u22ec\u22e0\u22ed\u22e1\u2244\361\u2116" +
+            "\u22ad\u2904\u22ac\u2902\u2903\u2923\u2927\363\u0151\u29bc\362\u2296\u22b6\370\365\u2297\u2af3%.\u2030" +
+            "\u2133\u210f\u210f\u2214\u2a25\261\u2aaf\u2119\u22e8\u221d\u22b0\u2008\u2057\u291c\u0155\u27e9\u2975\u291e" +
+            "\u21aa\u21ac\u2945\u21a3\u291a}]\u0159\u0157\u201d\u297d\u230b\u296c\u23b1\u2a2e\u2994\u203a\u2019\u22cc" +
+            "\u22ca\u015b\u0161\u015f\u22e9\u2925\u2929\u2322\u0449\u03c2\u03c2\u2a6a\u2a33\u044c\u233f\u2660\u2291" +
+            "\u2292\u25a1\u25aa\u2216\u2323\u22c6\u2abd\u2282\u2ac7\u2ad5\u2ad3\u2ab0\u2abe\u2283\u2ac8\u2ad4\u2ad6" +
+            "\u2926\u292a\u2316\u0165\u0163\u2315\u2234\u03d1\u2009\u223c\u22a0\u2a30\u2336\u2af1\u2034\u25ec\u0167" +
+            "\372\u016d\u0171\u297e\371\u231c\u230f\u231d\u230e\u0169\u299c\u03d5\u03f1\u22bb\u22ee|\u2a5f\u2259\u2118" +
+            "\u2240\u2a01\u2a02\u2a06\u2a04\u22c0\375\u017a\u017e\u2128\u2235\u212d\u2230\270\u22c4\u22a4\u2208\u0395" +
+            "\u21d2\u22a3\012\u2060\u226e\u039f\u203e\u220f\u2191\u21d1\u03a5\u2135\u22be\u237c\u224d\u223d\u2235\u29b0" +
+            "\u226c\u25ef\u2a00\u2605\u229e\u2a50\u29b2\u29c2\u2254\u2a6d\u2938\u2935\u293d\u293c\u290f\u2021\u2a77" +
+            "\u29b1\u22c4\u03dd\u2214\u29a6\u03b5\u2255\u2a78\u2a82\u2a7c\u2277\u2948\u2a3c\u22f5\u291f\u2973\u298f" +
+            "\u298d\u2967\u2a81\u22d6\u2276\u2272\u2a34\u25ca\u2a7b\u2966\u2720\u2a2a\u2249\u266e\u2197\u2204\u2209" +
+            "\u22f7\u22f6\u220c\u22fe\u22fd\u2a14\u22e2\u22e3\u29de\u2196\u29bb\u03bf\u2134\u2a57\u2031\u210e\u2a22" +
+            "\u2a26\u2a27\u227e\u2a16\u225f\u2920\u2974\u298e\u2990\u2969\u211b\u2a35\u2968\u2198\u2a24\u2972\u2ac3" +
+            "\u2ac1\u2abf\u2979\u227f\u2ad8\u2ac4\u27c9\u2ad7\u297b\u2ac2\u2ac0\u2199\u2ada\u2a39\u2a3b\u2191\u03c5" +
+            "\u29a7\u299a\u21dd\u2911\u2250\u222b\u2aa1\u2260\u2241\u2202\u227a\u22a2\u227b\u220b\u2283\u2949_\u2a58" +
+            "\u29a8\u29a9\u29aa\u29ab\u29ac\u29ad\u29ae\u29af\u299d\u224a\u2233\u224c\u2305\u23b6\u2a01\u2a06\u2a04" +
+            "\u22c0\u229f\u22a0\u27c8\u2a49\256\u24c8\u2a10\u2663\u2a48\u22ce\u2232\u2251\u2238\u2910\u27ff\u23e7\u2205" +
+            "\u29e5\u2a0d\u2a7e\u2a84\u2a8a\u2925\u2926\u2110\u2111\u29dd\u2124\u22ba\u2a17\u29b4\u294b\u2a7d\u2a83" +
+            "\u231e\u2a89\u231f\u294a\u21a5\u22b8\u2115\u2a36\u2225\u2a23\u2a15\u2ab5\u22e8\u232e\u2312\u2313\u29b3" +
+            "\u211c\u2a12\u29ce\u2a13\u2216\u2223\u29e4\u228f\u2290\u2286\u2ab6\u22e9\u2287\u03d1\u223c\u2a31\u25b5" +
+            "\u2a3a\u23e2\u231c\u231d\u03f0\u03c2\u03d1\u2216\267\u2299\u2261\u2210\250\u2193\u0311\u21d3\u224f\u2190" +
+            "\u230a\u21d0\u2272\u2133\u2213\u226d\u2204\u23de\261\u2234\u2009\u20db\u228e\u2035\u22cd\u2a02\267\u2713" +
+            "\u2102\u22a1\u2193\u2a86\u22db\u2665\u2190\u22da\u2226\u2224\u2288\u2289\u22d4\u211a\u2660\u2ac5\u228a" +
+            "\u2ac6\u228b\u2234\u225c\u221d\u212c\u2295\u2242\u2131\u2148\u2112\u21bc\u21da\u2209\u226f\u2237\u2192" +
+            "\u230b\u21d2\u2243\u2248\u23df\u2912\u21a5\u229b\u2201\u22cf\u2a96\u2a8c\u2a85\u2a8b\u23b0\u27fc\u21a7" +
+            "\u21a4\u21cd\u219a\u2ab7\u2192\u23b1\u2291\u2292\u2acb\u2ab8\u2acc\u21c8\u03f5\u2205\u2296\u2297\u21cc" +
+            "\u2277\u2308\u2276\u205f\u2280\u2281\u23b4\u21c0\u21db\u29f4\u2218\u2294\u2286\u2195\u21d5\u2223\u03f6" +
+            "\u25aa\u229a\u229d\u22de\u22df\u2666\u2a95\u2130\u21cf\u219b\u227c\u2ab9\u210d\u03d5\u227d\u2aba\u2248" +
+            "\u2195\u2913\u21a7\u2147\u2265\u2273\u210b\u224e\u22c2\u21e4\u21a4\u22b2\u21bf\u2262\u2270\u2274\u221d" +
+            "\u2309\u2970\u2191\u228f\u23b5|\u29eb\u2147\u2253\u25bf\u25c3\u2061\u2146\u2ae4\u21d1\u295a\u2952\u2266" +
+            "\u27f5\u27f8\u2244\u2249\u210c\u2aaf\u227e\u21e5\u21a6\u22b3\u21be\u2ab0\u227f\u2287\u296e\u2240\u200a" +
+            "\u25b3\u25b4\u22c7\u2252\u21a9\u21a2\u21bc\u27f5\u21ab\u2221\u22ea\u2225\u2216\u25b9\u21bf\u02d9\u22a8" +
+            "\u21bd\u2aa2\u2500\u2063\u2062\u21c3\u2194\u21d4\u2a7d\u27f6\u27f9\u2199\u226a\u2279\u2278\u2288\u2224" +
+            "\u2018\u220b\u295b\u2953\u2193\u2190\u2290\u2245\u2196\u200b\u21b6\u2306\u21ca\u21aa\u21c7\u2194\u22cb" +
+            "\u27f6\u21ac\u2226\u22eb\u21a3\u21c0\u22b4\u21be\u2019\u222e\u21d3\u21d0\u21c1\u294e\u29cf\u2960\u2958" +
+            "\u2198\u2271\u2275\u22ea\u23dc\u21c2\u2192\u2197\u25bd\u21ba\u21b7\u21c3\u21bd\u21c6\u21ce\u21ae\u22ec" +
+            "\u21c4\u219d\u22cc\u03f5\u22b5\u22b2\264`\u02dc\u21d2\u21f5\u25fb\u22db\u2267\u27e8\u2951\u22da\240\u22eb" +
+            "\u2289\u29d0\u295c\u2954\u23dd\u21c5\u21bb\u21c2\u22ed\u21c1\u21c9\u219e\u22b3\u21d5\u2225\u295e\u2956" +
+            "\u25fc\u2a7e\u27e6\u2961\u2959\u22b4\u200b\u220c\u2247\u27e9\u294f\u2291\u2758\u25be\u25c2\u21cb\u21cc" +
+            "\u21a0\u295f\u2957\u27f7\u27fa\u200b\u227c\u21cb\u27e7\u295d\u2955\u22b5\u2293\u227d\u25b8\u27f7\u27f8" +
+            "\u2950\u21c6\u200b\u21c4\u2292\u21ad\u2145\u21d4\u27f9\u25ab\u226b\u2226\u22ec\u22e2\u201c\u296f\u201d" +
+            "\u222f\u25aa\u200b\u22e0\u22ed\u22e1\u02dd\u22e3\u2232\u27fa\u2233";
+
+    static final String fullValueLengths =
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\002\001\001\002\001\001\001\001\001\001\002\001\001\001\001\002\001\001\002\001\002\001\001\001" +
+            "\001\001\001\002\001\002\001\002\001\001\001\002\001\002\001\001\002\001\002\001\001\002\001\001\001\001" +
+            "\001\001\002\001\001\001\001\001\001\002\001\002\001\001\002\002\002\001\002\001\001\001\001\002\001\001" +
+            "\001\001\001\001\001\002\001\001\002\001\001\001\001\001\002\001\001\001\001\002\001\001\001\001\001\001" +
+            "\001\002\001\001\001\001\001\001\002\001\001\001\001\001\001\002\001\001\002\001\001\002\001\002\001\001" +
+            "\001\001\001\001\001\002\001\001\001\001\001\001\001\001\002\001\001\001\001\002\001\001\001\001\001\001" +
+            "\001\001\001\001\001\002\001\001\001\001\001\001\001\002\001\001\001\001\001\002\001\001\002\001\001\001" +
+            "\001\001\001\002\001\001\001\001\001\001\001\001\001\001\002\001\001\002\001\001\001\002\002\002\001\001" +
+            "\002\001\002\001\002\002\001\001\001\002\001\001\001\001\001\002\001\001\001\001\002\002\001\002\001\001" +
+            "\001\002\001\001\001\002\002\001\001\001\001\001\002\001\001\001\002\002\001\001\002\002\001\001\001\002" +
+            "\001\002\001\001\001\002\002\002\001\001\002\001\001\002\001\001\001\001\001\002\001\002\001\001\002\002" +
+            "\001\002\001\002\001\001\001\002\002\002\002\002\002\001\001\001\002\002\001\001\001\001\001\002\001\001" +
+            "\001\002\001\001\002\001\001\001\001\001\001\002\001\001\001\001\002\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\002\001\002\001\001\001\001\001\001\001\001\002\002\001\001\001\001\001\001\001\001\001\002" +
+            "\001\001\001\001\001\001\001\001\001\002\001\002\001\001\001\001\001\002\001\001\001\001\001\001\001\002" +
+            "\002\001\001\001\002\001\002\001\001\002\002\001\001\002\002\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\002\001\001\002\001\001\001\001\001\001\001\001\001\002\002\001\001\001\001\001\001\001\001\001\001" +
+            "\002\001\002\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\002\001\001\001\001\001\002\001\002\002\001\001\001\001\001\001\001\001\001\001\001\001\002\001" +
+            "\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\002\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\002\001\001\002\001\001\001\001\002\001\002\001\001\001\001\001\001\002" +
+            "\002\002\002\001\001\001\001\002\002\001\001\001\002\002\001\001\001\001\001\002\002\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001" +
+            "\001\001\001\001";
+
+    static final String fullEscapeCodes =
+            "\011\012!\"#$%&'()*+,./:;<=>?@[\\]^_`{|}\240\241\242\243\244\245\246\247\250\251\252\253\254\255\256\257" +
+            "\260\261\262\263\264\265\266\267\270\271\272\273\274\275\276\277\300\301\302\303\304\305\306\307\310\311" +
+            "\312\313\314\315\316\317\320\321\322\323\324\325\326\327\330\331\332\333\334\335\336\337\340\341\342\343" +
+            "\344\345\346\347\350\351\352\353\354\355\356\357\360\361\362\363\364\365\366\367\370\371\372\373\374\375" +
+            "\376\377\u0100\u0101\u0102\u0103\u0104\u0105\u0106\u0107\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f" +
+            "\u0110\u0111\u0112\u0113\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f\u0120\u0121\u0122" +
+            "\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136" +
+            "\u0137\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143\u0144\u0145\u0146\u0147" +
+            "\u0148\u0149\u014a\u014b\u014c\u014d\u0150\u0151\u0152\u0153\u0154\u0155\u0156\u0157\u0158\u0159\u015a" +
+            "\u015b\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163\u0164\u0165\u0166\u0167\u0168\u0169\u016a\u016b" +
+            "\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c" +
+            "\u017d\u017e\u0192\u01b5\u01f5\u0237\u02c6\u02c7\u02d8\u02d9\u02da\u02db\u02dc\u02dd\u0311\u0391\u0392" +
+            "\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a3\u03a4" +
+            "\u03a5\u03a6\u03a7\u03a8\u03a9\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc" +
+            "\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03d1\u03d2\u03d5\u03d6" +
+            "\u03dc\u03dd\u03f0\u03f1\u03f5\u03f6\u0401\u0402\u0403\u0404\u0405\u0406\u0407\u0408\u0409\u040a\u040b" +
+            "\u040c\u040e\u040f\u0410\u0411\u0412\u0413\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d" +
+            "\u041e\u041f\u0420\u0421\u0422\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b\u042c\u042d\u042e" +
+            "\u042f\u0430\u0431\u0432\u0433\u0434\u0435\u0436\u0437\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f" +
+            "\u0440\u0441\u0442\u0443\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f\u0451" +
+            "\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b\u045c\u045e\u045f\u2002\u2003\u2004\u2005" +
+            "\u2007\u2008\u2009\u200a\u200b\u200c\u200d\u200e\u200f\u2010\u2013\u2014\u2015\u2016\u2018\u2019\u201a" +
+            "\u201c\u201d\u201e\u2020\u2021\u2022\u2025\u2026\u2030\u2031\u2032\u2033\u2034\u2035\u2039\u203a\u203e" +
+            "\u2041\u2043\u2044\u204f\u2057\u205f\u2060\u2061\u2062\u2063\u20ac\u20db\u20dc\u2102\u2105\u210a\u210b" +
+            "\u210c\u210d\u210e\u210f\u2110\u2111\u2112\u2113\u2115\u2116\u2117\u2118\u2119\u211a\u211b\u211c\u211d" +
+            "\u211e\u2122\u2124\u2127\u2128\u2129\u212c\u212d\u212f\u2130\u2131\u2133\u2134\u2135\u2136\u2137\u2138" +
+            "\u2145\u2146\u2147\u2148\u2153\u2154\u2155\u2156\u2157\u2158\u2159\u215a\u215b\u215c\u215d\u215e\u2190" +
+            "\u2191\u2192\u2193\u2194\u2195\u2196\u2197\u2198\u2199\u219a\u219b\u219d\u219e\u219f\u21a0\u21a1\u21a2" +
+            "\u21a3\u21a4\u21a5\u21a6\u21a7\u21a9\u21aa\u21ab\u21ac\u21ad\u21ae\u21b0\u21b1\u21b2\u21b3\u21b5\u21b6" +
+            "\u21b7\u21ba\u21bb\u21bc\u21bd\u21be\u21bf\u21c0\u21c1\u21c2\u21c3\u21c4\u21c5\u21c6\u21c7\u21c8\u21c9" +
+            "\u21ca\u21cb\u21cc\u21cd\u21ce\u21cf\u21d0\u21d1\u21d2\u21d3\u21d4\u21d5\u21d6\u21d7\u21d8\u21d9\u21da" +
+            "\u21db\u21dd\u21e4\u21e5\u21f5\u21fd\u21fe\u21ff\u2200\u2201\u2202\u2203\u2204\u2205\u2207\u2208\u2209" +
+            "\u220b\u220c\u220f\u2210\u2211\u2212\u2213\u2214\u2216\u2217\u2218\u221a\u221d\u221e\u221f\u2220\u2221" +
+            "\u2222\u2223\u2224\u2225\u2226\u2227\u2228\u2229\u222a\u222b\u222c\u222d\u222e\u222f\u2230\u2231\u2232" +
+            "\u2233\u2234\u2235\u2236\u2237\u2238\u223a\u223b\u223c\u223d\u223e\u223f\u2240\u2241\u2242\u2243\u2244" +
+            "\u2245\u2246\u2247\u2248\u2249\u224a\u224b\u224c\u224d\u224e\u224f\u2250\u2251\u2252\u2253\u2254\u2255" +
+            "\u2256\u2257\u2259\u225a\u225c\u225f\u2260\u2261\u2262\u2264\u2265\u2266\u2267\u2268\u2269\u226a\u226b" +
+            "\u226c\u226d\u226e\u226f\u2270\u2271\u2272\u2273\u2274\u2275\u2276\u2277\u2278\u2279\u227a\u227b\u227c" +
+            "\u227d\u227e\u227f\u2280\u2281\u2282\u2283\u2284\u2285\u2286\u2287\u2288\u2289\u228a\u228b\u228d\u228e" +
+            "\u228f\u2290\u2291\u2292\u2293\u2294\u2295\u2296\u2297\u2298\u2299\u229a\u229b\u229d\u229e\u229f\u22a0" +
+            "\u22a1\u22a2\u22a3\u22a4\u22a5\u22a7\u22a8\u22a9\u22aa\u22ab\u22ac\u22ad\u22ae\u22af\u22b0\u22b2\u22b3" +
+            "\u22b4\u22b5\u22b6\u22b7\u22b8\u22b9\u22ba\u22bb\u22bd\u22be\u22bf\u22c0\u22c1\u22c2\u22c3\u22c4\u22c5" +
+            "\u22c6\u22c7\u22c8\u22c9\u22ca\u22cb\u22cc\u22cd\u22ce\u22cf\u22d0\u22d1\u22d2\u22d3\u22d4\u22d5\u22d6" +
+            "\u22d7\u22d8\u22d9\u22da\u22db\u22de\u22df\u22e0\u22e1\u22e2\u22e3\u22e6\u22e7\u22e8\u22e9\u22ea\u22eb" +
+            "\u22ec\u22ed\u22ee\u22ef\u22f0\u22f1\u22f2\u22f3\u22f4\u22f5\u22f6\u22f7\u22f9\u22fa\u22fb\u22fc\u22fd" +
+            "\u22fe\u2305\u2306\u2308\u2309\u230a\u230b\u230c\u230d\u230e\u230f\u2310\u2312\u2313\u2315\u2316\u231c" +
+            "\u231d\u231e\u231f\u2322\u2323\u232d\u232e\u2336\u233d\u233f\u237c\u23b0\u23b1\u23b4\u23b5\u23b6\u23dc" +
+            "\u23dd\u23de\u23df\u23e2\u23e7\u2423\u24c8\u2500\u2502\u250c\u2510\u2514\u2518\u251c\u2524\u252c\u2534" +
+            "\u253c\u2550\u2551\u2552\u2553\u2554\u2555\u2556\u2557\u2558\u2559\u255a\u255b\u255c\u255d\u255e\u255f" +
+            "\u2560\u2561\u2562\u2563\u2564\u2565\u2566\u2567\u2568\u2569\u256a\u256b\u256c\u2580\u2584\u2588\u2591" +
+            "\u2592\u2593\u25a1\u25aa\u25ab\u25ad\u25ae\u25b1\u25b3\u25b4\u25b5\u25b8\u25b9\u25bd\u25be\u25bf\u25c2" +
+            "\u25c3\u25ca\u25cb\u25ec\u25ef\u25f8\u25f9\u25fa\u25fb\u25fc\u2605\u2606\u260e\u2640\u2642\u2660\u2663" +
+            "\u2665\u2666\u266a\u266d\u266e\u266f\u2713\u2717\u2720\u2736\u2758\u2772\u2773\u27c8\u27c9\u27e6\u27e7" +
+            "\u27e8\u27e9\u27ea\u27eb\u27ec\u27ed\u27f5\u27f6\u27f7\u27f8\u27f9\u27fa\u27fc\u27ff\u2902\u2903\u2904" +
+            "\u2905\u290c\u290d\u290e\u290f\u2910\u2911\u2912\u2913\u2916\u2919\u291a\u291b\u291c\u291d\u291e\u291f" +
+            "\u2920\u2923\u2924\u2925\u2926\u2927\u2928\u2929\u292a\u2933\u2935\u2936\u2937\u2938\u2939\u293c\u293d" +
+            "\u2945\u2948\u2949\u294a\u294b\u294e\u294f\u2950\u2951\u2952\u2953\u2954\u2955\u2956\u2957\u2958\u2959" +
+            "\u295a\u295b\u295c\u295d\u295e\u295f\u2960\u2961\u2962\u2963\u2964\u2965\u2966\u2967\u2968\u2969\u296a" +
+            "\u296b\u296c\u296d\u296e\u296f\u2970\u2971\u2972\u2973\u2974\u2975\u2976\u2978\u2979\u297b\u297c\u297d" +
+            "\u297e\u297f\u2985\u2986\u298b\u298c\u298d\u298e\u298f\u2990\u2991\u2992\u2993\u2994\u2995\u2996\u299a" +
+            "\u299c\u299d\u29a4\u29a5\u29a6\u29a7\u29a8\u29a9\u29aa\u29ab\u29ac\u29ad\u29ae\u29af\u29b0\u29b1\u29b2" +
+            "\u29b3\u29b4\u29b5\u29b6\u29b7\u29b9\u29bb\u29bc\u29be\u29bf\u29c0\u29c1\u29c2\u29c3\u29c4\u29c5\u29c9" +
+            "\u29cd\u29ce\u29cf\u29d0\u29dc\u29dd\u29de\u29e3\u29e4\u29e5\u29eb\u29f4\u29f6\u2a00\u2a01\u2a02\u2a04" +
+            "\u2a06\u2a0c\u2a0d\u2a10\u2a11\u2a12\u2a13\u2a14\u2a15\u2a16\u2a17\u2a22\u2a23\u2a24\u2a25\u2a26\u2a27" +
+            "\u2a29\u2a2a\u2a2d\u2a2e\u2a2f\u2a30\u2a31\u2a33\u2a34\u2a35\u2a36\u2a37\u2a38\u2a39\u2a3a\u2a3b\u2a3c" +
+            "\u2a3f\u2a40\u2a42\u2a43\u2a44\u2a45\u2a46\u2a47\u2a48\u2a49\u2a4a\u2a4b\u2a4c\u2a4d\u2a50\u2a53\u2a54" +
+            "\u2a55\u2a56\u2a57\u2a58\u2a5a\u2a5b\u2a5c\u2a5d\u2a5f\u2a66\u2a6a\u2a6d\u2a6e\u2a6f\u2a70\u2a71\u2a72" +
+            "\u2a73\u2a74\u2a75\u2a77\u2a78\u2a79\u2a7a\u2a7b\u2a7c\u2a7d\u2a7e\u2a7f\u2a80\u2a81\u2a82\u2a83\u2a84" +
+            "\u2a85\u2a86\u2a87\u2a88\u2a89\u2a8a\u2a8b\u2a8c\u2a8d\u2a8e\u2a8f\u2a90\u2a91\u2a92\u2a93\u2a94\u2a95" +
+            "\u2a96\u2a97\u2a98\u2a99\u2a9a\u2a9d\u2a9e\u2a9f\u2aa0\u2aa1\u2aa2\u2aa4\u2aa5\u2aa6\u2aa7\u2aa8\u2aa9" +
+            "\u2aaa\u2aab\u2aac\u2aad\u2aae\u2aaf\u2ab0\u2ab3\u2ab4\u2ab5\u2ab6\u2ab7\u2ab8\u2ab9\u2aba\u2abb\u2abc" +
+            "\u2abd\u2abe\u2abf\u2ac0\u2ac1\u2ac2\u2ac3\u2ac4\u2ac5\u2ac6\u2ac7\u2ac8\u2acb\u2acc\u2acf\u2ad0\u2ad1" +
+            "\u2ad2\u2ad3\u2ad4\u2ad5\u2ad6\u2ad7\u2ad8\u2ad9\u2ada\u2adb\u2ae4\u2ae6\u2ae7\u2ae8\u2ae9\u2aeb\u2aec" +
+            "\u2aed\u2aee\u2aef\u2af0\u2af1\u2af2\u2af3\u2afd\ufb00\ufb01\ufb02\ufb03\ufb04\ud835\udc9c\ud835\udc9e" +
+            "\ud835\udc9f\ud835\udca2\ud835\udca5\ud835\udca6\ud835\udca9\ud835\udcaa\ud835\udcab\ud835\udcac\ud835" +
+            "\udcae\ud835\udcaf\ud835\udcb0\ud835\udcb1\ud835\udcb2\ud835\udcb3\ud835\udcb4\ud835\udcb5\ud835\udcb6" +
+            "\ud835\udcb7\ud835\udcb8\ud835\udcb9\ud835\udcbb\ud835\udcbd\ud835\udcbe\ud835\udcbf\ud835\udcc0\ud835" +
+            "\udcc1\ud835\udcc2\ud835\udcc3\ud835\udcc5\ud835\udcc6\ud835\udcc7\ud835\udcc8\ud835\udcc9\ud835\udcca" +
+            "\ud835\udccb\ud835\udccc\ud835\udccd\ud835\udcce\ud835\udccf\ud835\udd04\ud835\udd05\ud835\udd07\ud835" +
+            "\udd08\ud835\udd09\ud835\udd0a\ud835\udd0d\ud835\udd0e\ud835\udd0f\ud835\udd10\ud835\udd11\ud835\udd12" +
+            "\ud835\udd13\ud835\udd14\ud835\udd16\ud835\udd17\ud835\udd18\ud835\udd19\ud835\udd1a\ud835\udd1b\ud835" +
+            "\udd1c\ud835\udd1e\ud835\udd1f\ud835\udd20\ud835\udd21\ud835\udd22\ud835\udd23\ud835\udd24\ud835\udd25" +
+            "\ud835\udd26\ud835\udd27\ud835\udd28\ud835\udd29\ud835\udd2a\ud835\udd2b\ud835\udd2c\ud835\udd2d\ud835" +
+            "\udd2e\ud835\udd2f\ud835\udd30\ud835\udd31\ud835\udd32\ud835\udd33\ud835\udd34\ud835\udd35\ud835\udd36" +
+            "\ud835\udd37\ud835\udd38\ud835\udd39\ud835\udd3b\ud835\udd3c\ud835\udd3d\ud835\udd3e\ud835\udd40\ud835" +
+            "\udd41\ud835\udd42\ud835\udd43\ud835\udd44\ud835\udd46\ud835\udd4a\ud835\udd4b\ud835\udd4c\ud835\udd4d" +
+            "\ud835\udd4e\ud835\udd4f\ud835\udd50\ud835\udd52\ud835\udd53\ud835\udd54\ud835\udd55\ud835\udd56\ud835" +
+            "\udd57\ud835\udd58\ud835\udd59\ud835\udd5a\ud835\udd5b\ud835\udd5c\ud835\udd5d\ud835\udd5e\ud835\udd5f" +
+            "\ud835\udd60\ud835\udd61\ud835\udd62\ud835\udd63\ud835\udd64\ud835\udd65\ud835\udd66\ud835\udd67\ud835" +
+            "\udd68\ud835\udd69\ud835\udd6a\ud835\udd6b";
+
+    static final String fullEscapes =
+            "&Tab;&NewLine;&excl;&quot;&num;&dollar;&percnt;&amp;&apos;&lpar;&rpar;&ast;&plus;&comma;&period;&sol;" +
+            "&colon;&semi;&lt;&equals;&gt;&quest;&commat;&lsqb;&bsol;&rbrack;&Hat;&lowbar;&grave;&lcub;&vert;&rbra" +
+            "ce;&nbsp;&iexcl;&cent;&pound;&curren;&yen;&brvbar;&sect;&uml;&copy;&ordf;&laquo;&not;&shy;&reg;&strns" +
+            ";&deg;&pm;&sup2;&sup3;&acute;&micro;&para;&middot;&cedil;&sup1;&ordm;&raquo;&frac14;&frac12;&frac34;&" +
+            "iquest;&Agrave;&Aacute;&Acirc;&Atilde;&Auml;&angst;&AElig;&Ccedil;&Egrave;&Eacute;&Ecirc;&Euml;&Igrav" +
+            "e;&Iacute;&Icirc;&Iuml;&ETH;&Ntilde;&Ograve;&Oacute;&Ocirc;&Otilde;&Ouml;&times;&Oslash;&Ugrave;&Uacu" +
+            "te;&Ucirc;&Uuml;&Yacute;&THORN;&szlig;&agrave;&aacute;&acirc;&atilde;&auml;&aring;&aelig;&ccedil;&egr" +
+            "ave;&eacute;&ecirc;&euml;&igrave;&iacute;&icirc;&iuml;&eth;&ntilde;&ograve;&oacute;&ocirc;&otilde;&ou" +
+            "ml;&divide;&oslash;&ugrave;&uacute;&ucirc;&uuml;&yacute;&thorn;&yuml;&Amacr;&amacr;&Abreve;&abreve;&A" +
+            "ogon;&aogon;&Cacute;&cacute;&Ccirc;&ccirc;&Cdot;&cdot;&Ccaron;&ccaron;&Dcaron;&dcaron;&Dstrok;&dstrok" +
+            ";&Emacr;&emacr;&Edot;&edot;&Eogon;&eogon;&Ecaron;&ecaron;&Gcirc;&gcirc;&Gbreve;&gbreve;&Gdot;&gdot;&G" +
+            "cedil;&Hcirc;&hcirc;&Hstrok;&hstrok;&Itilde;&itilde;&Imacr;&imacr;&Iogon;&iogon;&Idot;&imath;&IJlig;&" +
+            "ijlig;&Jcirc;&jcirc;&Kcedil;&kcedil;&kgreen;&Lacute;&lacute;&Lcedil;&lcedil;&Lcaron;&lcaron;&Lmidot;&" +
+            "lmidot;&Lstrok;&lstrok;&Nacute;&nacute;&Ncedil;&ncedil;&Ncaron;&ncaron;&napos;&ENG;&eng;&Omacr;&omacr" +
+            ";&Odblac;&odblac;&OElig;&oelig;&Racute;&racute;&Rcedil;&rcedil;&Rcaron;&rcaron;&Sacute;&sacute;&Scirc" +
+            ";&scirc;&Scedil;&scedil;&Scaron;&scaron;&Tcedil;&tcedil;&Tcaron;&tcaron;&Tstrok;&tstrok;&Utilde;&util" +
+            "de;&Umacr;&umacr;&Ubreve;&ubreve;&Uring;&uring;&Udblac;&udblac;&Uogon;&uogon;&Wcirc;&wcirc;&Ycirc;&yc" +
+            "irc;&Yuml;&Zacute;&zacute;&Zdot;&zdot;&Zcaron;&zcaron;&fnof;&imped;&gacute;&jmath;&circ;&caron;&breve" +
+            ";&dot;&ring;&ogon;&tilde;&dblac;&DownBreve;&Alpha;&Beta;&Gamma;&Delta;&Epsilon;&Zeta;&Eta;&Theta;&Iot" +
+            "a;&Kappa;&Lambda;&Mu;&Nu;&Xi;&Omicron;&Pi;&Rho;&Sigma;&Tau;&Upsilon;&Phi;&Chi;&Psi;&ohm;&alpha;&beta;" +
+            "&gamma;&delta;&epsi;&zeta;&eta;&theta;&iota;&kappa;&lambda;&mu;&nu;&xi;&omicron;&pi;&rho;&varsigma;&s" +
+            "igma;&tau;&upsilon;&phi;&chi;&psi;&omega;&vartheta;&upsih;&phiv;&varpi;&Gammad;&gammad;&varkappa;&rho" +
+            "v;&straightepsilon;&bepsi;&IOcy;&DJcy;&GJcy;&Jukcy;&DScy;&Iukcy;&YIcy;&Jsercy;&LJcy;&NJcy;&TSHcy;&KJc" +
+            "y;&Ubrcy;&DZcy;&Acy;&Bcy;&Vcy;&Gcy;&Dcy;&IEcy;&ZHcy;&Zcy;&Icy;&Jcy;&Kcy;&Lcy;&Mcy;&Ncy;&Ocy;&Pcy;&Rcy" +
+            ";&Scy;&Tcy;&Ucy;&Fcy;&KHcy;&TScy;&CHcy;&SHcy;&SHCHcy;&HARDcy;&Ycy;&SOFTcy;&Ecy;&YUcy;&YAcy;&acy;&bcy;" +
+            "&vcy;&gcy;&dcy;&iecy;&zhcy;&zcy;&icy;&jcy;&kcy;&lcy;&mcy;&ncy;&ocy;&pcy;&rcy;&scy;&tcy;&ucy;&fcy;&khc" +
+            "y;&tscy;&chcy;&shcy;&shchcy;&hardcy;&ycy;&softcy;&ecy;&yucy;&yacy;&iocy;&djcy;&gjcy;&jukcy;&dscy;&iuk" +
+            "cy;&yicy;&jsercy;&ljcy;&njcy;&tshcy;&kjcy;&ubrcy;&dzcy;&ensp;&emsp;&emsp13;&emsp14;&numsp;&puncsp;&th" +
+            "insp;&hairsp;&NegativeThinSpace;&zwnj;&zwj;&lrm;&rlm;&dash;&ndash;&mdash;&horbar;&Verbar;&lsquo;&rsqu" +
+            "o;&lsquor;&ldquo;&rdquo;&bdquo;&dagger;&ddagger;&bullet;&nldr;&mldr;&permil;&pertenk;&prime;&Prime;&t" +
+            "prime;&backprime;&lsaquo;&rsaquo;&oline;&caret;&hybull;&frasl;&bsemi;&qprime;&MediumSpace;&NoBreak;&a" +
+            "f;&it;&ic;&euro;&tdot;&DotDot;&complexes;&incare;&gscr;&hamilt;&Poincareplane;&quaternions;&planckh;&" +
+            "plankv;&imagline;&image;&lagran;&ell;&naturals;&numero;&copysr;&wp;&primes;&rationals;&realine;&real;" +
+            "&reals;&rx;&trade;&integers;&mho;&zeetrf;&iiota;&bernou;&Cayleys;&escr;&expectation;&Fouriertrf;&phmm" +
+            "at;&orderof;&aleph;&beth;&gimel;&daleth;&CapitalDifferentialD;&dd;&exponentiale;&ii;&frac13;&frac23;&" +
+            "frac15;&frac25;&frac35;&frac45;&frac16;&frac56;&frac18;&frac38;&frac58;&frac78;&slarr;&uparrow;&right" +
+            "arrow;&darr;&leftrightarrow;&updownarrow;&nwarr;&nearrow;&searrow;&swarr;&nlarr;&nrightarrow;&rarrw;&" +
+            "twoheadleftarrow;&Uarr;&twoheadrightarrow;&Darr;&leftarrowtail;&rightarrowtail;&mapstoleft;&mapstoup;" +
+            "&map;&mapstodown;&hookleftarrow;&hookrightarrow;&looparrowleft;&looparrowright;&leftrightsquigarrow;&" +
+            "nharr;&lsh;&rsh;&ldsh;&rdsh;&crarr;&curvearrowleft;&curarr;&circlearrowleft;&orarr;&lharu;&leftharpoo" +
+            "ndown;&uharr;&upharpoonleft;&rharu;&rhard;&downharpoonright;&downharpoonleft;&rlarr;&udarr;&leftright" +
+            "arrows;&leftleftarrows;&upuparrows;&rrarr;&downdownarrows;&leftrightharpoons;&rightleftharpoons;&nlAr" +
+            "r;&nLeftrightarrow;&nRightarrow;&DoubleLeftArrow;&DoubleUpArrow;&rArr;&Downarrow;&iff;&Updownarrow;&n" +
+            "wArr;&neArr;&seArr;&swArr;&lAarr;&rAarr;&zigrarr;&larrb;&rarrb;&duarr;&loarr;&roarr;&hoarr;&forall;&c" +
+            "omp;&part;&exist;&nexist;&varnothing;&nabla;&in;&notin;&ni;&notniva;&prod;&coprod;&sum;&minus;&mp;&pl" +
+            "usdo;&setmn;&lowast;&compfn;&radic;&vprop;&infin;&angrt;&angle;&measuredangle;&angsph;&smid;&nmid;&pa" +
+            "rallel;&nparallel;&wedge;&or;&cap;&cup;&int;&Int;&iiint;&oint;&DoubleContourIntegral;&Cconint;&cwint;" +
+            "&cwconint;&awconint;&there4;&because;&ratio;&Proportion;&minusd;&mDDot;&homtht;&thksim;&bsim;&ac;&acd" +
+            ";&wr;&nsim;&esim;&sime;&nsimeq;&cong;&simne;&ncong;&thkap;&nap;&ape;&apid;&bcong;&asympeq;&bump;&bump" +
+            "eq;&doteq;&doteqdot;&fallingdotseq;&risingdotseq;&coloneq;&eqcolon;&eqcirc;&cire;&wedgeq;&veeeq;&tria" +
+            "ngleq;&equest;&ne;&equiv;&nequiv;&le;&geq;&leqq;&geqq;&lneqq;&gneqq;&ll;&gg;&between;&NotCupCap;&nles" +
+            "s;&ngt;&nle;&nge;&lesssim;&gsim;&nlsim;&ngsim;&lg;&gtrless;&ntlg;&ntgl;&pr;&sc;&preccurlyeq;&succcurl" +
+            "yeq;&precsim;&scsim;&nprec;&nsc;&sub;&sup;&nsub;&nsup;&sube;&supe;&nsubseteq;&nsupseteq;&subne;&supse" +
+            "tneq;&cupdot;&uplus;&sqsub;&sqsup;&sqsubseteq;&sqsupseteq;&sqcap;&sqcup;&oplus;&ominus;&otimes;&osol;" +
+            "&odot;&ocir;&oast;&circleddash;&boxplus;&minusb;&timesb;&dotsquare;&vdash;&dashv;&top;&bot;&models;&D" +
+            "oubleRightTee;&Vdash;&Vvdash;&VDash;&nvdash;&nvDash;&nVdash;&nVDash;&prurel;&vltri;&vrtri;&trianglele" +
+            "fteq;&rtrie;&origof;&imof;&multimap;&hercon;&intercal;&veebar;&barvee;&angrtvb;&lrtri;&xwedge;&bigvee" +
+            ";&bigcap;&xcup;&diam;&sdot;&sstarf;&divideontimes;&bowtie;&ltimes;&rtimes;&leftthreetimes;&rthree;&bs" +
+            "ime;&curlyvee;&curlywedge;&Subset;&Sup;&Cap;&Cup;&fork;&epar;&ltdot;&gtdot;&Ll;&ggg;&lesseqgtr;&gel;&" +
+            "curlyeqprec;&cuesc;&nprcue;&nsccue;&nsqsube;&nsqsupe;&lnsim;&gnsim;&prnsim;&scnsim;&nltri;&ntriangler" +
+            "ight;&ntrianglelefteq;&nrtrie;&vellip;&ctdot;&utdot;&dtdot;&disin;&isinsv;&isins;&isindot;&notinvc;&n" +
+            "otinvb;&isinE;&nisd;&xnis;&nis;&notnivc;&notnivb;&barwed;&doublebarwedge;&lceil;&rceil;&lfloor;&rfloo" +
+            "r;&drcrop;&dlcrop;&urcrop;&ulcrop;&bnot;&profline;&profsurf;&telrec;&target;&ulcorner;&urcorn;&llcorn" +
+            "er;&drcorn;&frown;&ssmile;&cylcty;&profalar;&topbot;&ovbar;&solbar;&angzarr;&lmoustache;&rmoust;&tbrk" +
+            ";&bbrk;&bbrktbrk;&OverParenthesis;&UnderParenthesis;&OverBrace;&UnderBrace;&trpezium;&elinters;&blank" +
+            ";&circledS;&boxh;&boxv;&boxdr;&boxdl;&boxur;&boxul;&boxvr;&boxvl;&boxhd;&boxhu;&boxvh;&boxH;&boxV;&bo" +
+            "xdR;&boxDr;&boxDR;&boxdL;&boxDl;&boxDL;&boxuR;&boxUr;&boxUR;&boxuL;&boxUl;&boxUL;&boxvR;&boxVr;&boxVR" +
+            ";&boxvL;&boxVl;&boxVL;&boxHd;&boxhD;&boxHD;&boxHu;&boxhU;&boxHU;&boxvH;&boxVh;&boxVH;&uhblk;&lhblk;&b" +
+            "lock;&blk14;&blk12;&blk34;&squ;&squf;&EmptyVerySmallSquare;&rect;&marker;&fltns;&bigtriangleup;&black" +
+            "triangle;&triangle;&rtrif;&triangleright;&xdtri;&dtrif;&triangledown;&blacktriangleleft;&ltri;&lozeng" +
+            "e;&cir;&tridot;&bigcirc;&ultri;&urtri;&lltri;&EmptySmallSquare;&FilledSmallSquare;&bigstar;&star;&pho" +
+            "ne;&female;&male;&spades;&clubsuit;&hearts;&diamondsuit;&sung;&flat;&natural;&sharp;&check;&cross;&ma" +
+            "ltese;&sext;&VerticalSeparator;&lbbrk;&rbbrk;&bsolhsub;&suphsol;&lobrk;&robrk;&langle;&rang;&Lang;&Ra" +
+            "ng;&loang;&roang;&longleftarrow;&xrarr;&xharr;&DoubleLongLeftArrow;&Longrightarrow;&Longleftrightarro" +
+            "w;&longmapsto;&dzigrarr;&nvlArr;&nvrArr;&nvHarr;&Map;&lbarr;&bkarow;&lBarr;&dbkarow;&drbkarow;&DDotra" +
+            "hd;&UpArrowBar;&DownArrowBar;&Rarrtl;&latail;&ratail;&lAtail;&rAtail;&larrfs;&rarrfs;&larrbfs;&rarrbf" +
+            "s;&nwarhk;&nearhk;&searhk;&hkswarow;&nwnear;&nesear;&seswar;&swnwar;&rarrc;&cudarrr;&ldca;&rdca;&cuda" +
+            "rrl;&larrpl;&curarrm;&cularrp;&rarrpl;&harrcir;&Uarrocir;&lurdshar;&ldrushar;&LeftRightVector;&RightU" +
+            "pDownVector;&DownLeftRightVector;&LeftUpDownVector;&LeftVectorBar;&RightVectorBar;&RightUpVectorBar;&" +
+            "RightDownVectorBar;&DownLeftVectorBar;&DownRightVectorBar;&LeftUpVectorBar;&LeftDownVectorBar;&LeftTe" +
+            "eVector;&RightTeeVector;&RightUpTeeVector;&RightDownTeeVector;&DownLeftTeeVector;&DownRightTeeVector;" +
+            "&LeftUpTeeVector;&LeftDownTeeVector;&lHar;&uHar;&rHar;&dHar;&luruhar;&ldrdhar;&ruluhar;&rdldhar;&lhar" +
+            "ul;&llhard;&rharul;&lrhard;&udhar;&duhar;&RoundImplies;&erarr;&simrarr;&larrsim;&rarrsim;&rarrap;&ltl" +
+            "arr;&gtrarr;&subrarr;&suplarr;&lfisht;&rfisht;&ufisht;&dfisht;&lopar;&ropar;&lbrke;&rbrke;&lbrkslu;&r" +
+            "brksld;&lbrksld;&rbrkslu;&langd;&rangd;&lparlt;&rpargt;&gtlPar;&ltrPar;&vzigzag;&vangrt;&angrtvbd;&an" +
+            "ge;&range;&dwangle;&uwangle;&angmsdaa;&angmsdab;&angmsdac;&angmsdad;&angmsdae;&angmsdaf;&angmsdag;&an" +
+            "gmsdah;&bemptyv;&demptyv;&cemptyv;&raemptyv;&laemptyv;&ohbar;&omid;&opar;&operp;&olcross;&odsold;&olc" +
+            "ir;&ofcir;&olt;&ogt;&cirscir;&cirE;&solb;&bsolb;&boxbox;&trisb;&rtriltri;&LeftTriangleBar;&RightTrian" +
+            "gleBar;&iinfin;&infintie;&nvinfin;&eparsl;&smeparsl;&eqvparsl;&blacklozenge;&RuleDelayed;&dsol;&bigod" +
+            "ot;&bigoplus;&xotime;&xuplus;&bigsqcup;&iiiint;&fpartint;&cirfnint;&awint;&rppolint;&scpolint;&npolin" +
+            "t;&pointint;&quatint;&intlarhk;&pluscir;&plusacir;&simplus;&plusdu;&plussim;&plustwo;&mcomma;&minusdu" +
+            ";&loplus;&roplus;&Cross;&timesd;&timesbar;&smashp;&lotimes;&rotimes;&otimesas;&Otimes;&odiv;&triplus;" +
+            "&triminus;&tritime;&intprod;&amalg;&capdot;&ncup;&ncap;&capand;&cupor;&cupcap;&capcup;&cupbrcap;&capb" +
+            "rcup;&cupcup;&capcap;&ccups;&ccaps;&ccupssm;&And;&Or;&andand;&oror;&orslope;&andslope;&andv;&orv;&and" +
+            "d;&ord;&wedbar;&sdote;&simdot;&congdot;&easter;&apacir;&apE;&eplus;&pluse;&Esim;&Colone;&Equal;&ddots" +
+            "eq;&equivDD;&ltcir;&gtcir;&ltquest;&gtquest;&leqslant;&ges;&lesdot;&gesdot;&lesdoto;&gesdoto;&lesdoto" +
+            "r;&gesdotol;&lessapprox;&gap;&lne;&gneq;&lnapprox;&gnap;&lesseqqgtr;&gtreqqless;&lsime;&gsime;&lsimg;" +
+            "&gsiml;&lgE;&glE;&lesges;&gesles;&eqslantless;&eqslantgtr;&elsdot;&egsdot;&el;&eg;&siml;&simg;&simlE;" +
+            "&simgE;&LessLess;&GreaterGreater;&glj;&gla;&ltcc;&gtcc;&lescc;&gescc;&smt;&lat;&smte;&late;&bumpE;&pr" +
+            "eceq;&sce;&prE;&scE;&precneqq;&succneqq;&precapprox;&succapprox;&prnap;&scnap;&Pr;&Sc;&subdot;&supdot" +
+            ";&subplus;&supplus;&submult;&supmult;&subedot;&supedot;&subseteqq;&supseteqq;&subsim;&supsim;&subsetn" +
+            "eqq;&supsetneqq;&csub;&csup;&csube;&csupe;&subsup;&supsub;&subsub;&supsup;&suphsub;&supdsub;&forkv;&t" +
+            "opfork;&mlcp;&Dashv;&Vdashl;&Barv;&vBar;&vBarv;&Vbar;&Not;&bNot;&rnmid;&cirmid;&midcir;&topcir;&nhpar" +
+            ";&parsim;&parsl;&fflig;&filig;&fllig;&ffilig;&ffllig;&Ascr;&Cscr;&Dscr;&Gscr;&Jscr;&Kscr;&Nscr;&Oscr;" +
+            "&Pscr;&Qscr;&Sscr;&Tscr;&Uscr;&Vscr;&Wscr;&Xscr;&Yscr;&Zscr;&ascr;&bscr;&cscr;&dscr;&fscr;&hscr;&iscr" +
+            ";&jscr;&kscr;&lscr;&mscr;&nscr;&pscr;&qscr;&rscr;&sscr;&tscr;&uscr;&vscr;&wscr;&xscr;&yscr;&zscr;&Afr" +
+            ";&Bfr;&Dfr;&Efr;&Ffr;&Gfr;&Jfr;&Kfr;&Lfr;&Mfr;&Nfr;&Ofr;&Pfr;&Qfr;&Sfr;&Tfr;&Ufr;&Vfr;&Wfr;&Xfr;&Yfr;" +
+            "&afr;&bfr;&cfr;&dfr;&efr;&ffr;&gfr;&hfr;&ifr;&jfr;&kfr;&lfr;&mfr;&nfr;&ofr;&pfr;&qfr;&rfr;&sfr;&tfr;&" +
+            "ufr;&vfr;&wfr;&xfr;&yfr;&zfr;&Aopf;&Bopf;&Dopf;&Eopf;&Fopf;&Gopf;&Iopf;&Jopf;&Kopf;&Lopf;&Mopf;&Oopf;" +
+            "&Sopf;&Topf;&Uopf;&Vopf;&Wopf;&Xopf;&Yopf;&aopf;&bopf;&copf;&dopf;&eopf;&fopf;&gopf;&hopf;&iopf;&jopf" +
+            ";&kopf;&lopf;&mopf;&nopf;&oopf;&popf;&qopf;&ropf;&sopf;&topf;&uopf;&vopf;&wopf;&xopf;&yopf;&zopf;";
+
+}
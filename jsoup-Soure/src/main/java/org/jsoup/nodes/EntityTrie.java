@@ -0,0 +1,81 @@
+package org.jsoup.nodes;
+
+/**
+ * A compact trie over named entity names, for finding an entity from a name held in a char array (such as the
+ * tokeniser's input) without building a string. Nodes are stored breadth first in primitive arrays, with the children
+ * of a node contiguous and sorted by char, so stepping down a level is a binary search over a few chars.
+ * <p>
+ * Tries are loaded from the precompiled strings in {@link EntitiesData}: one char per node for its label, one for its
+ * child count (with {@link #NAMED} set if the node ends an entity name), and the values of the named nodes, in node
+ * order, with their lengths.
+ */
+final class EntityTrie {
+    static final char NAMED = 0x80;
+    private static final int ROOT = 0;
+
+    private final char[] labels; // the char that leads to each node
+    private final int[] firstChild;
+    private final char[] nodes; // child count and NAMED flag
+    private final int[] valueIndex; // for named nodes, the index into values
+    private final char[][] values;
+
+    EntityTrie(String labels, String nodes, String values, String valueLengths) {
+        this.labels = labels.toCharArray();
+        this.nodes = nodes.toCharArray();
+        int size = this.nodes.length;
+        firstChild = new int[size];
+        valueIndex = new int[size];
+        this.values = new char[valueLengths.length()][];
+
+        int child = 1; // children follow breadth first, so each node's come after the previous node's
+        int v = 0;
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            firstChild[i] = child;
+            child += this.nodes[i] & ~NAMED;
+            if ((this.nodes[i] & NAMED) != 0) {
+                int length = valueLengths.charAt(v);
+                valueIndex[i] = v;
+                this.values[v++] = values.substring(offset, offset + length).toCharArray();
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * Find the value of a named entity.
+     * @param name array holding the name
+     * @param offset start of the name
+     * @param length length of the name
+     * @return the entity's chars (shared: do not modify), or null if there is no such entity
+     */
+    char[] find(char[] name, int offset, int length) {
+        int node = ROOT;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            node = child(node, name[i]);
+            if (node < 0)
+                return null;
+        }
+        return (nodes[node] & NAMED) != 0 ? values[valueIndex[node]] : null;
+    }
+
+    char[] find(String name) {
+        return find(name.toCharArray(), 0, name.length());
+    }
+
+    private int child(int node, char c) {
+        int low = firstChild[node];
+        int high = low + (nodes[node] & ~NAMED) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c)
+                low = mid + 1;
+            else if (label > c)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,96 @@
+package org.jsoup.nodes;
+
+import java.io.IOException;
+
+/**
+ * The appendable that HTML serialisation writes through. Counts what has been written (pretty printing needs to know
+ * if anything has been output yet), and can trim leading and trailing whitespace as it writes, giving the same
+ * result as {@link String#trim()} without building the string first.
+ */
+final class HtmlAccumulator implements Appendable {
+    private final Appendable out;
+    private final boolean trim;
+    private int length = 0; // chars appended, before trimming
+    private boolean started = false;
+    private StringBuilder pending; // trailing whitespace, held back until something follows it
+
+    HtmlAccumulator(Appendable out, boolean trim) {
+        this.out = out;
+        this.trim = trim;
+    }
+
+    static HtmlAccumulator wrap(Appendable out) {
+        return out instanceof HtmlAccumulator ? (HtmlAccumulator) out : new HtmlAccumulator(out, false);
+    }
+
+    /**
+     * Number of chars appended so far, counting any whitespace that is trimmed.
+     */
+    int length() {
+        return length;
+    }
+
+    public HtmlAccumulator append(CharSequence csq) throws IOException {
+        if (csq == null)
+            csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    public HtmlAccumulator append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null)
+            csq = "null";
+        length += end - start;
+        if (!trim) {
+            out.append(csq, start, end);
+            return this;
+        }
+
+        int last = end - 1; // last non-whitespace char
+        while (last >= start && csq.charAt(last) <= ' ')
+            last--;
+        if (last < start) { // all whitespace
+            if (started)
+                pending().append(csq, start, end);
+            return this;
+        }
+
+        if (!started) {
+            while (csq.charAt(start) <= ' ')
+                start++;
+            started = true;
+        }
+        flushPending();
+        out.append(csq, start, last + 1);
+        if (last + 1 < end)
+            pending().append(csq, last + 1, end);
+        return this;
+    }
+
+    public HtmlAccumulator append(char c) throws IOException {
+        length++;
+        if (!trim) {
+            out.append(c);
+        } else if (c <= ' ') {
+            if (started)
+                pending().append(c);
+        } else {
+            started = true;
+            flushPending();
+            out.append(c);
+        }
+        return this;
+    }
+
+    private StringBuilder pending() {
+        if (pending == null)
+            pending = new StringBuilder();
+        return pending;
+    }
+
+    private void flushPending() throws IOException {
+        if (pending != null && pending.length() > 0) {
+            out.append(pending);
+            pending.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.jsoup.nodes;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The child list of a lazy clone. When it is first used, the children are cloned (lazily in turn) from the source
+ * node's, so only the nodes reached through the clone are ever copied.
+ * <p/>
+ * Reading a copy fills these lists, so the fill is made safe for concurrent readers: it happens once, under a lock,
+ * and the filled list is published through a volatile field. The owner keeps this list rather than being given the
+ * plain one, as that swap couldn't be seen safely by other threads.
+ */
+final class LazyChildNodes extends AbstractList<Node> {
+    private final Node owner;
+    private volatile Node source; // null once filled
+    private volatile List<Node> nodes; // null until first used; set before source is cleared
+
+    LazyChildNodes(Node owner, Node source) {
+        this.owner = owner;
+        this.source = source;
+    }
+
+    boolean filled() {
+        return nodes != null;
+    }
+
+    private List<Node> nodes() {
+        List<Node> nodes = this.nodes;
+        return nodes != null ? nodes : fill();
+    }
+
+    private synchronized List<Node> fill() {
+        if (nodes == null) {
+            List<Node> sourceNodes = source.childNodes;
+            List<Node> cloned = new ArrayList<Node>(sourceNodes.size());
+            for (Node child : sourceNodes)
+                cloned.add(child.lazyClone(owner));
+            nodes = cloned;
+            source = null;
+        }
+        return nodes;
+    }
+
+    @Override
+    public Node get(int index) {
+        return nodes().get(index);
+    }
+
+    @Override
+    public int size() {
+        Node source = this.source;
+        return source != null ? source.childNodes.size() : nodes.size();
+    }
+
+    @Override
+    public Node set(int index, Node element) {
+        return nodes().set(index, element);
+    }
+
+    @Override
+    public void add(int index, Node element) {
+        nodes().add(index, element);
+    }
+
+    @Override
+    public Node remove(int index) {
+        return nodes().remove(index);
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (nodes == null) {
+            nodes = new ArrayList<Node>(4); // nothing to clone
+            source = null;
+        } else {
+            nodes.clear();
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package org.jsoup.nodes;
 
 import org.jsoup.helper.StringUtil;
+import org.jsoup.helper.UncheckedIOException;
 import org.jsoup.helper.Validate;
 import org.jsoup.parser.Parser;
 import org.jsoup.select.NodeTraversor;
 import org.jsoup.select.NodeVisitor;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  基地、 抽象的节点模型。元素，文档，评论等是节点的所有实例。
@@ -168,28 +172,9 @@ public abstract class Node implements Cloneable {
     public String absUrl(String attributeKey) {
         Validate.notEmpty(attributeKey);
 
-        String relUrl = attr(attributeKey);
-        if (!hasAttr(attributeKey)) {
+        if (!hasAttr(attributeKey))
             return ""; // 没有什么要绝对与
-        } else {
-            URL base;
-            try {
-                try {
-                    base = new URL(baseUri);
-                } catch (MalformedURLException e) {
-                    // 该基地是不合适的但该属性可能会自行 abs，所以试着，
-                    URL abs = new URL(relUrl);
-                    return abs.toExternalForm();
-                }
-                // 解决方法: java 解析 '//path/file + ?foo' to '//path/?foo', not '//path/file?foo' 所需
-                if (relUrl.startsWith("?"))
-                    relUrl = base.getPath() + relUrl;
-                URL abs = new URL(base, relUrl);
-                return abs.toExternalForm();
-            } catch (MalformedURLException e) {
-                return "";
-            }
-        }
+        return StringUtil.resolve(baseUri, attr(attributeKey));
     }
 
     /**
@@ -437,6 +422,84 @@ public abstract class Node implements Cloneable {
         reindexChildren();
     }
 
+    /**
+     * Remove each of the nodes from the DOM, as {@link #remove()} does for one. The nodes are grouped by parent, and each
+     * parent's child list is rebuilt and reindexed once, rather than once for each node removed; so removing many
+     * children of one parent (like the rows of a large table) takes time linear, not quadratic, in its children.
+     * @param nodes nodes to remove. Each must have a parent.
+     * @see org.jsoup.select.Elements#remove()
+     */
+    public static void removeAll(Collection<? extends Node> nodes) {
+        Map<Node, Node> outs = identitySet(nodes);
+        for (Node parent : parentsOf(nodes).keySet()) {
+            List<Node> kept = new ArrayList<Node>(parent.childNodes.size());
+            for (Node child : parent.childNodes) {
+                if (outs.containsKey(child))
+                    child.parentNode = null;
+                else
+                    kept.add(child);
+            }
+            parent.replaceChildNodes(kept);
+        }
+    }
+
+    /**
+     * Unwrap each of the nodes, as {@link #unwrap()} does for one: remove it from the DOM, and move its children up into
+     * its parent. Each parent's child list is rebuilt and reindexed once, rather than twice for each node unwrapped.
+     * Nodes nested in each other are unwrapped together, into the nearest parent that is not unwrapped.
+     * @param nodes nodes to unwrap. Each must have a parent.
+     * @see org.jsoup.select.Elements#unwrap()
+     */
+    public static void unwrapAll(Collection<? extends Node> nodes) {
+        Map<Node, Node> outs = identitySet(nodes);
+        for (Node parent : parentsOf(nodes).keySet()) {
+            if (outs.containsKey(parent))
+                continue; // its children go up with its own
+            List<Node> kept = new ArrayList<Node>(parent.childNodes.size());
+            for (Node child : parent.childNodes)
+                unwrapInto(kept, child, outs);
+            parent.replaceChildNodes(kept);
+        }
+    }
+
+    // adds the node to the new child list, or if it's being unwrapped, its children
+    private static void unwrapInto(List<Node> kept, Node node, Map<Node, Node> outs) {
+        if (!outs.containsKey(node)) {
+            kept.add(node);
+            return;
+        }
+        for (Node child : node.childNodes)
+            unwrapInto(kept, child, outs);
+        node.childNodes.clear();
+        node.parentNode = null;
+    }
+
+    private static Map<Node, Node> identitySet(Collection<? extends Node> nodes) {
+        Map<Node, Node> set = new IdentityHashMap<Node, Node>(nodes.size());
+        for (Node node : nodes)
+            set.put(node, node);
+        return set;
+    }
+
+    // validates before anything is changed, so a node without a parent doesn't leave the batch half done
+    private static Map<Node, Node> parentsOf(Collection<? extends Node> nodes) {
+        Map<Node, Node> parents = new IdentityHashMap<Node, Node>();
+        for (Node node : nodes) {
+            Validate.notNull(node.parentNode);
+            parents.put(node.parentNode, node.parentNode);
+        }
+        return parents;
+    }
+
+    // keeps the list instance, as unmodifiable views of it may be held
+    private void replaceChildNodes(List<Node> children) {
+        childNodes.clear();
+        childNodes.addAll(children);
+        for (Node child : children)
+            child.parentNode = this;
+        reindexChildren();
+    }
+
     private void reparentChild(Node child) {
         if (child.parentNode != null)
             child.parentNode.removeChild(child);
@@ -532,16 +595,35 @@ public abstract class Node implements Cloneable {
      */
     public String outerHtml() {
         StringBuilder accum = new StringBuilder(128);
-        outerHtml(accum);
+        try {
+            outerHtml(new HtmlAccumulator(accum, false), getOutputSettings());
+        } catch (IOException e) {
+            throw new RuntimeException(e); // StringBuilder 不会抛出
+        }
         return accum.toString();
     }
 
-    protected void outerHtml(StringBuilder accum) {
-        new NodeTraversor(new OuterHtmlVisitor(accum, getOutputSettings())).traverse(this);
+    /**
+     * 将此节点的外部 HTML 直接写入 appendable (例如 {@link java.io.Writer})，而不先构建完整的字符串。
+     * @param accum appendable to write the HTML into
+     * @throws IOException if the appendable throws
+     * @see #outerHtml()
+     */
+    public void outerHtml(Appendable accum) throws IOException {
+        Validate.notNull(accum);
+        outerHtml(HtmlAccumulator.wrap(accum), getOutputSettings());
+    }
+
+    void outerHtml(HtmlAccumulator accum, Document.OutputSettings out) throws IOException {
+        try {
+            new NodeTraversor(new OuterHtmlVisitor(accum, out)).traverse(this);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     // 如果此节点没有文档 (或父)，，检索默认输出设置
-    private Document.OutputSettings getOutputSettings() {
+    Document.OutputSettings getOutputSettings() {
         return ownerDocument() != null ? ownerDocument().outputSettings() : (new Document("")).outputSettings();
     }
 
@@ -549,15 +631,15 @@ public abstract class Node implements Cloneable {
      获取此节点的外部 HTML。
      @param accum accumulator to place HTML into
      */
-    abstract void outerHtmlHead(StringBuilder accum, int depth, Document.OutputSettings out);
+    abstract void outerHtmlHead(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException;
 
-    abstract void outerHtmlTail(StringBuilder accum, int depth, Document.OutputSettings out);
+    abstract void outerHtmlTail(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException;
 
     public String toString() {
         return outerHtml();
     }
 
-    protected void indent(StringBuilder accum, int depth, Document.OutputSettings out) {
+    protected void indent(Appendable accum, int depth, Document.OutputSettings out) throws IOException {
         //out.indentAmount()是缩进长度，默认是1
         accum.append("\n").append(StringUtil.padding(depth * out.indentAmount()));
     }
@@ -565,7 +647,7 @@ public abstract class Node implements Cloneable {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        todo: 有节点举行儿童指数、 比较，和父 (不是儿童)
+        // todo: 有节点举行儿童指数、 比较，和父 (不是儿童)
         return false;
     }
 
@@ -590,6 +672,26 @@ public abstract class Node implements Cloneable {
     }
 
     protected Node doClone(Node parent) {
+        Node clone = shallowClone(parent);
+        clone.childNodes = new ArrayList<Node>(childNodes.size());
+        for (Node child: childNodes)
+            clone.childNodes.add(child.doClone(clone)); // clone() 创建孤儿，doClone() 保持父
+
+        return clone;
+    }
+
+    /**
+     * Clone this node, but not its children yet: they are cloned from this node's when the clone's child list is first
+     * used. So this node must not change while the clone is in use; see {@link DocumentTemplate}.
+     */
+    Node lazyClone(Node parent) {
+        Node clone = shallowClone(parent);
+        clone.childNodes = childNodes.isEmpty() ? new ArrayList<Node>(0) : new LazyChildNodes(clone, this);
+        return clone;
+    }
+
+    // this node's own state, without its children
+    Node shallowClone(Node parent) {
         Node clone;
         try {
             clone = (Node) super.clone();
@@ -601,29 +703,34 @@ public abstract class Node implements Cloneable {
         clone.siblingIndex = parent == null ? 0 : siblingIndex;
         clone.attributes = attributes != null ? attributes.clone() : null;
         clone.baseUri = baseUri;
-        clone.childNodes = new ArrayList<Node>(childNodes.size());
-        for (Node child: childNodes)
-            clone.childNodes.add(child.doClone(clone)); // clone() 创建孤儿，doClone() 保持父
-
         return clone;
     }
 
     private static class OuterHtmlVisitor implements NodeVisitor {
-        private StringBuilder accum;
+        private HtmlAccumulator accum;
         private Document.OutputSettings out;
 
-        OuterHtmlVisitor(StringBuilder accum, Document.OutputSettings out) {
+        OuterHtmlVisitor(HtmlAccumulator accum, Document.OutputSettings out) {
             this.accum = accum;
             this.out = out;
         }
 
         public void head(Node node, int depth) {
-            node.outerHtmlHead(accum, depth, out);
+            try {
+                node.outerHtmlHead(accum, depth, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
 
         public void tail(Node node, int depth) {
-            if (!node.nodeName().equals("#text")) // saves a void hit.
-                node.outerHtmlTail(accum, depth, out);
+            if (!node.nodeName().equals("#text")) { // saves a void hit.
+                try {
+                    node.outerHtmlTail(accum, depth, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
         }
     }
 }
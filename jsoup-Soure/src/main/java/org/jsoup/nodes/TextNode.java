@@ -3,6 +3,8 @@ package org.jsoup.nodes;
 import org.jsoup.helper.StringUtil;
 import org.jsoup.helper.Validate;
 
+import java.io.IOException;
+
 /**
  一个文本节点。
 
@@ -89,7 +91,7 @@ public class TextNode extends Node {
         return tailNode;
     }
 
-    void outerHtmlHead(StringBuilder accum, int depth, Document.OutputSettings out) {
+    void outerHtmlHead(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {
         String html = Entities.escape(getWholeText(), out);
         if (out.prettyPrint() && parent() instanceof Element && !Element.preserveWhitespace((Element) parent())) {
             html = normaliseWhitespace(html);
@@ -100,7 +102,7 @@ public class TextNode extends Node {
         accum.append(html);
     }
 
-    void outerHtmlTail(StringBuilder accum, int depth, Document.OutputSettings out) {}
+    void outerHtmlTail(HtmlAccumulator accum, int depth, Document.OutputSettings out) throws IOException {}
 
     public String toString() {
         return outerHtml();
@@ -129,7 +131,7 @@ public class TextNode extends Node {
         return sb.length() != 0 && sb.charAt(sb.length() - 1) == ' ';
     }
 
-    // 属性摆弄。创建第一次访问。
+    // 属性摆弄。创建第一次访问。Reads answer from the text until then, so they don't change the node.
     private void ensureAttributes() {
         if (attributes == null) {
             attributes = new Attributes();
@@ -139,10 +141,22 @@ public class TextNode extends Node {
 
     @Override
     public String attr(String attributeKey) {
-        ensureAttributes();
-        return super.attr(attributeKey);
+        if (attributes != null)
+            return super.attr(attributeKey);
+        Validate.notNull(attributeKey);
+        String key = attributeKey.toLowerCase();
+        if (key.equals(TEXT_KEY))
+            return text;
+        else if (key.startsWith("abs:"))
+            return absUrl(attributeKey.substring("abs:".length()));
+        else return "";
     }
 
+    /**
+     * Get the node's attributes. A text node has none but its text until this is first called, so the first call is
+     * a change to the node, as setting an attribute is.
+     * @return attributes, with the text under the key {@code text}
+     */
     @Override
     public Attributes attributes() {
         ensureAttributes();
@@ -157,8 +171,13 @@ public class TextNode extends Node {
 
     @Override
     public boolean hasAttr(String attributeKey) {
-        ensureAttributes();
-        return super.hasAttr(attributeKey);
+        if (attributes != null)
+            return super.hasAttr(attributeKey);
+        Validate.notNull(attributeKey);
+        String key = attributeKey.toLowerCase();
+        if (key.equals("abs:" + TEXT_KEY))
+            return !absUrl(TEXT_KEY).equals("");
+        return key.equals(TEXT_KEY);
     }
 
     @Override
@@ -166,10 +185,4 @@ public class TextNode extends Node {
         ensureAttributes();
         return super.removeAttr(attributeKey);
     }
-
-    @Override
-    public String absUrl(String attributeKey) {
-        ensureAttributes();
-        return super.absUrl(attributeKey);
-    }
 }
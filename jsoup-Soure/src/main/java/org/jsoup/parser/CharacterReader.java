@@ -1,20 +1,32 @@
 package org.jsoup.parser;
 
+import org.jsoup.helper.UncheckedIOException;
 import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Entities;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Locale;
 
 /**
  * 字符输入器，对读取字符的逻辑的封装。
  CharacterReader consumes tokens off a string. To replace the old TokenQueue.
+ <p>
+ Input can also be read from a {@link Reader} as it is consumed, so parsing overlaps reading (such as from a network
+ stream), and the whole input is never held at once: consumed chars are dropped from the buffer as it is refilled,
+ keeping only the mark and a few chars to {@link #unconsume()}. Scans read ahead as far as they need to.
  */
 class CharacterReader {
     static final char EOF = (char) -1;
+    private static final int bufferSize = 0x8000; // 32K chars, when reading from a Reader
+    private static final int keepBehind = 16; // consumed chars kept when the buffer is compacted, to unconsume
 
-    private final char[] input;
-    private final int length;
+    private char[] input;
+    private int length; // chars in input
     private int pos = 0;
-    private int mark = 0;
+    private int mark = -1;
+    private Reader reader; // where more input comes from; null once read to the end, or if all input was given
+    private int offset = 0; // position of input[0] in the whole input, once the start has been dropped
 
     CharacterReader(String input) {
         Validate.notNull(input);
@@ -22,20 +34,68 @@ class CharacterReader {
         this.length = this.input.length;
     }
 
+    CharacterReader(Reader input) {
+        Validate.notNull(input);
+        this.input = new char[bufferSize];
+        this.length = 0;
+        this.reader = input;
+    }
+
+    /**
+     Make sure at least the needed number of chars from pos are in the buffer, reading more if there are more to read.
+     Drops consumed chars to make room, so array indexes held across a call must be relative to pos.
+     @return true if there are enough chars; false if the input ends sooner
+     */
+    private boolean fill(int needed) {
+        if (reader == null)
+            return false;
+
+        int keep = pos - keepBehind; // chars before this can be dropped
+        if (mark >= 0 && mark < keep)
+            keep = mark;
+        if (keep > 0) {
+            System.arraycopy(input, keep, input, 0, length - keep);
+            length -= keep;
+            pos -= keep;
+            if (mark >= 0)
+                mark -= keep;
+            offset += keep;
+        }
+        if (pos + needed > input.length) { // a long scan: grow
+            char[] grown = new char[Math.max(input.length * 2, pos + needed)];
+            System.arraycopy(input, 0, grown, 0, length);
+            input = grown;
+        }
+
+        try {
+            while (length - pos < needed) {
+                int read = reader.read(input, length, input.length - length);
+                if (read == -1) {
+                    reader = null;
+                    break;
+                }
+                length += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return length - pos >= needed;
+    }
+
     int pos() {
-        return pos;
+        return offset + pos;
     }
 
     boolean isEmpty() {
-        return pos >= length;
+        return pos >= length && !fill(1);
     }
 
     char current() {
-        return isEmpty() ? EOF : input[pos];
+        return pos < length || fill(1) ? input[pos] : EOF;
     }
 
     char consume() {
-        char val = isEmpty() ? EOF : input[pos];
+        char val = pos < length || fill(1) ? input[pos] : EOF;
         pos++;
         return val;
     }
@@ -52,11 +112,21 @@ class CharacterReader {
         mark = pos;
     }
 
+    /**
+     Release the mark, so the chars after it need not be kept.
+     */
+    void unmark() {
+        mark = -1;
+    }
+
     void rewindToMark() {
+        Validate.isTrue(mark >= 0, "No mark to rewind to");
         pos = mark;
     }
 
     String consumeAsString() {
+        if (pos >= length)
+            fill(1);
         return new String(input, pos++, 1);
     }
 
@@ -67,11 +137,12 @@ class CharacterReader {
      */
     int nextIndexOf(char c) {
         // doesn't handle scanning for surrogates
-        for (int i = pos; i < length; i++) {
-            if (c == input[i])
-                return i - pos;
+        for (int i = 0; ; i++) {
+            if (pos + i >= length && !fill(i + 1))
+                return -1;
+            if (c == input[pos + i])
+                return i;
         }
-        return -1;
     }
 
     /**
@@ -83,19 +154,18 @@ class CharacterReader {
     int nextIndexOf(CharSequence seq) {
         // doesn't handle scanning for surrogates
         char startChar = seq.charAt(0);
-        for (int offset = pos; offset < length; offset++) {
-            // scan to first instance of startchar:
-            if (startChar != input[offset])
-                while(++offset < length && startChar != input[offset]);
-            if (offset < length) {
-                int i = offset + 1;
-                int last = i + seq.length()-1;
-                for (int j = 1; i < last && seq.charAt(j) == input[i]; i++, j++);
-                if (i == last) // found full sequence
-                    return offset - pos;
-            }
+        int seqLength = seq.length();
+        for (int i = 0; ; i++) {
+            if (pos + i + seqLength > length && !fill(i + seqLength))
+                return -1; // not enough input left to hold the sequence
+            if (startChar != input[pos + i])
+                continue;
+            int j = 1;
+            while (j < seqLength && seq.charAt(j) == input[pos + i + j])
+                j++;
+            if (j == seqLength) // found full sequence
+                return i;
         }
-        return -1;
     }
 
     String consumeTo(char c) {
@@ -121,90 +191,112 @@ class CharacterReader {
     }
 
     String consumeToAny(final char... chars) {
-        int start = pos;
-
-        OUTER: while (pos < length) {
-            for (int i = 0; i < chars.length; i++) {
-                if (input[pos] == chars[i])
+        int i = 0;
+        OUTER: while (pos + i < length || fill(i + 1)) {
+            char c = input[pos + i];
+            for (int j = 0; j < chars.length; j++) {
+                if (c == chars[j])
                     break OUTER;
             }
-            pos++;
+            i++;
         }
-
-        return pos > start ? new String(input, start, pos-start) : "";
+        return consume(i);
     }
 
     String consumeToEnd() {
+        while (fill(length - pos + 1)) {
+            // read it all
+        }
         String data = new String(input, pos, length-pos);
         pos = length;
         return data;
     }
 
     String consumeLetterSequence() {
-        int start = pos;
-        while (pos < length) {
-            char c = input[pos];
-            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
-                pos++;
-            else
-                break;
-        }
-
-        return new String(input, start, pos - start);
+        return consume(letters(0));
     }
 
     String consumeLetterThenDigitSequence() {
-        int start = pos;
-        while (pos < length) {
-            char c = input[pos];
-            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
-                pos++;
-            else
-                break;
-        }
-        while (!isEmpty()) {
-            char c = input[pos];
-            if (c >= '0' && c <= '9')
-                pos++;
-            else
-                break;
-        }
+        return consume(digits(letters(0)));
+    }
 
-        return new String(input, start, pos - start);
+    /**
+     * Consume a letter then digit sequence as {@link #consumeLetterThenDigitSequence()} does, and look it up as a
+     * named entity straight from the input, without building a string.
+     * @param baseOnly only match entities in the base set
+     * @return the entity's chars (shared, do not modify), or null if the sequence is not a named entity
+     */
+    char[] consumeEntityName(boolean baseOnly) {
+        int count = digits(letters(0));
+        char[] value = Entities.getCharsByName(input, pos, count, baseOnly);
+        pos += count;
+        return value;
+    }
+
+    /**
+     * Look up the chars consumed since the mark as a named entity, as {@link #consumeEntityName(boolean)}.
+     */
+    char[] entityNameSinceMark(boolean baseOnly) {
+        return Entities.getCharsByName(input, mark, pos - mark, baseOnly);
+    }
+
+    String consumedSinceMark() {
+        return new String(input, mark, pos - mark);
     }
 
     String consumeHexSequence() {
-        int start = pos;
-        while (pos < length) {
-            char c = input[pos];
+        int i = 0;
+        while (pos + i < length || fill(i + 1)) {
+            char c = input[pos + i];
             if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f'))
-                pos++;
+                i++;
             else
                 break;
         }
-        return new String(input, start, pos - start);
+        return consume(i);
     }
 
     String consumeDigitSequence() {
-        int start = pos;
-        while (pos < length) {
-            char c = input[pos];
+        return consume(digits(0));
+    }
+
+    // counts the letters from pos + i, and returns the count after them
+    private int letters(int i) {
+        while (pos + i < length || fill(i + 1)) {
+            char c = input[pos + i];
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
+                i++;
+            else
+                break;
+        }
+        return i;
+    }
+
+    private int digits(int i) {
+        while (pos + i < length || fill(i + 1)) {
+            char c = input[pos + i];
             if (c >= '0' && c <= '9')
-                pos++;
+                i++;
             else
                 break;
         }
-        return new String(input, start, pos - start);
+        return i;
+    }
+
+    private String consume(int count) {
+        String consumed = count > 0 ? new String(input, pos, count) : "";
+        pos += count;
+        return consumed;
     }
 
     boolean matches(char c) {
-        return !isEmpty() && input[pos] == c;
+        return (pos < length || fill(1)) && input[pos] == c;
 
     }
 
     boolean matches(String seq) {
         int scanLength = seq.length();
-        if (scanLength > length - pos)
+        if (scanLength > length - pos && !fill(scanLength))
             return false;
 
         for (int offset = 0; offset < scanLength; offset++)
@@ -215,7 +307,7 @@ class CharacterReader {
 
     boolean matchesIgnoreCase(String seq) {
         int scanLength = seq.length();
-        if (scanLength > length - pos)
+        if (scanLength > length - pos && !fill(scanLength))
             return false;
 
         for (int offset = 0; offset < scanLength; offset++) {
@@ -280,6 +372,6 @@ class CharacterReader {
 
     @Override
     public String toString() {
-        return new String(input, pos, length - pos);
+        return new String(input, pos, length - pos); // what has been read so far
     }
 }
@@ -34,7 +34,7 @@ class HtmlTreeBuilder extends TreeBuilder {
     HtmlTreeBuilder() {}
 
     @Override
-    Document parse(String input, String baseUri, ParseErrorList errors) {
+    Document parse(CharacterReader input, String baseUri, ParseErrorList errors) {
         state = HtmlTreeBuilderState.Initial;
         return super.parse(input, baseUri, errors);
     }
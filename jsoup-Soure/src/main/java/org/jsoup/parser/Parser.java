@@ -1,9 +1,12 @@
 package org.jsoup.parser;
 
+import org.jsoup.helper.UncheckedIOException;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 
 /**
@@ -32,6 +35,34 @@ public class Parser {
         return doc;
     }
 
+    /**
+     * Parse HTML read from a Reader, as it is read: the input is consumed as the document is built, and is never all
+     * held in memory at once.
+     * @param html input to parse. You will need to close it.
+     * @param baseUri base URI of document, to resolve relative links against
+     * @return parsed Document
+     * @throws IOException if reading the input fails
+     */
+    public Document parseInput(Reader html, String baseUri) throws IOException {
+        errors = isTrackErrors() ? ParseErrorList.tracking(maxErrors) : ParseErrorList.noTracking();
+        try {
+            return treeBuilder.parse(new CharacterReader(html), baseUri, errors);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Create a new Parser with the same tree builder type and error tracking as this one, but state of its own, so that
+     * the two can parse at the same time on different threads.
+     * @return a new parser
+     */
+    public Parser newInstance() {
+        Parser parser = new Parser(treeBuilder instanceof XmlTreeBuilder ? new XmlTreeBuilder() : new HtmlTreeBuilder());
+        parser.maxErrors = maxErrors;
+        return parser;
+    }
+
     // gets & sets
     /**
      * Get the TreeBuilder currently in use.
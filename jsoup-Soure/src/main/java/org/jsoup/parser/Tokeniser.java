@@ -1,7 +1,6 @@
 package org.jsoup.parser;
 
 import org.jsoup.helper.Validate;
-import org.jsoup.nodes.Entities;
 
 /**
  * 词法分析过程的状态及结果保存。
@@ -108,6 +107,15 @@ class Tokeniser {
             return null;
 
         reader.mark();
+        try {
+            return consumeMarkedReference(inAttribute);
+        } finally {
+            reader.unmark(); // so a streaming reader needn't keep the input from the mark
+        }
+    }
+
+    // the reference after the &, from the mark
+    private char[] consumeMarkedReference(boolean inAttribute) {
         if (reader.matchConsume("#")) { // numbered
             boolean isHexMode = reader.matchConsumeIgnoreCase("X");
             String numRef = isHexMode ? reader.consumeHexSequence() : reader.consumeDigitSequence();
@@ -133,15 +141,18 @@ class Tokeniser {
                 return Character.toChars(charval);
             }
         } else { // named
-            // get as many letters as possible, and look for matching entities.
-            String nameRef = reader.consumeLetterThenDigitSequence();
+            // get as many letters as possible, and look for matching entities, in the trie straight from the input.
+            char[] value = reader.consumeEntityName(true);
             boolean looksLegit = reader.matches(';');
             // found if a base named entity without a ;, or an extended entity with the ;.
-            boolean found = (Entities.isBaseNamedEntity(nameRef) || (Entities.isNamedEntity(nameRef) && looksLegit));
+            if (value == null && looksLegit)
+                value = reader.entityNameSinceMark(false);
 
-            if (!found) {
+            if (value == null) {
+                // only build the name for the error message if it will be kept
+                String nameRef = looksLegit && errors.canAddError() ? reader.consumedSinceMark() : null;
                 reader.rewindToMark();
-                if (looksLegit) // named with semicolon
+                if (nameRef != null) // named with semicolon
                     characterReferenceError(String.format("invalid named referenece '%s'", nameRef));
                 return null;
             }
@@ -152,7 +163,7 @@ class Tokeniser {
             }
             if (!reader.matchConsume(";"))
                 characterReferenceError("missing semicolon"); // missing semi
-            return new char[]{Entities.getCharacterByName(nameRef)};
+            return value;
         }
     }
 
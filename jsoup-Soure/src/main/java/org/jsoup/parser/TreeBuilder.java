@@ -22,10 +22,14 @@ abstract class TreeBuilder {
 
     protected void initialiseParse(String input, String baseUri, ParseErrorList errors) {
         Validate.notNull(input, "String input must not be null");
+        initialiseParse(new CharacterReader(input), baseUri, errors);
+    }
+
+    protected void initialiseParse(CharacterReader input, String baseUri, ParseErrorList errors) {
         Validate.notNull(baseUri, "BaseURI must not be null");
 
         doc = new Document(baseUri);
-        reader = new CharacterReader(input);
+        reader = input;
         this.errors = errors;
         tokeniser = new Tokeniser(reader, errors);
         stack = new DescendableLinkedList<Element>();
@@ -37,6 +41,11 @@ abstract class TreeBuilder {
     }
 
     Document parse(String input, String baseUri, ParseErrorList errors) {
+        Validate.notNull(input, "String input must not be null");
+        return parse(new CharacterReader(input), baseUri, errors);
+    }
+
+    Document parse(CharacterReader input, String baseUri, ParseErrorList errors) {
         initialiseParse(input, baseUri, errors);
         runParser();
         return doc;
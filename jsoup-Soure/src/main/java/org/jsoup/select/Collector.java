@@ -21,7 +21,13 @@ public class Collector {
      */
     public static Elements collect (Evaluator eval, Element root) {
         Elements elements = new Elements();
-        new NodeTraversor(new Accumulator(root, elements, eval)).traverse(root);
+        boolean began = SiblingPositions.begin(); // only good while the tree is unchanged, so for this run
+        try {
+            new NodeTraversor(new Accumulator(root, elements, eval)).traverse(root);
+        } finally {
+            if (began)
+                SiblingPositions.end();
+        }
         return elements;
     }
 
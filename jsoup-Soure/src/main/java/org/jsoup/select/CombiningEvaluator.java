@@ -32,7 +32,15 @@ abstract class CombiningEvaluator extends Evaluator {
         evaluators.set(evaluators.size() - 1, replacement);
     }
 
-    static final class And extends CombiningEvaluator {
+    @Override
+    protected int cost() {
+        int cost = 0;
+        for (int i = 0; i < evaluators.size(); i++)
+            cost += evaluators.get(i).cost();
+        return cost;
+    }
+
+    static final class And extends CombiningEvaluator implements FrozenEvaluator {
         And(Collection<Evaluator> evaluators) {
             super(evaluators);
         }
@@ -51,13 +59,21 @@ abstract class CombiningEvaluator extends Evaluator {
             return true;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            for (int i = 0; i < evaluators.size(); i++) {
+                if (!((FrozenEvaluator) evaluators.get(i)).matches(doc, root, element))
+                    return false;
+            }
+            return true;
+        }
+
         @Override
         public String toString() {
             return StringUtil.join(evaluators, " ");
         }
     }
 
-    static final class Or extends CombiningEvaluator {
+    static final class Or extends CombiningEvaluator implements FrozenEvaluator {
         /**
          * Create a new Or evaluator. The initial evaluators are ANDed together and used as the first clause of the OR.
          * @param evaluators initial OR clause (these are wrapped into an AND evaluator).
@@ -88,6 +104,14 @@ abstract class CombiningEvaluator extends Evaluator {
             return false;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            for (int i = 0; i < evaluators.size(); i++) {
+                if (((FrozenEvaluator) evaluators.get(i)).matches(doc, root, element))
+                    return true;
+            }
+            return false;
+        }
+
         @Override
         public String toString() {
             return String.format(":or%s", evaluators);
@@ -186,13 +186,18 @@ public class Elements implements List<Element>, Cloneable {
      * @see Element#text()
      */
     public String text() {
-        StringBuilder sb = new StringBuilder();
-        for (Element element : contents) {
-            if (sb.length() != 0)
-                sb.append(" ");
-            sb.append(element.text());
-        }
-        return sb.toString();
+        return TextCollector.text(this);
+    }
+
+    /**
+     * Get the text of each of the matched elements. Each distinct subtree is walked once, so nested matches do not
+     * re-walk their ancestors' text.
+     * @return a list of each element's text, in the same order as the elements.
+     * @see Element#text()
+     * @see TextCollector#text(Elements, Appendable)
+     */
+    public List<String> eachText() {
+        return TextCollector.eachText(this);
     }
 
     public boolean hasText() {
@@ -350,14 +355,14 @@ public class Elements implements List<Element>, Cloneable {
      * E.g. with HTML: {@code <div><font>One</font> <font><a href="/">Two</a></font></div>}<br/>
      * {@code doc.select("font").unwrap();}<br/>
      * HTML = {@code <div>One <a href="/">Two</a></div>}
+     * <p/>
+     * Each parent's child list is rebuilt once, however many of its children are unwrapped.
      *
      * @return this (for chaining)
      * @see Node#unwrap
      */
     public Elements unwrap() {
-        for (Element element : contents) {
-            element.unwrap();
-        }
+        Node.unwrapAll(contents);
         return this;
     }
 
@@ -387,14 +392,14 @@ public class Elements implements List<Element>, Cloneable {
      * HTML = {@code <div> <img /></div>}
      * <p>
      * Note that this method should not be used to clean user-submitted HTML; rather, use {@link org.jsoup.safety.Cleaner} to clean HTML.
+     * <p>
+     * Each parent's child list is rebuilt once, however many of its children are removed.
      * @return this, for chaining
      * @see Element#empty()
      * @see #empty()
      */
     public Elements remove() {
-        for (Element element : contents) {
-            element.remove();
-        }
+        Node.removeAll(contents);
         return this;
     }
     
@@ -28,11 +28,36 @@ public abstract class Evaluator {
      */
     public abstract boolean matches(Element root, Element element);
 
+    /**
+     * Estimate how costly this evaluator is to run, relative to the others, so that the cheap tests of a query are
+     * tried first: tag or id, then class or attribute, then structural tests, then text. Used by the query optimiser to
+     * order the terms of an AND.
+     *
+     * @return cost estimate; 0 for a free test
+     */
+    protected int cost() {
+        return 5;
+    }
+
+    // the selection's positions, or, outside one, a throwaway to work out a single parent
+    SiblingPositions positions() {
+        return SiblingPositions.current();
+    }
+
+    // as element.elementSiblingIndex(), without building the list of siblings
+    int siblingIndex(Element element) {
+        return element.parent() == null ? 0 : positions().index(element);
+    }
+
+    int siblingIndex(FrozenDocument doc, int element) {
+        return doc.hasParent(element) ? doc.elementIndex(element) : 0;
+    }
+
     /**
      * Evaluator for tag name
      */
-    public static final class Tag extends Evaluator {
-        private String tagName;
+    public static final class Tag extends Evaluator implements FrozenEvaluator {
+        final String tagName;
 
         public Tag(String tagName) {
             this.tagName = tagName;
@@ -43,6 +68,15 @@ public abstract class Evaluator {
             return (element.tagName().equals(tagName));
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.tagName(element).equals(tagName);
+        }
+
+        @Override
+        protected int cost() {
+            return 1;
+        }
+
         @Override
         public String toString() {
             return String.format("%s", tagName);
@@ -52,8 +86,8 @@ public abstract class Evaluator {
     /**
      * Evaluator for element id
      */
-    public static final class Id extends Evaluator {
-        private String id;
+    public static final class Id extends Evaluator implements FrozenEvaluator {
+        final String id;
 
         public Id(String id) {
             this.id = id;
@@ -64,6 +98,15 @@ public abstract class Evaluator {
             return (id.equals(element.id()));
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return id.equals(doc.attr(element, "id"));
+        }
+
+        @Override
+        protected int cost() {
+            return 2;
+        }
+
         @Override
         public String toString() {
             return String.format("#%s", id);
@@ -74,8 +117,8 @@ public abstract class Evaluator {
     /**
      * Evaluator for element class
      */
-    public static final class Class extends Evaluator {
-        private String className;
+    public static final class Class extends Evaluator implements FrozenEvaluator {
+        final String className;
 
         public Class(String className) {
             this.className = className;
@@ -86,6 +129,15 @@ public abstract class Evaluator {
             return (element.hasClass(className));
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasClass(element, className);
+        }
+
+        @Override
+        protected int cost() {
+            return 3; // an attribute presence test, and usually far more selective than a value substring or key prefix
+        }
+
         @Override
         public String toString() {
             return String.format(".%s", className);
@@ -96,7 +148,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name matching
      */
-    public static final class Attribute extends Evaluator {
+    public static final class Attribute extends Evaluator implements FrozenEvaluator {
         private String key;
 
         public Attribute(String key) {
@@ -108,6 +160,15 @@ public abstract class Evaluator {
             return element.hasAttr(key);
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttr(element, key);
+        }
+
+        @Override
+        protected int cost() {
+            return 3;
+        }
+
         @Override
         public String toString() {
             return String.format("[%s]", key);
@@ -118,7 +179,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name prefix matching
      */
-    public static final class AttributeStarting extends Evaluator {
+    public static final class AttributeStarting extends Evaluator implements FrozenEvaluator {
         private String keyPrefix;
 
         public AttributeStarting(String keyPrefix) {
@@ -135,6 +196,15 @@ public abstract class Evaluator {
             return false;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttrStarting(element, keyPrefix);
+        }
+
+        @Override
+        protected int cost() {
+            return 6;
+        }
+
         @Override
         public String toString() {
             return String.format("[^%s]", keyPrefix);
@@ -145,7 +215,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name/value matching
      */
-    public static final class AttributeWithValue extends AttributeKeyPair {
+    public static final class AttributeWithValue extends AttributeKeyPair implements FrozenEvaluator {
         public AttributeWithValue(String key, String value) {
             super(key, value);
         }
@@ -155,6 +225,15 @@ public abstract class Evaluator {
             return element.hasAttr(key) && value.equalsIgnoreCase(element.attr(key));
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttr(element, key) && value.equalsIgnoreCase(doc.attr(element, key));
+        }
+
+        @Override
+        protected int cost() {
+            return 3;
+        }
+
         @Override
         public String toString() {
             return String.format("[%s=%s]", key, value);
@@ -165,7 +244,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name != value matching
      */
-    public static final class AttributeWithValueNot extends AttributeKeyPair {
+    public static final class AttributeWithValueNot extends AttributeKeyPair implements FrozenEvaluator {
         public AttributeWithValueNot(String key, String value) {
             super(key, value);
         }
@@ -175,6 +254,15 @@ public abstract class Evaluator {
             return !value.equalsIgnoreCase(element.attr(key));
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return !value.equalsIgnoreCase(doc.attr(element, key));
+        }
+
+        @Override
+        protected int cost() {
+            return 3;
+        }
+
         @Override
         public String toString() {
             return String.format("[%s!=%s]", key, value);
@@ -185,14 +273,23 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name/value matching (value prefix)
      */
-    public static final class AttributeWithValueStarting extends AttributeKeyPair {
+    public static final class AttributeWithValueStarting extends AttributeKeyPair implements FrozenEvaluator {
         public AttributeWithValueStarting(String key, String value) {
             super(key, value);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && element.attr(key).toLowerCase().startsWith(value); // value is lower case already
+            return element.hasAttr(key) && element.attr(key).regionMatches(true, 0, value, 0, value.length());
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttr(element, key) && doc.attr(element, key).regionMatches(true, 0, value, 0, value.length());
+        }
+
+        @Override
+        protected int cost() {
+            return 4;
         }
 
         @Override
@@ -205,14 +302,29 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name/value matching (value ending)
      */
-    public static final class AttributeWithValueEnding extends AttributeKeyPair {
+    public static final class AttributeWithValueEnding extends AttributeKeyPair implements FrozenEvaluator {
         public AttributeWithValueEnding(String key, String value) {
             super(key, value);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && element.attr(key).toLowerCase().endsWith(value); // value is lower case
+            if (!element.hasAttr(key))
+                return false;
+            String attr = element.attr(key);
+            return attr.regionMatches(true, attr.length() - value.length(), value, 0, value.length());
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            if (!doc.hasAttr(element, key))
+                return false;
+            String attr = doc.attr(element, key);
+            return attr.regionMatches(true, attr.length() - value.length(), value, 0, value.length());
+        }
+
+        @Override
+        protected int cost() {
+            return 4;
         }
 
         @Override
@@ -225,14 +337,26 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name/value matching (value containing)
      */
-    public static final class AttributeWithValueContaining extends AttributeKeyPair {
+    public static final class AttributeWithValueContaining extends AttributeKeyPair implements FrozenEvaluator {
+        private final IgnoreCaseSearch search;
+
         public AttributeWithValueContaining(String key, String value) {
             super(key, value);
+            search = new IgnoreCaseSearch(this.value);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && element.attr(key).toLowerCase().contains(value); // value is lower case
+            return element.hasAttr(key) && search.in(element.attr(key));
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttr(element, key) && search.in(doc.attr(element, key));
+        }
+
+        @Override
+        protected int cost() {
+            return 4;
         }
 
         @Override
@@ -245,7 +369,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for attribute name/value matching (value regex matching)
      */
-    public static final class AttributeWithValueMatching extends Evaluator {
+    public static final class AttributeWithValueMatching extends Evaluator implements FrozenEvaluator {
         String key;
         Pattern pattern;
 
@@ -259,6 +383,15 @@ public abstract class Evaluator {
             return element.hasAttr(key) && pattern.matcher(element.attr(key)).find();
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasAttr(element, key) && pattern.matcher(doc.attr(element, key)).find();
+        }
+
+        @Override
+        protected int cost() {
+            return 7;
+        }
+
         @Override
         public String toString() {
             return String.format("[%s~=%s]", key, pattern.toString());
@@ -285,13 +418,22 @@ public abstract class Evaluator {
     /**
      * Evaluator for any / all element matching
      */
-    public static final class AllElements extends Evaluator {
+    public static final class AllElements extends Evaluator implements FrozenEvaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
             return true;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return true;
+        }
+
+        @Override
+        protected int cost() {
+            return 0;
+        }
+
         @Override
         public String toString() {
             return "*";
@@ -301,14 +443,18 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching by sibling index number (e < idx)
      */
-    public static final class IndexLessThan extends IndexEvaluator {
+    public static final class IndexLessThan extends IndexEvaluator implements FrozenEvaluator {
         public IndexLessThan(int index) {
             super(index);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.elementSiblingIndex() < index;
+            return siblingIndex(element) < index;
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return siblingIndex(doc, element) < index;
         }
 
         @Override
@@ -321,14 +467,18 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching by sibling index number (e > idx)
      */
-    public static final class IndexGreaterThan extends IndexEvaluator {
+    public static final class IndexGreaterThan extends IndexEvaluator implements FrozenEvaluator {
         public IndexGreaterThan(int index) {
             super(index);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.elementSiblingIndex() > index;
+            return siblingIndex(element) > index;
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return siblingIndex(doc, element) > index;
         }
 
         @Override
@@ -341,14 +491,18 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching by sibling index number (e = idx)
      */
-    public static final class IndexEquals extends IndexEvaluator {
+    public static final class IndexEquals extends IndexEvaluator implements FrozenEvaluator {
         public IndexEquals(int index) {
             super(index);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.elementSiblingIndex() == index;
+            return siblingIndex(element) == index;
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return siblingIndex(doc, element) == index;
         }
 
         @Override
@@ -361,13 +515,24 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching the last sibling (css :last-child)
      */
-    public static final class IsLastChild extends Evaluator {
+    public static final class IsLastChild extends Evaluator implements FrozenEvaluator {
 		@Override
 		public boolean matches(Element root, Element element) {
 			final Element p = element.parent();
-			return p != null && !(p instanceof Document) && element.elementSiblingIndex() == p.children().size()-1;
+			if (p == null || p instanceof Document) return false;
+			SiblingPositions positions = positions();
+			return positions.index(element) == positions.count(element) - 1;
+		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && doc.elementIndex(element) == doc.elementCount(element) - 1;
 		}
     	
+		@Override
+		protected int cost() {
+			return 8;
+		}
+
 		@Override
 		public String toString() {
 			return ":last-child";
@@ -411,12 +576,21 @@ public abstract class Evaluator {
     		final Element p = element.parent();
     		if (p == null || (p instanceof Document)) return false;
     		
-    		final int pos = calculatePosition(root, element);
+    		return isNth(calculatePosition(root, element));
+    	}
+
+    	// the position is b, or b plus a whole number of steps of a
+    	boolean isNth(int pos) {
     		if (a == 0) return pos == b;
     		
     		return (pos-b)*a >= 0 && (pos-b)%a==0;
     	}
     	
+		@Override
+		protected int cost() {
+			return 9;
+		}
+
 		@Override
 		public String toString() {
 			if (a == 0)
@@ -436,14 +610,18 @@ public abstract class Evaluator {
      * 
      * @see IndexEquals
      */
-    public static final class IsNthChild extends CssNthEvaluator {
+    public static final class IsNthChild extends CssNthEvaluator implements FrozenEvaluator {
 
     	public IsNthChild(int a, int b) {
     		super(a,b);
 		}
 
 		protected int calculatePosition(Element root, Element element) {
-			return element.elementSiblingIndex()+1;
+			return positions().index(element) + 1;
+		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && isNth(doc.elementIndex(element) + 1);
 		}
 
 		
@@ -457,14 +635,19 @@ public abstract class Evaluator {
      * 
      * @see IndexEquals
      */
-    public static final class IsNthLastChild extends CssNthEvaluator {
+    public static final class IsNthLastChild extends CssNthEvaluator implements FrozenEvaluator {
     	public IsNthLastChild(int a, int b) {
     		super(a,b);
     	}
 
         @Override
         protected int calculatePosition(Element root, Element element) {
-        	return element.parent().children().size() - element.elementSiblingIndex();
+        	SiblingPositions positions = positions();
+        	return positions.count(element) - positions.index(element);
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return doc.hasParentElement(element) && isNth(doc.elementCount(element) - doc.elementIndex(element));
         }
         
 		@Override
@@ -477,19 +660,22 @@ public abstract class Evaluator {
      * css pseudo class nth-of-type
      * 
      */
-    public static class IsNthOfType extends CssNthEvaluator {
+    public static class IsNthOfType extends CssNthEvaluator implements FrozenEvaluator {
     	public IsNthOfType(int a, int b) {
     		super(a,b);
     	}
 
 		protected int calculatePosition(Element root, Element element) {
-			int pos = 0;
-        	Elements family = element.parent().children();
-        	for (int i = 0; i < family.size(); i++) {
-        		if (family.get(i).tag() == element.tag()) pos++;
-        		if (family.get(i) == element) break;
-        	}
-			return pos;
+			return positions().indexOfType(element) + 1;
+		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && isNth(doc.indexOfType(element) + 1);
+		}
+
+		@Override
+		protected int cost() {
+			return 12;
 		}
 
 		@Override
@@ -498,7 +684,7 @@ public abstract class Evaluator {
 		}
     }
     
-    public static class IsNthLastOfType extends CssNthEvaluator {
+    public static class IsNthLastOfType extends CssNthEvaluator implements FrozenEvaluator {
 
 		public IsNthLastOfType(int a, int b) {
 			super(a, b);
@@ -506,12 +692,17 @@ public abstract class Evaluator {
 		
 		@Override
 		protected int calculatePosition(Element root, Element element) {
-			int pos = 0;
-        	Elements family = element.parent().children();
-        	for (int i = element.elementSiblingIndex(); i < family.size(); i++) {
-        		if (family.get(i).tag() == element.tag()) pos++;
-        	}
-			return pos;
+			SiblingPositions positions = positions();
+			return positions.countOfType(element) - positions.indexOfType(element);
+		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && isNth(doc.countOfType(element) - doc.indexOfType(element));
+		}
+
+		@Override
+		protected int cost() {
+			return 12;
 		}
 
 		@Override
@@ -523,13 +714,22 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching the first sibling (css :first-child)
      */
-    public static final class IsFirstChild extends Evaluator {
+    public static final class IsFirstChild extends Evaluator implements FrozenEvaluator {
     	@Override
     	public boolean matches(Element root, Element element) {
     		final Element p = element.parent();
-    		return p != null && !(p instanceof Document) && element.elementSiblingIndex() == 0;
+    		return p != null && !(p instanceof Document) && positions().index(element) == 0;
+    	}
+
+    	public boolean matches(FrozenDocument doc, int root, int element) {
+    		return doc.hasParentElement(element) && doc.elementIndex(element) == 0;
     	}
     	
+    	@Override
+    	protected int cost() {
+    		return 8;
+    	}
+
     	@Override
     	public String toString() {
     		return ":first-child";
@@ -541,50 +741,71 @@ public abstract class Evaluator {
      * @see http://www.w3.org/TR/selectors/#root-pseudo
      *
      */
-    public static final class IsRoot extends Evaluator {
+    public static final class IsRoot extends Evaluator implements FrozenEvaluator {
     	@Override
     	public boolean matches(Element root, Element element) {
     		final Element r = root instanceof Document?root.child(0):root;
     		return element == r;
     	}
+
+    	public boolean matches(FrozenDocument doc, int root, int element) {
+    		return element == (doc.isDocument(root) ? doc.firstElementChild(root) : root);
+    	}
+    	@Override
+    	protected int cost() {
+    		return 1; // structural, but one reference comparison that passes a single element, so ranked with tag and id
+    	}
+
     	@Override
     	public String toString() {
     		return ":root";
     	}
     }
 
-    public static final class IsOnlyChild extends Evaluator {
+    public static final class IsOnlyChild extends Evaluator implements FrozenEvaluator {
 		@Override
 		public boolean matches(Element root, Element element) {
 			final Element p = element.parent();
-			return p!=null && !(p instanceof Document) && element.siblingElements().size() == 0;
+			return p!=null && !(p instanceof Document) && positions().count(element) == 1;
+		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && doc.elementCount(element) == 1;
 		}
+    	@Override
+    	protected int cost() {
+    		return 10;
+    	}
+
     	@Override
     	public String toString() {
     		return ":only-child";
     	}
     }
 
-    public static final class IsOnlyOfType extends Evaluator {
+    public static final class IsOnlyOfType extends Evaluator implements FrozenEvaluator {
 		@Override
 		public boolean matches(Element root, Element element) {
 			final Element p = element.parent();
 			if (p==null || p instanceof Document) return false;
-			
-			int pos = 0;
-        	Elements family = p.children();
-        	for (int i = 0; i < family.size(); i++) {
-        		if (family.get(i).tag().equals(element.tag())) pos++;
-        	}
-        	return pos == 1;
+			return positions().countOfType(element) == 1;
 		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.hasParentElement(element) && doc.countOfType(element) == 1;
+		}
+    	@Override
+    	protected int cost() {
+    		return 10;
+    	}
+
     	@Override
     	public String toString() {
     		return ":only-of-type";
     	}
     }
 
-    public static final class IsEmpty extends Evaluator {
+    public static final class IsEmpty extends Evaluator implements FrozenEvaluator {
 		@Override
 		public boolean matches(Element root, Element element) {
         	List<Node> family = element.childNodes();
@@ -594,6 +815,15 @@ public abstract class Evaluator {
         	}
         	return true;
 		}
+
+		public boolean matches(FrozenDocument doc, int root, int element) {
+			return doc.isEmpty(element); // the snapshot has no comments, doctypes or declarations
+		}
+    	@Override
+    	protected int cost() {
+    		return 8; // structural, as it looks at the children; the cheapest of those, as it stops at the first content node
+    	}
+
     	@Override
     	public String toString() {
     		return ":empty";
@@ -611,21 +841,37 @@ public abstract class Evaluator {
         public IndexEvaluator(int index) {
             this.index = index;
         }
+
+        @Override
+        protected int cost() {
+            return 8;
+        }
     }
 
     /**
      * Evaluator for matching Element (and its descendants) text
      */
-    public static final class ContainsText extends Evaluator {
+    public static final class ContainsText extends Evaluator implements FrozenEvaluator {
         private String searchText;
+        private final IgnoreCaseSearch search;
 
         public ContainsText(String searchText) {
             this.searchText = searchText.toLowerCase();
+            search = new IgnoreCaseSearch(this.searchText);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return (element.text().toLowerCase().contains(searchText));
+            return search.in(element.text());
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return search.in(doc.text(element));
+        }
+
+        @Override
+        protected int cost() {
+            return 100;
         }
 
         @Override
@@ -637,16 +883,27 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching Element's own text
      */
-    public static final class ContainsOwnText extends Evaluator {
+    public static final class ContainsOwnText extends Evaluator implements FrozenEvaluator {
         private String searchText;
+        private final IgnoreCaseSearch search;
 
         public ContainsOwnText(String searchText) {
             this.searchText = searchText.toLowerCase();
+            search = new IgnoreCaseSearch(this.searchText);
         }
 
         @Override
         public boolean matches(Element root, Element element) {
-            return (element.ownText().toLowerCase().contains(searchText));
+            return search.in(element.ownText());
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return search.in(doc.ownText(element));
+        }
+
+        @Override
+        protected int cost() {
+            return 30;
         }
 
         @Override
@@ -658,7 +915,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching Element (and its descendants) text with regex
      */
-    public static final class Matches extends Evaluator {
+    public static final class Matches extends Evaluator implements FrozenEvaluator {
         private Pattern pattern;
 
         public Matches(Pattern pattern) {
@@ -667,8 +924,16 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            Matcher m = pattern.matcher(element.text());
-            return m.find();
+            return TextCollector.find(pattern, element);
+        }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return pattern.matcher(doc.text(element)).find();
+        }
+
+        @Override
+        protected int cost() {
+            return 120;
         }
 
         @Override
@@ -680,7 +945,7 @@ public abstract class Evaluator {
     /**
      * Evaluator for matching Element's own text with regex
      */
-    public static final class MatchesOwn extends Evaluator {
+    public static final class MatchesOwn extends Evaluator implements FrozenEvaluator {
         private Pattern pattern;
 
         public MatchesOwn(Pattern pattern) {
@@ -693,6 +958,15 @@ public abstract class Evaluator {
             return m.find();
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return pattern.matcher(doc.ownText(element)).find();
+        }
+
+        @Override
+        protected int cost() {
+            return 40;
+        }
+
         @Override
         public String toString() {
             return String.format(":matchesOwn(%s", pattern);
@@ -0,0 +1,515 @@
+package org.jsoup.select;
+
+import org.jsoup.helper.StringUtil;
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.DocumentType;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.nodes.XmlDeclaration;
+import org.jsoup.parser.Tag;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only snapshot of a document, made to be queried: much smaller than the document's nodes, quick to walk, and
+ * safe to query from many threads at once.
+ * <p/>
+ * Nodes are held in flat arrays, in document order, linked by index to their parent, first child and next sibling. Tags
+ * and attribute keys are held as ids into shared tables, the text of all text nodes is one string, and attributes are
+ * in one pair of arrays. Comments, doctypes and XML declarations are left out, as nothing in a query or text sees them.
+ * Elements are {@link FrozenElement} handles, made as they are asked for. Queries use the same selector syntax and give
+ * the same results as on the document; text is as {@link Element#text()}.
+ *
+ * @see Document#freeze()
+ */
+public final class FrozenDocument {
+    private static final int TEXT = -1; // tag of a text node
+    private static final int DATA = -2; // tag of a data node: not text, but content
+
+    private final boolean isDocument; // the root (node 0) is a Document
+    // the root's parent in the tree it was taken from, which isn't held: none, a document, or an element
+    private final boolean rootHasParent, rootHasParentElement;
+    private final int size;
+
+    // by node:
+    private final int[] parent; // -1 for the root
+    private final int[] firstChild; // -1 if none
+    private final int[] nextSibling; // -1 if none
+    private final int[] end; // index after the node's last descendant
+    private final int[] tag; // id into tags, or TEXT or DATA
+    private final int[] from, to; // range of its attributes, or of its text in the text string
+    private final int[] baseUri; // id into baseUris
+
+    // by element, position among its element siblings:
+    private final int[] previousElement; // -1 if none
+    private final int[] elementIndex, elementCount, typeIndex, typeCount;
+
+    private final Tag[] tags;
+    private final String[] keys; // attribute keys
+    private final String[] baseUris;
+    private final int[] attributeKeys; // ids into keys
+    private final String[] attributeValues;
+    private final String text; // of all text nodes, end to end
+
+    /**
+     * Make a snapshot of a document. Later changes to the document aren't seen by the snapshot. An element's snapshot
+     * keeps its place among its siblings, so positional queries on it match as on the element.
+     * @param root document, or element, to snapshot
+     */
+    public FrozenDocument(Element root) {
+        Validate.notNull(root);
+        isDocument = root instanceof Document;
+        Element rootParent = root.parent();
+        rootHasParent = rootParent != null;
+        rootHasParentElement = rootHasParent && !(rootParent instanceof Document);
+
+        Builder builder = new Builder();
+        new NodeTraversor(builder).traverse(root);
+        size = builder.size;
+        parent = trim(builder.parent, size);
+        firstChild = trim(builder.firstChild, size);
+        nextSibling = trim(builder.nextSibling, size);
+        end = trim(builder.end, size);
+        tag = trim(builder.tag, size);
+        from = trim(builder.from, size);
+        to = trim(builder.to, size);
+        baseUri = trim(builder.baseUri, size);
+        tags = builder.tags.toArray(new Tag[builder.tags.size()]);
+        keys = builder.keys.toArray(new String[builder.keys.size()]);
+        baseUris = builder.baseUris.toArray(new String[builder.baseUris.size()]);
+        attributeKeys = trim(builder.attributeKeys, builder.attributes);
+        attributeValues = new String[builder.attributes];
+        System.arraycopy(builder.attributeValues, 0, attributeValues, 0, builder.attributes);
+        text = builder.text.toString();
+
+        previousElement = new int[size];
+        elementIndex = new int[size];
+        elementCount = new int[size];
+        typeIndex = new int[size];
+        typeCount = new int[size];
+        positions();
+        if (rootHasParent)
+            rootPosition(root);
+    }
+
+    /**
+     * @return the root element of the snapshot: the document, or the element it was made from
+     */
+    public FrozenElement root() {
+        return new FrozenElement(this, 0);
+    }
+
+    /**
+     * Find the elements matching a CSS query, as {@link Element#select(String)}.
+     * @param query CSS query
+     * @return matching elements, in document order
+     */
+    public List<FrozenElement> select(String query) {
+        return select(query, 0);
+    }
+
+    /**
+     * @return the text of the whole document, as {@link Element#text()}
+     */
+    public String text() {
+        return text(0);
+    }
+
+    /**
+     * @return the document's title, as {@link Document#title()}
+     */
+    public String title() {
+        for (int i = 0; i < size; i++) {
+            if (tag[i] >= 0 && tags[tag[i]].getName().equals("title"))
+                return StringUtil.normaliseWhitespace(text(i)).trim();
+        }
+        return "";
+    }
+
+    /**
+     * @return the number of nodes held: elements, text and data
+     */
+    public int size() {
+        return size;
+    }
+
+    // queries and accessors, by node index
+
+    List<FrozenElement> select(String query, int root) {
+        Validate.notEmpty(query);
+        return select(QueryParser.parse(query.trim()), root);
+    }
+
+    List<FrozenElement> select(Evaluator evaluator, int root) {
+        FrozenEvaluator frozen = frozen(evaluator);
+        List<FrozenElement> found = new ArrayList<FrozenElement>();
+        for (int i = root; i < end[root]; i++) {
+            if (tag[i] >= 0 && frozen.matches(this, root, i))
+                found.add(new FrozenElement(this, i));
+        }
+        return found;
+    }
+
+    // checks once that the query, and each evaluator within it, can be run on a snapshot
+    private static FrozenEvaluator frozen(Evaluator evaluator) {
+        Validate.isTrue(evaluator instanceof FrozenEvaluator,
+                evaluator.getClass().getName() + " can't be run on a frozen document");
+        if (evaluator instanceof CombiningEvaluator) {
+            for (Evaluator e : ((CombiningEvaluator) evaluator).evaluators)
+                frozen(e);
+        } else if (evaluator instanceof StructuralEvaluator) {
+            frozen(((StructuralEvaluator) evaluator).evaluator);
+        }
+        return (FrozenEvaluator) evaluator;
+    }
+
+    boolean isDocument(int i) {
+        return i == 0 && isDocument;
+    }
+
+    // as element.parent() != null, counting the root's parent in its tree
+    boolean hasParent(int i) {
+        return parent[i] != -1 || rootHasParent;
+    }
+
+    // as a parent that is an element and not a document, counting the root's parent in its tree
+    boolean hasParentElement(int i) {
+        int p = parent[i];
+        return p == -1 ? rootHasParentElement : !isDocument(p);
+    }
+
+    int parent(int i) {
+        return parent[i];
+    }
+
+    int end(int i) {
+        return end[i];
+    }
+
+    boolean isElement(int i) {
+        return tag[i] >= 0;
+    }
+
+    boolean isEmpty(int i) {
+        return firstChild[i] == -1;
+    }
+
+    List<FrozenElement> children(int i) {
+        List<FrozenElement> children = new ArrayList<FrozenElement>();
+        for (int c = firstChild[i]; c != -1; c = nextSibling[c]) {
+            if (tag[c] >= 0)
+                children.add(new FrozenElement(this, c));
+        }
+        return children;
+    }
+
+    int firstElementChild(int i) {
+        for (int c = firstChild[i]; c != -1; c = nextSibling[c]) {
+            if (tag[c] >= 0)
+                return c;
+        }
+        return -1;
+    }
+
+    int previousElementSibling(int i) {
+        return previousElement[i];
+    }
+
+    // positions, for an element with a parent (the root's are among its siblings in its tree)
+    int elementIndex(int i) {
+        return elementIndex[i];
+    }
+
+    int elementCount(int i) {
+        return elementCount[i];
+    }
+
+    int indexOfType(int i) {
+        return typeIndex[i];
+    }
+
+    int countOfType(int i) {
+        return typeCount[i];
+    }
+
+    String tagName(int i) {
+        return tags[tag[i]].getName();
+    }
+
+    String attr(int i, String key) {
+        int a = attribute(i, key);
+        if (a >= 0)
+            return attributeValues[a];
+        else if (key.toLowerCase().startsWith("abs:"))
+            return absUrl(i, key.substring("abs:".length()));
+        return "";
+    }
+
+    boolean hasAttr(int i, String key) {
+        if (key.toLowerCase().startsWith("abs:")) {
+            String absKey = key.substring("abs:".length());
+            if (attribute(i, absKey) >= 0 && !absUrl(i, absKey).equals(""))
+                return true;
+        }
+        return attribute(i, key) >= 0;
+    }
+
+    boolean hasAttrStarting(int i, String keyPrefix) {
+        for (int a = from[i]; a < to[i]; a++) {
+            if (keys[attributeKeys[a]].startsWith(keyPrefix))
+                return true;
+        }
+        return false;
+    }
+
+    String absUrl(int i, String key) {
+        int a = attribute(i, key);
+        if (a < 0)
+            return "";
+        return StringUtil.resolve(baseUris[baseUri[i]], attributeValues[a]);
+    }
+
+    List<Attribute> attributes(int i) {
+        List<Attribute> attributes = new ArrayList<Attribute>(to[i] - from[i]);
+        for (int a = from[i]; a < to[i]; a++)
+            attributes.add(new Attribute(keys[attributeKeys[a]], attributeValues[a]));
+        return attributes;
+    }
+
+    // index of the element's attribute with this key, or -1
+    private int attribute(int i, String key) {
+        key = key.toLowerCase();
+        for (int a = from[i]; a < to[i]; a++) {
+            if (keys[attributeKeys[a]].equals(key))
+                return a;
+        }
+        return -1;
+    }
+
+    boolean hasClass(int i, String className) {
+        return StringUtil.containsToken(attr(i, "class"), className);
+    }
+
+    String text(int i) {
+        StringBuilder out = new StringBuilder();
+        TextCollector.TextAccumulator accum = new TextCollector.TextAccumulator(out);
+        try {
+            for (int n = i; n < end[i]; n++) {
+                if (tag[n] == TEXT)
+                    accum.appendText(text.substring(from[n], to[n]), preserveWhitespace(parent[n]));
+                else if (tag[n] >= 0 && (tags[tag[n]].isBlock() || tags[tag[n]].getName().equals("br")))
+                    accum.appendBlockSpace();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // can't happen with a StringBuilder
+        }
+        return out.toString();
+    }
+
+    String ownText(int i) {
+        StringBuilder accum = new StringBuilder();
+        for (int c = firstChild[i]; c != -1; c = nextSibling[c]) {
+            if (tag[c] == TEXT) {
+                String own = text.substring(from[c], to[c]);
+                if (!preserveWhitespace(i)) {
+                    own = StringUtil.normaliseWhitespace(own);
+                    if (accum.length() != 0 && accum.charAt(accum.length() - 1) == ' ')
+                        own = own.replaceFirst("^\\s+", "");
+                }
+                accum.append(own);
+            } else if (tag[c] >= 0 && tags[tag[c]].getName().equals("br")) {
+                if (accum.length() == 0 || accum.charAt(accum.length() - 1) != ' ')
+                    accum.append(" ");
+            }
+        }
+        return accum.toString().trim();
+    }
+
+    // as Element.preserveWhitespace: this element or its parent preserves whitespace
+    private boolean preserveWhitespace(int i) {
+        if (i < 0 || tag[i] < 0)
+            return false;
+        int p = parent[i];
+        return tags[tag[i]].preserveWhitespace() || p >= 0 && tags[tag[p]].preserveWhitespace();
+    }
+
+    // works out each element's position among its element siblings, overall and of its tag
+    private void positions() {
+        Arrays.fill(previousElement, -1);
+        for (int i = 0; i < size; i++) {
+            if (tag[i] < 0 || firstChild[i] == -1)
+                continue;
+            Map<String, int[]> ofType = new HashMap<String, int[]>(); // by name, as unknown tags aren't shared
+            int count = 0, previous = -1;
+            for (int c = firstChild[i]; c != -1; c = nextSibling[c]) {
+                if (tag[c] < 0)
+                    continue;
+                int[] typeCounter = ofType.get(tagName(c));
+                if (typeCounter == null) {
+                    typeCounter = new int[1];
+                    ofType.put(tagName(c), typeCounter);
+                }
+                elementIndex[c] = count++;
+                typeIndex[c] = typeCounter[0]++;
+                previousElement[c] = previous;
+                previous = c;
+            }
+            for (int c = firstChild[i]; c != -1; c = nextSibling[c]) {
+                if (tag[c] < 0)
+                    continue;
+                elementCount[c] = count;
+                typeCount[c] = ofType.get(tagName(c))[0];
+            }
+        }
+    }
+
+    // the root's position among its siblings in the tree it was taken from
+    private void rootPosition(Element root) {
+        String name = root.tagName();
+        int count = 0, ofType = 0;
+        for (Element sibling : root.parent().children()) {
+            if (sibling == root) {
+                elementIndex[0] = count;
+                typeIndex[0] = ofType;
+            }
+            count++;
+            if (sibling.tagName().equals(name))
+                ofType++;
+        }
+        elementCount[0] = count;
+        typeCount[0] = ofType;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        int[] trimmed = new int[length];
+        System.arraycopy(array, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    // fills the arrays in one walk of the nodes
+    private static final class Builder implements NodeVisitor {
+        int size = 0;
+        int[] parent = new int[64], firstChild = new int[64], nextSibling = new int[64], end = new int[64];
+        int[] tag = new int[64], from = new int[64], to = new int[64], baseUri = new int[64];
+        final List<Tag> tags = new ArrayList<Tag>();
+        final Map<Tag, Integer> tagIds = new HashMap<Tag, Integer>();
+        final List<String> keys = new ArrayList<String>();
+        final Map<String, Integer> keyIds = new HashMap<String, Integer>();
+        final List<String> baseUris = new ArrayList<String>();
+        final Map<String, Integer> baseUriIds = new HashMap<String, Integer>();
+        int attributes = 0;
+        int[] attributeKeys = new int[64];
+        String[] attributeValues = new String[64];
+        final StringBuilder text = new StringBuilder();
+
+        private int[] open = new int[32]; // stack of open elements
+        private int[] lastChild = new int[32]; // by open element, its last child so far
+        private int depth = -1;
+
+        public void head(Node node, int ignored) {
+            int kind;
+            if (node instanceof Element)
+                kind = id(((Element) node).tag(), tags, tagIds);
+            else if (node instanceof TextNode)
+                kind = TEXT;
+            else if (node instanceof Comment || node instanceof DocumentType || node instanceof XmlDeclaration)
+                return; // not seen by queries or text
+            else
+                kind = DATA;
+
+            int i = add();
+            tag[i] = kind;
+            baseUri[i] = id(node.baseUri(), baseUris, baseUriIds);
+            firstChild[i] = -1;
+            nextSibling[i] = -1;
+            if (depth >= 0) {
+                int p = open[depth];
+                parent[i] = p;
+                if (lastChild[depth] == -1)
+                    firstChild[p] = i;
+                else
+                    nextSibling[lastChild[depth]] = i;
+                lastChild[depth] = i;
+            } else {
+                parent[i] = -1;
+            }
+
+            if (kind == TEXT) {
+                from[i] = text.length();
+                text.append(((TextNode) node).getWholeText());
+                to[i] = text.length();
+            } else if (kind >= 0) {
+                from[i] = attributes;
+                for (Attribute attribute : node.attributes())
+                    addAttribute(id(attribute.getKey(), keys, keyIds), attribute.getValue());
+                to[i] = attributes;
+                depth++;
+                if (depth == open.length) {
+                    open = grow(open);
+                    lastChild = grow(lastChild);
+                }
+                open[depth] = i;
+                lastChild[depth] = -1;
+            }
+            end[i] = i + 1; // until its descendants are added
+        }
+
+        public void tail(Node node, int ignored) {
+            if (node instanceof Element) {
+                end[open[depth]] = size;
+                depth--;
+            }
+        }
+
+        private int add() {
+            if (size == tag.length) {
+                parent = grow(parent);
+                firstChild = grow(firstChild);
+                nextSibling = grow(nextSibling);
+                end = grow(end);
+                tag = grow(tag);
+                from = grow(from);
+                to = grow(to);
+                baseUri = grow(baseUri);
+            }
+            return size++;
+        }
+
+        private void addAttribute(int key, String value) {
+            if (attributes == attributeKeys.length) {
+                attributeKeys = grow(attributeKeys);
+                String[] grown = new String[attributeValues.length * 2];
+                System.arraycopy(attributeValues, 0, grown, 0, attributes);
+                attributeValues = grown;
+            }
+            attributeKeys[attributes] = key;
+            attributeValues[attributes] = value;
+            attributes++;
+        }
+
+        private static <T> int id(T value, List<T> values, Map<T, Integer> ids) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                values.add(value);
+                ids.put(value, id);
+            }
+            return id;
+        }
+
+        private static int[] grow(int[] array) {
+            int[] grown = new int[array.length * 2];
+            System.arraycopy(array, 0, grown, 0, array.length);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.jsoup.select;
+
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Element;
+
+import java.util.List;
+
+/**
+ * An element of a {@link FrozenDocument}: a handle to its place in the snapshot, with the read methods of
+ * {@link Element}. Handles are made as they are asked for, so compare them with {@link #equals(Object)}.
+ */
+public final class FrozenElement {
+    private final FrozenDocument doc;
+    private final int index;
+
+    FrozenElement(FrozenDocument doc, int index) {
+        this.doc = doc;
+        this.index = index;
+    }
+
+    /**
+     * @return the tag name, as {@link Element#tagName()}
+     */
+    public String tagName() {
+        return doc.tagName(index);
+    }
+
+    /**
+     * @return the id attribute, or an empty string if none
+     */
+    public String id() {
+        return doc.attr(index, "id");
+    }
+
+    /**
+     * Get an attribute value, as {@link Element#attr(String)}, including the {@code abs:} prefix.
+     * @param attributeKey attribute key
+     * @return the value, or an empty string if not set
+     */
+    public String attr(String attributeKey) {
+        Validate.notNull(attributeKey);
+        return doc.attr(index, attributeKey);
+    }
+
+    /**
+     * @param attributeKey attribute key
+     * @return true if the element has the attribute, as {@link Element#hasAttr(String)}
+     */
+    public boolean hasAttr(String attributeKey) {
+        Validate.notNull(attributeKey);
+        return doc.hasAttr(index, attributeKey);
+    }
+
+    /**
+     * @param attributeKey attribute key
+     * @return the attribute resolved to an absolute URL, as {@link Element#absUrl(String)}
+     */
+    public String absUrl(String attributeKey) {
+        Validate.notEmpty(attributeKey);
+        return doc.absUrl(index, attributeKey);
+    }
+
+    /**
+     * @return copies of the element's attributes, in their original order
+     */
+    public List<Attribute> attributes() {
+        return doc.attributes(index);
+    }
+
+    /**
+     * @return the class attribute, or an empty string if none
+     */
+    public String className() {
+        return doc.attr(index, "class");
+    }
+
+    /**
+     * @param className class name to look for
+     * @return true if the element has the class, ignoring case, as {@link Element#hasClass(String)}
+     */
+    public boolean hasClass(String className) {
+        return doc.hasClass(index, className);
+    }
+
+    /**
+     * @return the combined, normalised text of the element and its descendants, as {@link Element#text()}
+     */
+    public String text() {
+        return doc.text(index);
+    }
+
+    /**
+     * @return the text of the element's own text nodes, as {@link Element#ownText()}
+     */
+    public String ownText() {
+        return doc.ownText(index);
+    }
+
+    /**
+     * @return the parent element, or null if this is the snapshot's root
+     */
+    public FrozenElement parent() {
+        int parent = doc.parent(index);
+        return parent == -1 ? null : new FrozenElement(doc, parent);
+    }
+
+    /**
+     * @return the element's child elements
+     */
+    public List<FrozenElement> children() {
+        return doc.children(index);
+    }
+
+    /**
+     * @return the element's index among its element siblings, from 0
+     */
+    public int elementSiblingIndex() {
+        return doc.hasParent(index) ? doc.elementIndex(index) : 0;
+    }
+
+    /**
+     * Find the elements under (and including) this one that match a CSS query, as {@link Element#select(String)}.
+     * @param query CSS query
+     * @return matching elements, in document order
+     */
+    public List<FrozenElement> select(String query) {
+        return doc.select(query, index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FrozenElement)) return false;
+        FrozenElement that = (FrozenElement) o;
+        return doc == that.doc && index == that.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * doc.hashCode() + index;
+    }
+
+    @Override
+    public String toString() {
+        return "<" + tagName() + "> #" + index;
+    }
+}
@@ -0,0 +1,17 @@
+package org.jsoup.select;
+
+/**
+ * An evaluator that can also be run on a {@link FrozenDocument}. Each of jsoup's evaluators is one, so any parsed query
+ * can be; {@link FrozenDocument} checks a query's evaluators once, before it runs them.
+ */
+interface FrozenEvaluator {
+    /**
+     * Test if an element of a frozen document meets the evaluator's requirements, as
+     * {@link Evaluator#matches(org.jsoup.nodes.Element, org.jsoup.nodes.Element)} does for a document's nodes.
+     *
+     * @param doc     the frozen document
+     * @param root    index of the root of the matching subtree
+     * @param element index of the tested element
+     */
+    boolean matches(FrozenDocument doc, int root, int element);
+}
@@ -0,0 +1,49 @@
+package org.jsoup.select;
+
+/**
+ * Finds a string in text, ignoring case, without making lower case copies of the text. Characters are compared as
+ * {@link String#regionMatches(boolean, int, String, int, int)} does when ignoring case. The search is
+ * Boyer-Moore-Horspool, over case folded characters, with the skip table made once for the searched string.
+ */
+final class IgnoreCaseSearch {
+    private final char[] search; // folded
+    private final int[] skip = new int[256]; // by the low byte of a folded char; on collisions, the smaller skip
+
+    IgnoreCaseSearch(String search) {
+        this.search = new char[search.length()];
+        for (int i = 0; i < search.length(); i++)
+            this.search[i] = fold(search.charAt(i));
+        int last = this.search.length - 1;
+        for (int i = 0; i < skip.length; i++)
+            skip[i] = this.search.length;
+        for (int i = 0; i < last; i++)
+            skip[this.search[i] & 0xFF] = last - i;
+    }
+
+    /**
+     * @param text text to search in
+     * @return true if the text contains the searched string, ignoring case
+     */
+    boolean in(String text) {
+        int last = search.length - 1;
+        if (last < 0)
+            return true;
+        for (int i = last; i < text.length(); ) {
+            int j = last, k = i;
+            while (fold(text.charAt(k)) == search[j]) {
+                if (j == 0)
+                    return true;
+                j--;
+                k--;
+            }
+            i += skip[fold(text.charAt(i)) & 0xFF];
+        }
+        return false;
+    }
+
+    static char fold(char c) {
+        if (c < 128)
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,185 @@
+package org.jsoup.select;
+
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs a set of named queries over a document in one pass, instead of one pass per query. Each query is filed under a
+ * tag name, id or class it requires, where it has one, so an element is only tested against the queries it might
+ * match; queries with no such requirement are tested against every element. The queries are parsed once, so a
+ * multi-selector can be made once and used for many documents.
+ * <pre>
+ * Map&lt;String, String&gt; queries = new LinkedHashMap&lt;String, String&gt;();
+ * queries.put("title", "h1.headline");
+ * queries.put("links", "#content a[href]");
+ * MultiSelector extractor = new MultiSelector(queries);
+ * Map&lt;String, Elements&gt; found = extractor.select(doc);
+ * </pre>
+ * The parsed queries hold no state, so one multi-selector can be used from many threads at once.
+ */
+public class MultiSelector {
+    private final List<String> names = new ArrayList<String>();
+    // each alternative of each query, filed under one requirement: the most selective of id, class, then tag
+    private final Map<String, List<Term>> byId = new HashMap<String, List<Term>>();
+    private final Map<String, List<Term>> byClass = new HashMap<String, List<Term>>();
+    private final Map<String, List<Term>> byTag = new HashMap<String, List<Term>>();
+    private final List<Term> unfiled = new ArrayList<Term>();
+
+    /**
+     * Parse the queries.
+     * @param queries CSS queries, by name
+     * @throws Selector.SelectorParseException (unchecked) on an invalid query
+     */
+    public MultiSelector(Map<String, String> queries) {
+        Validate.notNull(queries);
+        for (Map.Entry<String, String> entry : queries.entrySet()) {
+            Validate.notNull(entry.getKey(), "Query name must not be null");
+            Validate.notNull(entry.getValue());
+            String query = entry.getValue().trim();
+            Validate.notEmpty(query);
+
+            int index = names.size();
+            Evaluator eval = QueryParser.parse(query);
+            names.add(entry.getKey());
+            if (eval instanceof CombiningEvaluator.Or) {
+                for (Evaluator alternative : ((CombiningEvaluator.Or) eval).evaluators)
+                    file(new Term(index, alternative));
+            } else {
+                file(new Term(index, eval));
+            }
+        }
+    }
+
+    /**
+     * Find the elements matching each query, in the root and its descendants.
+     * @param root root element to descend into
+     * @return matching elements by query name, in the order of the queries; empty for a query that matched none
+     */
+    public Map<String, Elements> select(Element root) {
+        Validate.notNull(root);
+        Elements[] found = new Elements[names.size()];
+        for (int i = 0; i < found.length; i++)
+            found[i] = new Elements();
+
+        boolean began = SiblingPositions.begin();
+        try {
+            new NodeTraversor(new Accumulator(root, found)).traverse(root);
+        } finally {
+            if (began)
+                SiblingPositions.end();
+        }
+
+        Map<String, Elements> results = new LinkedHashMap<String, Elements>();
+        for (int i = 0; i < found.length; i++)
+            results.put(names.get(i), found[i]);
+        return results;
+    }
+
+    private void file(Term term) {
+        String tag = null, id = null, className = null;
+        List<Evaluator> required = term.eval instanceof CombiningEvaluator.And ?
+                ((CombiningEvaluator.And) term.eval).evaluators : Collections.singletonList(term.eval);
+        for (Evaluator eval : required) {
+            if (eval instanceof Evaluator.Id)
+                id = ((Evaluator.Id) eval).id;
+            else if (eval instanceof Evaluator.Class && className == null)
+                className = ((Evaluator.Class) eval).className;
+            else if (eval instanceof Evaluator.Tag)
+                tag = ((Evaluator.Tag) eval).tagName;
+        }
+        if (id != null)
+            add(byId, id, term);
+        else if (className != null)
+            add(byClass, className, term);
+        else if (tag != null)
+            add(byTag, tag, term);
+        else
+            unfiled.add(term);
+    }
+
+    private static void add(Map<String, List<Term>> terms, String key, Term term) {
+        List<Term> list = terms.get(key);
+        if (list == null) {
+            list = new ArrayList<Term>();
+            terms.put(key, list);
+        }
+        list.add(term);
+    }
+
+    private static final class Term {
+        final int query;
+        final Evaluator eval;
+
+        Term(int query, Evaluator eval) {
+            this.query = query;
+            this.eval = eval;
+        }
+    }
+
+    private class Accumulator implements NodeVisitor {
+        private final Element root;
+        private final Elements[] found;
+
+        Accumulator(Element root, Elements[] found) {
+            this.root = root;
+            this.found = found;
+        }
+
+        public void head(Node node, int depth) {
+            if (!(node instanceof Element))
+                return;
+            Element el = (Element) node;
+            test(el, byTag.get(el.tagName()));
+            if (!byId.isEmpty())
+                test(el, byId.get(el.id()));
+            if (!byClass.isEmpty())
+                testClasses(el, el.className());
+            test(el, unfiled);
+        }
+
+        // tests each of the element's classes, split as classNames() splits them, but without a regex or a set
+        private void testClasses(Element el, String classes) {
+            int length = classes.length();
+            for (int start = 0; start < length; ) {
+                int stop = start;
+                while (stop < length && !isSpace(classes.charAt(stop)))
+                    stop++;
+                if (stop > start)
+                    test(el, byClass.get(classes.substring(start, stop).toLowerCase(Locale.ENGLISH)));
+                start = stop + 1;
+            }
+        }
+
+        private void test(Element el, List<Term> terms) {
+            if (terms == null)
+                return;
+            for (int i = 0; i < terms.size(); i++) {
+                Term term = terms.get(i);
+                Elements elements = found[term.query];
+                // an element may be tested by several alternatives of a query, but is found once
+                if (!elements.isEmpty() && elements.get(elements.size() - 1) == el)
+                    continue;
+                if (term.eval.matches(root, el))
+                    elements.add(el);
+            }
+        }
+
+        public void tail(Node node, int depth) {
+            // void
+        }
+    }
+
+    // whitespace as the regex \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
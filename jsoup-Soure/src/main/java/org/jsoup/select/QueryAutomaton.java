@@ -0,0 +1,327 @@
+package org.jsoup.select;
+
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.parser.TokenQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a query in one depth-first pass, as a state machine over its combinators, instead of as an evaluator tree that
+ * walks back up the tree for every candidate.
+ * <p/>
+ * A query is a group of selectors, each a chain of compound selectors (like {@code div.nav}) joined by combinators.
+ * Each compound in each chain is a state, one bit of a mask: an element is in state k when it matches compound k, and
+ * is related by combinator k to an element in state k-1. The walk keeps the open elements on a stack, with the states
+ * worked out for each so far, and for the union of the states of its ancestors below the root. States are worked out
+ * lazily, and kept: only when an element could end a chain, or a later element asks about its parent or ancestors.
+ * So an expensive compound at the start of a chain, as {@code div:has(p)} in {@code div:has(p) > a}, is only tested on
+ * the parents of {@code a}s, and once each. Siblings are gone from the stack by the time a later sibling asks, so the
+ * states that sibling combinators need are worked out as each element closes, and kept on its parent's frame. An
+ * element is found when it is in the last state of a chain.
+ * <p/>
+ * Compounds are matched with their own evaluators from the {@link QueryParser}, so pseudo selectors including
+ * {@code :has} and {@code :not} work as in the evaluator engine, as do its rules for the root: it can't be the
+ * ancestor of a descendant combinator, but can be the parent of a child combinator.
+ */
+final class QueryAutomaton {
+    private final static String[] combinators = {",", ">", "+", "~", " "};
+    private static final int maxStates = 64; // a state per bit of a long
+
+    // how an element enters a state, from the element it is related to in the previous state
+    enum Step {
+        First, Child, Descendant, Adjacent, Sibling
+    }
+
+    private final List<Evaluator> compoundList = new ArrayList<Evaluator>();
+    private final List<Step> stepList = new ArrayList<Step>();
+    // by state:
+    private Evaluator[] compounds;
+    private Step[] steps;
+    private boolean[] selfFirst; // test the compound before the previous state, as it's cheaper
+    private long lastStates = 0; // states that end a chain: a match
+    private long siblingStates = 0; // states that a later sibling may ask about
+    private boolean combines = false; // any combinators, other than the group's commas
+
+    private QueryAutomaton() {}
+
+    /**
+     * Compile a query.
+     * @param query CSS query
+     * @return the automaton, or null if the query has too many compound selectors to run as one
+     * @throws Selector.SelectorParseException on an invalid query
+     */
+    static QueryAutomaton compile(String query) {
+        QueryAutomaton automaton = new QueryAutomaton();
+        return automaton.parse(query) ? automaton : null;
+    }
+
+    // splits the query at its combinators, as QueryParser does; false if there are too many states
+    private boolean parse(String query) {
+        TokenQueue tq = new TokenQueue(query);
+        tq.consumeWhitespace();
+        if (tq.matchesAny(combinators)) // starts with a combinator: relative to the root
+            add(Step.First, new StructuralEvaluator.Root());
+        else if (!add(Step.First, compound(tq)))
+            return false;
+
+        while (!tq.isEmpty()) {
+            boolean seenWhite = tq.consumeWhitespace();
+            char combinator;
+            if (tq.matchesAny(combinators))
+                combinator = tq.consume();
+            else if (seenWhite)
+                combinator = ' ';
+            else
+                throw new Selector.SelectorParseException("Could not parse query '%s': unexpected token at '%s'", query, tq.remainder());
+            tq.consumeWhitespace();
+
+            if (!add(step(combinator), compound(tq)))
+                return false;
+        }
+        lastStates |= 1L << (compoundList.size() - 1);
+
+        int size = compoundList.size();
+        compounds = compoundList.toArray(new Evaluator[size]);
+        steps = stepList.toArray(new Step[size]);
+        selfFirst = new boolean[size];
+        int chainCost = 0; // of the compounds so far in this chain
+        for (int k = 0; k < size; k++) {
+            if (steps[k] == Step.First)
+                chainCost = 0;
+            int cost = compounds[k].cost();
+            selfFirst[k] = cost <= chainCost;
+            chainCost += cost;
+        }
+        return true;
+    }
+
+    private static Step step(char combinator) {
+        switch (combinator) {
+            case ',':
+                return Step.First;
+            case '>':
+                return Step.Child;
+            case ' ':
+                return Step.Descendant;
+            case '+':
+                return Step.Adjacent;
+            case '~':
+                return Step.Sibling;
+            default:
+                throw new Selector.SelectorParseException("Unknown combinator: " + combinator);
+        }
+    }
+
+    private boolean add(Step step, Evaluator compound) {
+        int state = compoundList.size();
+        if (state == maxStates)
+            return false;
+        if (state > 0) {
+            long previous = 1L << (state - 1);
+            if (step == Step.First)
+                lastStates |= previous;
+            else if (step == Step.Adjacent || step == Step.Sibling)
+                siblingStates |= previous;
+        }
+        if (step != Step.First)
+            combines = true;
+        stepList.add(step);
+        compoundList.add(compound);
+        return true;
+    }
+
+    /**
+     * @return true if the query has combinators. Without, the evaluators already run it in one pass, and with less
+     * work per element.
+     */
+    boolean combines() {
+        return combines;
+    }
+
+    /**
+     * @return the query as one evaluator, for a query that doesn't {@link #combines() combine}: its compound selector,
+     * or an OR of those of its group. Made from the compounds already parsed here, so the query isn't parsed twice.
+     */
+    Evaluator evaluator() {
+        Validate.isFalse(combines, "Query has combinators");
+        if (compounds.length == 1)
+            return compounds[0];
+        CombiningEvaluator.Or or = new CombiningEvaluator.Or();
+        for (Evaluator compound : compounds)
+            or.add(compound);
+        return QueryOptimiser.optimise(or);
+    }
+
+    // the next compound selector, up to a combinator
+    private static Evaluator compound(TokenQueue tq) {
+        StringBuilder sq = new StringBuilder();
+        while (!tq.isEmpty()) {
+            if (tq.matches("("))
+                sq.append("(").append(tq.chompBalanced('(', ')')).append(")");
+            else if (tq.matches("["))
+                sq.append("[").append(tq.chompBalanced('[', ']')).append("]");
+            else if (tq.matchesAny(combinators))
+                break;
+            else
+                sq.append(tq.consume());
+        }
+        return QueryParser.parse(sq.toString());
+    }
+
+    /**
+     * Find the elements matching the query.
+     * @param root root element to descend into
+     * @return matching elements, in document order
+     */
+    Elements select(Element root) {
+        Elements found = new Elements();
+        boolean began = SiblingPositions.begin();
+        try {
+            new NodeTraversor(new Run(root, found)).traverse(root);
+        } finally {
+            if (began)
+                SiblingPositions.end();
+        }
+        return found;
+    }
+
+    // one run of the automaton. The stack has a frame per open element, the root at 0; a frame holds the states worked
+    // out for its element (known, and of those, in), the same for the union of its ancestors below the root, and the
+    // sibling states of its element children so far.
+    private class Run implements NodeVisitor {
+        private final Element root;
+        private final Elements found;
+        private Element[] elements = new Element[32];
+        private long[] known = new long[32];
+        private long[] in = new long[32];
+        private long[] ancestorsKnown = new long[32];
+        private long[] ancestorsIn = new long[32];
+        private long[] lastChild = new long[32];
+        private long[] children = new long[32];
+        private int top = -1;
+
+        Run(Element root, Elements found) {
+            this.root = root;
+            this.found = found;
+        }
+
+        public void head(Node node, int depth) {
+            if (!(node instanceof Element))
+                return;
+            push((Element) node);
+            long last = lastStates;
+            while (last != 0) {
+                int k = Long.numberOfTrailingZeros(last);
+                last &= last - 1;
+                if (state(top, k)) {
+                    found.add(elements[top]);
+                    break;
+                }
+            }
+        }
+
+        public void tail(Node node, int depth) {
+            if (!(node instanceof Element))
+                return;
+            long siblings = 0;
+            if (top > 0) { // the root has no siblings in this run
+                long need = siblingStates;
+                while (need != 0) {
+                    int k = Long.numberOfTrailingZeros(need);
+                    need &= need - 1;
+                    if (state(top, k))
+                        siblings |= 1L << k;
+                }
+            }
+            elements[top--] = null;
+            if (top >= 0) {
+                lastChild[top] = siblings;
+                children[top] |= siblings;
+            }
+        }
+
+        // is the element at frame f in state k
+        private boolean state(int f, int k) {
+            long bit = 1L << k;
+            if ((known[f] & bit) != 0)
+                return (in[f] & bit) != 0;
+            boolean is = selfFirst[k] ?
+                    compounds[k].matches(root, elements[f]) && previous(f, k) :
+                    previous(f, k) && compounds[k].matches(root, elements[f]);
+            known[f] |= bit;
+            if (is)
+                in[f] |= bit;
+            return is;
+        }
+
+        // is the element at frame f related by combinator k to an element in state k-1
+        private boolean previous(int f, int k) {
+            switch (steps[k]) {
+                case First:
+                    return true;
+                case Child:
+                    return f > 0 && state(f - 1, k - 1);
+                case Descendant:
+                    return f > 0 && ancestor(f - 1, k - 1);
+                case Adjacent:
+                    return f > 0 && (lastChild[f - 1] & (1L << (k - 1))) != 0;
+                case Sibling:
+                    return f > 0 && (children[f - 1] & (1L << (k - 1))) != 0;
+                default:
+                    throw new IllegalStateException("Unknown step: " + steps[k]);
+            }
+        }
+
+        // is the element at frame f, or one of its ancestors below the root, in state k
+        private boolean ancestor(int f, int k) {
+            long bit = 1L << k;
+            int g = f; // down to the nearest frame where it's known; the root's are all known
+            while ((ancestorsKnown[g] & bit) == 0)
+                g--;
+            boolean is = (ancestorsIn[g] & bit) != 0;
+            while (g < f) { // and back up
+                g++;
+                is = is || state(g, k);
+                ancestorsKnown[g] |= bit;
+                if (is)
+                    ancestorsIn[g] |= bit;
+            }
+            return is;
+        }
+
+        private void push(Element el) {
+            top++;
+            if (top == elements.length) {
+                elements = grow(elements);
+                known = grow(known);
+                in = grow(in);
+                ancestorsKnown = grow(ancestorsKnown);
+                ancestorsIn = grow(ancestorsIn);
+                lastChild = grow(lastChild);
+                children = grow(children);
+            }
+            elements[top] = el;
+            known[top] = 0;
+            in[top] = 0;
+            ancestorsKnown[top] = top == 0 ? -1L : 0; // the root is not an ancestor
+            ancestorsIn[top] = 0;
+            lastChild[top] = 0;
+            children[top] = 0;
+        }
+
+        private long[] grow(long[] stack) {
+            long[] grown = new long[stack.length * 2];
+            System.arraycopy(stack, 0, grown, 0, stack.length);
+            return grown;
+        }
+
+        private Element[] grow(Element[] stack) {
+            Element[] grown = new Element[stack.length * 2];
+            System.arraycopy(stack, 0, grown, 0, stack.length);
+            return grown;
+        }
+    }
+}
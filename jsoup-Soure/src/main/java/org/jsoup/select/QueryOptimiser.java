@@ -0,0 +1,74 @@
+package org.jsoup.select;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites a parsed query into an equivalent one that is quicker to run. Nested ANDs are flattened, and the terms of
+ * each AND are ordered cheapest first by {@link Evaluator#cost()}, so an element that fails a tag or class test is not
+ * put through a structural or text test. Repeated terms of an OR are removed.
+ */
+final class QueryOptimiser {
+    private static final Comparator<Evaluator> byCost = new Comparator<Evaluator>() {
+        public int compare(Evaluator a, Evaluator b) {
+            int costA = a.cost(), costB = b.cost();
+            return costA < costB ? -1 : costA > costB ? 1 : 0;
+        }
+    };
+
+    private QueryOptimiser() {}
+
+    /**
+     * Optimise an evaluator tree. Combining and structural evaluators are changed in place.
+     * @param eval evaluator from the query parser
+     * @return the optimised evaluator, which may be a different node than the one passed in
+     */
+    static Evaluator optimise(Evaluator eval) {
+        if (eval instanceof StructuralEvaluator) {
+            StructuralEvaluator structural = (StructuralEvaluator) eval;
+            structural.evaluator = optimise(structural.evaluator);
+        } else if (eval instanceof CombiningEvaluator.And) {
+            List<Evaluator> evaluators = ((CombiningEvaluator.And) eval).evaluators;
+            List<Evaluator> terms = new ArrayList<Evaluator>(evaluators.size());
+            for (Evaluator term : evaluators) {
+                term = optimise(term);
+                if (term instanceof CombiningEvaluator.And)
+                    terms.addAll(((CombiningEvaluator.And) term).evaluators); // already ordered
+                else
+                    terms.add(term);
+            }
+            Collections.sort(terms, byCost); // stable, so equal costs keep the query's order
+            if (terms.size() == 1)
+                return terms.get(0);
+            evaluators.clear();
+            evaluators.addAll(terms);
+        } else if (eval instanceof CombiningEvaluator.Or) {
+            List<Evaluator> evaluators = ((CombiningEvaluator.Or) eval).evaluators;
+            List<Evaluator> terms = new ArrayList<Evaluator>(evaluators.size());
+            Set<String> seen = new HashSet<String>();
+            for (Evaluator term : evaluators) {
+                term = optimise(term);
+                List<Evaluator> alternatives = term instanceof CombiningEvaluator.Or ?
+                        ((CombiningEvaluator.Or) term).evaluators : Collections.singletonList(term);
+                for (Evaluator alternative : alternatives) {
+                    if (seen.add(key(alternative)))
+                        terms.add(alternative);
+                }
+            }
+            if (terms.size() == 1)
+                return terms.get(0);
+            evaluators.clear();
+            evaluators.addAll(terms);
+        }
+        return eval;
+    }
+
+    // the built in evaluators print all their state, so two of the same class that print the same are equivalent
+    private static String key(Evaluator eval) {
+        return eval.getClass().getName() + " " + eval;
+    }
+}
@@ -29,13 +29,13 @@ class QueryParser {
     }
 
     /**
-     * Parse a CSS query into an Evaluator.
+     * Parse a CSS query into an Evaluator, optimised to run its cheapest tests first.
      * @param query CSS query
      * @return Evaluator
      */
     public static Evaluator parse(String query) {
         QueryParser p = new QueryParser(query);
-        return p.parse();
+        return QueryOptimiser.optimise(p.parse());
     }
 
     /**
@@ -77,7 +77,7 @@ class QueryParser {
 
         Evaluator rootEval; // the new topmost evaluator
         Evaluator currentEval; // the evaluator the new eval will be combined to. could be root, or rightmost or.
-        Evaluator newEval = parse(subQuery); // the evaluator to add into target evaluator
+        Evaluator newEval = new QueryParser(subQuery).parse(); // the evaluator to add into target evaluator
         boolean replaceRightMost = false;
 
         if (evals.size() == 1) {
@@ -321,7 +321,7 @@ class QueryParser {
         tq.consume(":has");
         String subQuery = tq.chompBalanced('(', ')');
         Validate.notEmpty(subQuery, ":has(el) subselect must not be empty");
-        evals.add(new StructuralEvaluator.Has(parse(subQuery)));
+        evals.add(new StructuralEvaluator.Has(new QueryParser(subQuery).parse()));
     }
 
     // pseudo selector :contains(text), containsOwn(text)
@@ -353,6 +353,6 @@ class QueryParser {
         String subQuery = tq.chompBalanced('(', ')');
         Validate.notEmpty(subQuery, ":not(selector) subselect must not be empty");
 
-        evals.add(new StructuralEvaluator.Not(parse(subQuery)));
+        evals.add(new StructuralEvaluator.Not(new QueryParser(subQuery).parse()));
     }
 }
@@ -54,7 +54,8 @@ import java.util.LinkedHashSet;
  * @see Element#select(String)
  */
 public class Selector {
-    private final Evaluator evaluator;
+    private final QueryAutomaton automaton;
+    private final Evaluator evaluator; // if the query has no combinators, or is too large for the automaton
     private final Element root;
 
     private Selector(String query, Element root) {
@@ -63,7 +64,14 @@ public class Selector {
         Validate.notEmpty(query);
         Validate.notNull(root);
 
-        this.evaluator = QueryParser.parse(query);
+        QueryAutomaton compiled = QueryAutomaton.compile(query);
+        if (compiled != null && compiled.combines()) {
+            this.automaton = compiled;
+            this.evaluator = null;
+        } else {
+            this.automaton = null;
+            this.evaluator = compiled != null ? compiled.evaluator() : QueryParser.parse(query);
+        }
 
         this.root = root;
     }
@@ -98,7 +106,7 @@ public class Selector {
     }
 
     private Elements select() {
-        return Collector.collect(evaluator, root);
+        return automaton != null ? automaton.select(root) : Collector.collect(evaluator, root);
     }
 
     // exclude set. package open so that Elements can implement .not() selector.
@@ -0,0 +1,118 @@
+package org.jsoup.select;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Positions of elements among their element siblings, overall and among those of the same tag. The first element of a
+ * parent asked about has all of that parent's children worked out in one pass; after that, each is a lookup. A cache is
+ * made for each selection, and shared by the evaluators of its query, so it is not held past changes to the tree.
+ * <p/>
+ * The cache of the running selection is kept per thread rather than on the evaluators, so that a query's evaluators
+ * stay free of state, and can be run from many threads at once.
+ */
+final class SiblingPositions {
+    private static final ThreadLocal<SiblingPositions> selection = new ThreadLocal<SiblingPositions>();
+
+    private final Map<Element, Position> positions = new IdentityHashMap<Element, Position>();
+
+    /**
+     * Start a cache for a selection on this thread, unless one is running already (as when an evaluator selects
+     * within its element), in which case that one is shared.
+     * @return true if a cache was started, and must be ended with {@link #end()}
+     */
+    static boolean begin() {
+        if (selection.get() != null)
+            return false;
+        selection.set(new SiblingPositions());
+        return true;
+    }
+
+    static void end() {
+        selection.remove();
+    }
+
+    /**
+     * @return the cache of the selection running on this thread, or, outside one, a throwaway to work out a single
+     * parent
+     */
+    static SiblingPositions current() {
+        SiblingPositions positions = selection.get();
+        return positions != null ? positions : new SiblingPositions();
+    }
+
+    /**
+     * @param el element with a parent
+     * @return index of the element among its parent's element children, from 0
+     */
+    int index(Element el) {
+        return position(el).index;
+    }
+
+    /**
+     * @param el element with a parent
+     * @return number of element children of its parent, itself included
+     */
+    int count(Element el) {
+        return position(el).count[0];
+    }
+
+    /**
+     * @param el element with a parent
+     * @return index of the element among its parent's element children with the same tag name, from 0
+     */
+    int indexOfType(Element el) {
+        return position(el).indexOfType;
+    }
+
+    /**
+     * @param el element with a parent
+     * @return number of element children of its parent with the same tag name, itself included
+     */
+    int countOfType(Element el) {
+        return position(el).countOfType[0];
+    }
+
+    private Position position(Element el) {
+        Position position = positions.get(el);
+        if (position == null) {
+            add(el.parent());
+            position = positions.get(el);
+        }
+        return position;
+    }
+
+    private void add(Element parent) {
+        int[] count = new int[1];
+        Map<String, int[]> countsOfType = new HashMap<String, int[]>();
+        for (Node node : parent.childNodes()) {
+            if (!(node instanceof Element))
+                continue;
+            Element child = (Element) node;
+            int[] countOfType = countsOfType.get(child.tagName());
+            if (countOfType == null) {
+                countOfType = new int[1];
+                countsOfType.put(child.tagName(), countOfType);
+            }
+            positions.put(child, new Position(count[0]++, countOfType[0]++, count, countOfType));
+        }
+    }
+
+    private static final class Position {
+        final int index;
+        final int indexOfType;
+        final int[] count; // shared by the siblings, so complete once the parent is done
+        final int[] countOfType;
+
+        Position(int index, int indexOfType, int[] count, int[] countOfType) {
+            this.index = index;
+            this.indexOfType = indexOfType;
+            this.count = count;
+            this.countOfType = countOfType;
+        }
+    }
+}
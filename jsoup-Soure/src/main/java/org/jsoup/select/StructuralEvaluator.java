@@ -8,13 +8,21 @@ import org.jsoup.nodes.Element;
 abstract class StructuralEvaluator extends Evaluator {
     Evaluator evaluator;
 
-    static class Root extends Evaluator {
+    static class Root extends Evaluator implements FrozenEvaluator {
         public boolean matches(Element root, Element element) {
             return root == element;
         }
+
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return root == element;
+        }
+
+        protected int cost() {
+            return 1;
+        }
     }
 
-    static class Has extends StructuralEvaluator {
+    static class Has extends StructuralEvaluator implements FrozenEvaluator {
         public Has(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -27,12 +35,24 @@ abstract class StructuralEvaluator extends Evaluator {
             return false;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            for (int e = element + 1; e < doc.end(element); e++) {
+                if (doc.isElement(e) && ((FrozenEvaluator) evaluator).matches(doc, root, e))
+                    return true;
+            }
+            return false;
+        }
+
+        protected int cost() {
+            return 20 * (1 + evaluator.cost()); // tries the descendants
+        }
+
         public String toString() {
             return String.format(":has(%s)", evaluator);
         }
     }
 
-    static class Not extends StructuralEvaluator {
+    static class Not extends StructuralEvaluator implements FrozenEvaluator {
         public Not(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -41,12 +61,20 @@ abstract class StructuralEvaluator extends Evaluator {
             return !evaluator.matches(root, node);
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            return !((FrozenEvaluator) evaluator).matches(doc, root, element);
+        }
+
+        protected int cost() {
+            return 1 + evaluator.cost();
+        }
+
         public String toString() {
             return String.format(":not%s", evaluator);
         }
     }
 
-    static class Parent extends StructuralEvaluator {
+    static class Parent extends StructuralEvaluator implements FrozenEvaluator {
         public Parent(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -64,12 +92,27 @@ abstract class StructuralEvaluator extends Evaluator {
             return false;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            if (root == element)
+                return false;
+
+            for (int parent = doc.parent(element); parent != root && parent != -1; parent = doc.parent(parent)) {
+                if (((FrozenEvaluator) evaluator).matches(doc, root, parent))
+                    return true;
+            }
+            return false;
+        }
+
+        protected int cost() {
+            return 10 * (1 + evaluator.cost()); // tries the ancestors
+        }
+
         public String toString() {
             return String.format(":parent%s", evaluator);
         }
     }
 
-    static class ImmediateParent extends StructuralEvaluator {
+    static class ImmediateParent extends StructuralEvaluator implements FrozenEvaluator {
         public ImmediateParent(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -82,12 +125,24 @@ abstract class StructuralEvaluator extends Evaluator {
             return parent != null && evaluator.matches(root, parent);
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            if (root == element)
+                return false;
+
+            int parent = doc.parent(element);
+            return parent != -1 && ((FrozenEvaluator) evaluator).matches(doc, root, parent);
+        }
+
+        protected int cost() {
+            return 1 + evaluator.cost();
+        }
+
         public String toString() {
             return String.format(":ImmediateParent%s", evaluator);
         }
     }
 
-    static class PreviousSibling extends StructuralEvaluator {
+    static class PreviousSibling extends StructuralEvaluator implements FrozenEvaluator {
         public PreviousSibling(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -107,12 +162,27 @@ abstract class StructuralEvaluator extends Evaluator {
             return false;
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            if (root == element)
+                return false;
+
+            for (int prev = doc.previousElementSibling(element); prev != -1; prev = doc.previousElementSibling(prev)) {
+                if (((FrozenEvaluator) evaluator).matches(doc, root, prev))
+                    return true;
+            }
+            return false;
+        }
+
+        protected int cost() {
+            return 3 * (8 + evaluator.cost()); // tries the previous siblings
+        }
+
         public String toString() {
             return String.format(":prev*%s", evaluator);
         }
     }
 
-    static class ImmediatePreviousSibling extends StructuralEvaluator {
+    static class ImmediatePreviousSibling extends StructuralEvaluator implements FrozenEvaluator {
         public ImmediatePreviousSibling(Evaluator evaluator) {
             this.evaluator = evaluator;
         }
@@ -125,6 +195,18 @@ abstract class StructuralEvaluator extends Evaluator {
             return prev != null && evaluator.matches(root, prev);
         }
 
+        public boolean matches(FrozenDocument doc, int root, int element) {
+            if (root == element)
+                return false;
+
+            int prev = doc.previousElementSibling(element);
+            return prev != -1 && ((FrozenEvaluator) evaluator).matches(doc, root, prev);
+        }
+
+        protected int cost() {
+            return 8 + evaluator.cost();
+        }
+
         public String toString() {
             return String.format(":prev%s", evaluator);
         }
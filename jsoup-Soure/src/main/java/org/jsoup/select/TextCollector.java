@@ -0,0 +1,365 @@
+package org.jsoup.select;
+
+import org.jsoup.helper.StringUtil;
+import org.jsoup.helper.UncheckedIOException;
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the normalised text of elements, as returned by {@link Element#text()}.
+ * <p/>
+ * When collecting for a set of elements, each element's subtree is walked only once, even if the set contains both a
+ * parent and some of its descendants: the text of nested elements is accumulated in the same pass as their
+ * ancestor's. The text of the element currently being written is streamed straight into the supplied
+ * {@link Appendable}, so no intermediate strings are built for the common, non-nested case.
+ */
+public class TextCollector {
+
+    private TextCollector() {
+    }
+
+    /**
+     Write the normalised text of an element and its children into an appendable.
+     @param element element to get the text of
+     @param accum appendable to write the text into
+     @throws IOException if the appendable throws
+     @see Element#text()
+     */
+    public static void text(Element element, Appendable accum) throws IOException {
+        Validate.notNull(element);
+        Validate.notNull(accum);
+
+        TextAccumulator text = new TextAccumulator(accum);
+        try {
+            new NodeTraversor(new TextVisitor(text)).traverse(element);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     Get the combined text of a list of elements, separated by a space. Equivalent to calling {@link Element#text()}
+     on each element in turn, but walks each distinct subtree only once.
+     @param elements elements to get the text of
+     @return combined text
+     @see Elements#text()
+     */
+    public static String text(Elements elements) {
+        StringBuilder accum = new StringBuilder();
+        try {
+            text(elements, accum);
+        } catch (IOException e) {
+            throw new RuntimeException(e); // can't happen with a StringBuilder
+        }
+        return accum.toString();
+    }
+
+    /**
+     Write the combined text of a list of elements into an appendable, each element's text separated by a space.
+     Elements are written in list order; an element that is nested in another element of the list has its text
+     written in full again, as {@link Elements#text()} does.
+     @param elements elements to get the text of
+     @param accum appendable to write the text into
+     @throws IOException if the appendable throws
+     */
+    public static void text(Elements elements, Appendable accum) throws IOException {
+        Validate.notNull(elements);
+        Validate.notNull(accum);
+
+        Map<Element, Element> roots = roots(elements);
+        Map<Element, String> nested = new IdentityHashMap<Element, String>();
+        boolean wrote = false;
+        for (Element el : elements) {
+            String buffered = nested.remove(el);
+            if (buffered != null) {
+                if (wrote)
+                    accum.append(' ');
+                accum.append(buffered);
+                wrote = wrote || buffered.length() > 0;
+                continue;
+            }
+
+            if (wrote)
+                accum.append(' ');
+            TextAccumulator text = new TextAccumulator(accum);
+            try {
+                new NodeTraversor(new MultiTextVisitor(roots, el, text, nested)).traverse(roots.get(el));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            wrote = wrote || text.written > 0;
+        }
+    }
+
+    /**
+     Get the text of each element in a list, in a single pass over each distinct subtree.
+     @param elements elements to get the text of
+     @return a list of the text of each element, in the same order as the elements
+     */
+    public static List<String> eachText(Elements elements) {
+        Validate.notNull(elements);
+
+        Map<Element, Element> roots = roots(elements);
+        Map<Element, String> texts = new IdentityHashMap<Element, String>();
+        List<String> eachText = new ArrayList<String>(elements.size());
+        for (Element el : elements) {
+            if (!texts.containsKey(el))
+                new NodeTraversor(new MultiTextVisitor(roots, null, null, texts)).traverse(roots.get(el));
+            eachText.add(texts.get(el));
+        }
+        return eachText;
+    }
+
+    /**
+     Test if a regular expression is found in an element's text, as {@code pattern.matcher(element.text()).find()}
+     would. The text is produced only as far as the regex needs it: the pattern is tried on a prefix of the text, and
+     the prefix is doubled until a match is found that didn't depend on the end of the input, or the text runs out.
+     So a match near the start of a large element doesn't need the text of all of it.
+     @param pattern regular expression to find
+     @param element element whose text to search
+     @return true if the pattern is found in the text
+     @see Element#text()
+     */
+    public static boolean find(Pattern pattern, Element element) {
+        Validate.notNull(pattern);
+        Validate.notNull(element);
+
+        LazyText text = new LazyText(element);
+        Matcher matcher = pattern.matcher(text.out);
+        for (int want = 256; ; want = text.out.length() * 2) {
+            boolean more = text.produce(want);
+            boolean found = matcher.reset(text.out).find();
+            // without hitting the end of the prefix, more text can't change the result
+            if (!more || (found && !matcher.hitEnd()))
+                return found;
+        }
+    }
+
+    // maps each element in the list to its outermost ancestor (or itself) that is also in the list
+    private static Map<Element, Element> roots(Elements elements) {
+        Map<Element, Element> roots = new IdentityHashMap<Element, Element>(elements.size() * 2);
+        for (Element el : elements)
+            roots.put(el, el);
+        for (Element el : elements) {
+            Element root = el;
+            for (Element parent = el.parent(); parent != null; parent = parent.parent()) {
+                if (roots.containsKey(parent))
+                    root = parent;
+            }
+            roots.put(el, root);
+        }
+        return roots;
+    }
+
+    private static boolean preserveWhitespace(Node node) {
+        // same rule as Element.preserveWhitespace: look at this element and one level up only
+        if (node instanceof Element) {
+            Element element = (Element) node;
+            return element.tag().preserveWhitespace() ||
+                    element.parent() != null && element.parent().tag().preserveWhitespace();
+        }
+        return false;
+    }
+
+    private static boolean spacesBefore(Element element) {
+        return element.isBlock() || element.tagName().equals("br");
+    }
+
+    private static class TextVisitor implements NodeVisitor {
+        private final TextAccumulator text;
+
+        TextVisitor(TextAccumulator text) {
+            this.text = text;
+        }
+
+        public void head(Node node, int depth) {
+            try {
+                if (node instanceof TextNode)
+                    text.appendText(((TextNode) node).getWholeText(), preserveWhitespace(node.parent()));
+                else if (node instanceof Element && spacesBefore((Element) node))
+                    text.appendBlockSpace();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public void tail(Node node, int depth) {
+            // void
+        }
+    }
+
+    /*
+     Accumulates the text of every listed element under one root in a single traverse. The element being written
+     streams into the target; the others are buffered into the texts map for later use.
+     */
+    private static class MultiTextVisitor implements NodeVisitor {
+        private final Map<Element, Element> listed;
+        private final Element streamed;
+        private final TextAccumulator streamedText;
+        private final Map<Element, String> texts;
+        private final List<Element> openElements = new ArrayList<Element>();
+        private final List<TextAccumulator> open = new ArrayList<TextAccumulator>();
+
+        MultiTextVisitor(Map<Element, Element> listed, Element streamed, TextAccumulator streamedText,
+                         Map<Element, String> texts) {
+            this.listed = listed;
+            this.streamed = streamed;
+            this.streamedText = streamedText;
+            this.texts = texts;
+        }
+
+        public void head(Node node, int depth) {
+            try {
+                if (node instanceof TextNode) {
+                    String wholeText = ((TextNode) node).getWholeText();
+                    boolean preserve = preserveWhitespace(node.parent());
+                    for (int i = 0; i < open.size(); i++)
+                        open.get(i).appendText(wholeText, preserve);
+                } else if (node instanceof Element) {
+                    Element el = (Element) node;
+                    if (spacesBefore(el)) {
+                        for (int i = 0; i < open.size(); i++)
+                            open.get(i).appendBlockSpace();
+                    }
+                    if (listed.containsKey(el)) {
+                        openElements.add(el);
+                        open.add(el == streamed ? streamedText : new TextAccumulator(new StringBuilder()));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public void tail(Node node, int depth) {
+            int last = openElements.size() - 1;
+            if (last >= 0 && openElements.get(last) == node) {
+                Element el = openElements.remove(last);
+                TextAccumulator text = open.remove(last);
+                if (el != streamed)
+                    texts.put(el, text.out.toString());
+            }
+        }
+    }
+
+    /*
+     Produces an element's text on demand: walks the element's subtree only as far as needed to make the text at
+     least as long as asked, and keeps its place for the next call.
+     */
+    static class LazyText {
+        final StringBuilder out = new StringBuilder();
+        private final TextAccumulator text = new TextAccumulator(out);
+        private final Node root;
+        private Node next; // next node to visit; null once all have been
+
+        LazyText(Element root) {
+            this.root = root;
+            this.next = root;
+        }
+
+        // returns true if there may be more text to come
+        boolean produce(int length) {
+            try {
+                while (next != null && out.length() < length) {
+                    Node node = next;
+                    if (node instanceof TextNode)
+                        text.appendText(((TextNode) node).getWholeText(), preserveWhitespace(node.parent()));
+                    else if (node instanceof Element && spacesBefore((Element) node))
+                        text.appendBlockSpace();
+                    next = following(node);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // can't happen with a StringBuilder
+            }
+            return next != null;
+        }
+
+        // the node after this one in a depth-first walk of the root, as NodeTraversor goes
+        private Node following(Node node) {
+            if (node.childNodeSize() > 0)
+                return node.childNode(0);
+            while (node != root && node.nextSibling() == null)
+                node = node.parent();
+            return node == root ? null : node.nextSibling();
+        }
+    }
+
+    /*
+     Builds the same text as Element.text(): whitespace normalised (unless preserved), a space before block elements
+     and br, and the result trimmed. Trimming is done as the text is written, by dropping leading whitespace and
+     holding back trailing whitespace until a non-whitespace char follows it.
+     */
+    static class TextAccumulator {
+        final Appendable out;
+        int written = 0; // chars actually written to out
+        private int length = 0; // chars accumulated, before trimming
+        private boolean lastWasSpace = false;
+        private final StringBuilder pending = new StringBuilder();
+
+        TextAccumulator(Appendable out) {
+            this.out = out;
+        }
+
+        void appendText(String text, boolean preserveWhitespace) throws IOException {
+            int l = text.length();
+            if (preserveWhitespace) {
+                for (int i = 0; i < l; i++)
+                    append(text.charAt(i));
+                return;
+            }
+
+            boolean stripLeading = lastWasSpace;
+            boolean lastWasWhite = false;
+            for (int i = 0; i < l; i++) {
+                char c = text.charAt(i);
+                if (StringUtil.isWhitespace(c)) {
+                    if (lastWasWhite)
+                        continue;
+                    c = ' ';
+                    lastWasWhite = true;
+                } else {
+                    lastWasWhite = false;
+                }
+
+                if (stripLeading) {
+                    if (c == ' ' || c == '\u000B')
+                        continue;
+                    stripLeading = false;
+                }
+                append(c);
+            }
+        }
+
+        void appendBlockSpace() throws IOException {
+            if (length > 0 && !lastWasSpace)
+                append(' ');
+        }
+
+        private void append(char c) throws IOException {
+            length++;
+            lastWasSpace = c == ' ';
+            if (c <= ' ') {
+                if (written > 0)
+                    pending.append(c);
+            } else {
+                if (pending.length() > 0) {
+                    out.append(pending);
+                    written += pending.length();
+                    pending.setLength(0);
+                }
+                out.append(c);
+                written++;
+            }
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package org.jsoup.helper;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
+import org.jsoup.integration.Benchmark;
 import org.jsoup.nodes.Document;
 import org.jsoup.parser.Parser;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
@@ -33,4 +37,213 @@ public class DataUtilTest {
         Document doc = DataUtil.parseByteData(buffer, "UTF-8", "http://foo.com/", Parser.htmlParser());
         assertEquals("One", doc.head().text());
     }
+
+    @Test public void prescansMetaCharset() {
+        assertEquals("gb2312", prescan("<html><head><meta http-equiv=\"Content-Type\" content=\"text/html;charset=gb2312\">"));
+        assertEquals("shift_jis", prescan("<!doctype html><meta charset='Shift_JIS'><title>x</title>"));
+        assertEquals("euc-kr", prescan("<META CONTENT='text/html; charset=EUC-KR' HTTP-EQUIV=content-type>"));
+        assertEquals("gbk", prescan("<meta charset=gbk /><meta charset=utf-8>"));
+        assertEquals("UTF-8", prescan("<meta charset=utf-16le>"));
+    }
+
+    @Test public void prescanSkipsWhatIsNotAMetaCharset() {
+        assertNull(prescan("<html><head><title>None</title></head>"));
+        assertNull(prescan("<!-- <meta charset=gbk> --><p>"));
+        assertNull(prescan("<div title='<meta charset=gbk>'>"));
+        assertNull(prescan("<meta content='text/html; charset=gbk'>")); // no http-equiv
+        assertNull(prescan("<meta charset=unknown-charset>"));
+        assertEquals("gbk", prescan("<!--><meta charset=gbk>"));
+        assertEquals("big5", prescan("<meta charset=nope><meta charset=big5>"));
+    }
+
+    @Test public void prescanFindsByteOrderMark() {
+        assertEquals("UTF-16LE", CharsetPrescan.detect(ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) 0xFE, '<', 0})));
+        assertEquals("UTF-8", CharsetPrescan.detect(Charset.forName("UTF-8").encode("\uFEFF<meta charset=gbk>")));
+
+        ByteBuffer utf16 = Charset.forName("UTF-16LE").encode("\uFEFF<title>One</title>");
+        Document doc = DataUtil.parseByteData(utf16, null, "http://foo.com/", Parser.htmlParser());
+        assertEquals("One", doc.title());
+        assertEquals("UTF-16LE", doc.outputSettings().charset().name());
+    }
+
+    @Test public void metaCharsetDecodedOnce() throws Exception {
+        String html = "<meta charset=gb2312><title>\u767e\u5ea6</title>";
+        Document doc = DataUtil.load(new ByteArrayInputStream(html.getBytes("GB2312")), null, "http://foo.com/");
+        assertEquals("\u767e\u5ea6", doc.title());
+        assertEquals("GB2312", doc.outputSettings().charset().name());
+
+        StringBuilder late = new StringBuilder("<title>\u767e\u5ea6</title>"); // meta beyond the prescan, found on parse
+        for (int i = 0; i < CharsetPrescan.prescanSize; i++)
+            late.append(' ');
+        late.append("<meta charset=gb2312>");
+        doc = DataUtil.parseByteData(ByteBuffer.wrap(late.toString().getBytes("GB2312")), null, "http://foo.com/", Parser.htmlParser());
+        assertEquals("\u767e\u5ea6", doc.title());
+    }
+
+    @Test public void metaCharsetAliasNotDecodedAgain() throws Exception {
+        final int[] parses = {0};
+        Parser counting = new Parser(Parser.htmlParser().getTreeBuilder()) {
+            @Override
+            public Document parseInput(String html, String baseUri) {
+                parses[0]++;
+                return super.parseInput(html, baseUri);
+            }
+        };
+        StringBuilder late = new StringBuilder("<title>\u00e9t\u00e9</title>"); // meta beyond the prescan
+        for (int i = 0; i < CharsetPrescan.prescanSize; i++)
+            late.append(' ');
+        late.append("<meta charset=utf8>"); // an alias of UTF-8, which it is decoded as
+        Document doc = DataUtil.parseByteData(ByteBuffer.wrap(late.toString().getBytes("UTF-8")), null, "http://foo.com/", counting);
+        assertEquals("\u00e9t\u00e9", doc.title());
+        assertEquals(1, parses[0]);
+    }
+
+    @Test public void detectsCharsetOfCorpusPagesWithoutMeta() throws Exception {
+        String yahoo = withoutMetaCharset("/htmltests/yahoo-jp.html", "UTF-8");
+        assertEquals("UTF-8", detect(yahoo, "UTF-8"));
+        assertEquals("Shift_JIS", detect(yahoo, "Shift_JIS"));
+        assertEquals("EUC-JP", detect(yahoo, "EUC-JP"));
+
+        String baidu = withoutMetaCharset("/htmltests/baidu-cn-home.html", "GB2312");
+        assertEquals("GB18030", detect(baidu, "GB2312"));
+        String variant = withoutMetaCharset("/htmltests/baidu-variant.html", "GB2312");
+        assertEquals("GB18030", detect(variant, "GB2312"));
+
+        Document doc = DataUtil.parseByteData(ByteBuffer.wrap(variant.getBytes("GB2312")), null, "http://foo.com/", Parser.htmlParser());
+        assertEquals("\u767e\u5ea6\u4e00\u4e0b\uff0c\u4f60\u5c31\u77e5\u9053", doc.title());
+        assertEquals("GB18030", doc.outputSettings().charset().name());
+    }
+
+    @Test public void detectsOtherCharsets() throws Exception {
+        String korean = "<p>\ub300\ud55c\ubbfc\uad6d\uc740 \ubbfc\uc8fc\uacf5\ud654\uad6d\uc774\ub2e4. " +
+            "\ub300\ud55c\ubbfc\uad6d\uc758 \uc8fc\uad8c\uc740 \uad6d\ubbfc\uc5d0\uac8c \uc788\uace0, " +
+            "\ubaa8\ub4e0 \uad8c\ub825\uc740 \uad6d\ubbfc\uc73c\ub85c\ubd80\ud130 \ub098\uc628\ub2e4.</p>";
+        assertEquals("EUC-KR", detect(korean, "EUC-KR"));
+
+        String traditional = "<p>\u4e2d\u83ef\u6c11\u570b\u57fa\u65bc\u4e09\u6c11\u4e3b\u7fa9\uff0c" +
+            "\u70ba\u6c11\u6709\u6c11\u6cbb\u6c11\u4eab\u4e4b\u6c11\u4e3b\u5171\u548c\u570b\u3002</p>";
+        assertEquals("Big5", detect(traditional, "Big5"));
+
+        assertEquals("windows-1252", detect("<p>Un caf\u00e9 tr\u00e8s cr\u00e9meux, na\u00efve.</p>", "ISO-8859-1"));
+        assertNull(detect("<p>Plain ASCII</p>", "US-ASCII"));
+    }
+
+    @Test public void readsToExactBuffer() throws Exception {
+        byte[] data = new byte[300000];
+        for (int i = 0; i < data.length; i++)
+            data[i] = (byte) i;
+
+        for (int expected : new int[]{-1, data.length, 1000, data.length + 1000}) { // unknown, right, short, long
+            ByteBuffer read = DataUtil.readToByteBuffer(new ByteArrayInputStream(data), 0, expected);
+            assertEquals(data.length, read.remaining());
+            assertEquals(data.length, read.array().length);
+            assertEquals(ByteBuffer.wrap(data), read);
+        }
+
+        ByteBuffer capped = DataUtil.readToByteBuffer(new ByteArrayInputStream(data), 5000, data.length);
+        assertEquals(5000, capped.array().length);
+        capped = DataUtil.readToByteBuffer(new ByteArrayInputStream(data), 5000, 1000);
+        assertEquals(5000, capped.array().length);
+        assertEquals(ByteBuffer.wrap(data, 0, 5000), capped);
+    }
+
+    @Test public void largeDeclaredLengthIsNotAllocatedUpFront() throws Exception {
+        byte[] data = "<p>Short</p>".getBytes("UTF-8");
+        ByteBuffer read = DataUtil.readToByteBuffer(new ByteArrayInputStream(data), 0, Integer.MAX_VALUE);
+        assertEquals(ByteBuffer.wrap(data), read); // and not an OutOfMemoryError on a 2GB buffer
+        assertEquals(data.length, read.array().length);
+
+        byte[] big = new byte[0x300000]; // longer than is presized, so grown into as it arrives
+        for (int i = 0; i < big.length; i++)
+            big[i] = (byte) i;
+        for (int expected : new int[]{big.length, big.length - 1000, Integer.MAX_VALUE}) {
+            read = DataUtil.readToByteBuffer(new ByteArrayInputStream(big), 0, expected);
+            assertEquals(big.length, read.array().length);
+            assertEquals(ByteBuffer.wrap(big), read);
+        }
+        read = DataUtil.readToByteBuffer(new ByteArrayInputStream(big), 0x200000, Integer.MAX_VALUE);
+        assertEquals(ByteBuffer.wrap(big, 0, 0x200000), read);
+    }
+
+    @Test public void pooledReadBufferIsNotShared() throws Exception {
+        ByteBuffer one = DataUtil.readToByteBuffer(new ByteArrayInputStream("One".getBytes("UTF-8")));
+        ByteBuffer two = DataUtil.readToByteBuffer(new ByteArrayInputStream("Two".getBytes("UTF-8")));
+        assertEquals("One", new String(one.array(), "UTF-8"));
+        assertEquals("Two", new String(two.array(), "UTF-8"));
+    }
+
+    @Test public void mappedFileLoadMatchesStreamLoad() throws Exception {
+        for (File file : htmlTests()) {
+            Document mapped = DataUtil.loadMapped(file, null, "http://example.com/");
+            FileInputStream in = new FileInputStream(file);
+            Document streamed = DataUtil.load(in, null, "http://example.com/");
+            in.close();
+            assertEquals(streamed.outerHtml(), mapped.outerHtml());
+            assertEquals(streamed.outputSettings().charset(), mapped.outputSettings().charset());
+        }
+    }
+
+    @Test public void byteBufferReaderDecodesAcrossSmallReads() throws Exception {
+        String text = "\uFEFFOne \u65b0 \uD835\uDD59 Two \u00e9\uD835\uDD59";
+        for (int size = 1; size <= 4; size++) {
+            Reader reader = new DataUtil.ByteBufferReader(ByteBuffer.wrap(text.getBytes("UTF-8")), Charset.forName("UTF-8"));
+            StringBuilder sb = new StringBuilder();
+            char[] buf = new char[size];
+            int read;
+            while ((read = reader.read(buf, 0, size)) != -1)
+                sb.append(buf, 0, read);
+            assertEquals(text, sb.toString());
+        }
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkMappedFileLoad() throws Exception {
+        final File file = new File(DataUtilTest.class.getResource("/htmltests/yahoo-article-1.html").toURI());
+        Benchmark.run(new Runnable() { // as load(File) did: read the file into a heap buffer, then decode and parse that
+            public void run() {
+                try {
+                    FileInputStream in = new FileInputStream(file);
+                    DataUtil.parseByteData(DataUtil.readToByteBuffer(in), "UTF-8", "http://example.com/", Parser.htmlParser());
+                    in.close();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }, new Runnable() {
+            public void run() {
+                try {
+                    DataUtil.loadMapped(file, "UTF-8", "http://example.com/");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }, 500);
+    }
+
+    private static File[] htmlTests() throws Exception {
+        return new File(DataUtilTest.class.getResource("/htmltests").toURI()).listFiles(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".html");
+            }
+        });
+    }
+
+    private static String detect(String html, String charset) throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(html.getBytes(charset));
+        String detected = CharsetDetector.detect(bytes);
+        assertEquals(0, bytes.position());
+        return detected;
+    }
+
+    private static String withoutMetaCharset(String resource, String charset) throws Exception {
+        ByteBuffer bytes = DataUtil.readToByteBuffer(DataUtilTest.class.getResourceAsStream(resource));
+        return Charset.forName(charset).decode(bytes).toString().replaceAll("(?i)<meta[^>]+charset[^>]+>", "");
+    }
+
+    private static String prescan(String html) {
+        ByteBuffer bytes = Charset.forName("UTF-8").encode(html);
+        String charset = CharsetPrescan.detect(bytes);
+        assertEquals(0, bytes.position());
+        return charset;
+    }
 }
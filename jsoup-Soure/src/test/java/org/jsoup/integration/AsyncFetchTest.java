@@ -0,0 +1,106 @@
+package org.jsoup.integration;
+
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests the asynchronous fetch methods, against a local server.
+ */
+public class AsyncFetchTest {
+    private static final int pages = 100;
+    private TestServer server;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        for (int i = 0; i < pages; i++)
+            server.respond("/page" + i, "text/html", "<title>Page " + i + "</title><p>Hello</p>");
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @Test public void manyFetchesOnBoundedExecutor() throws Exception {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Document>> futures = new ArrayList<Future<Document>>();
+        for (int i = 0; i < pages; i++)
+            futures.add(Jsoup.connect(server.url("/page" + i)).executor(trackingExecutor(pool, threads)).getAsync());
+        for (int i = 0; i < pages; i++)
+            assertEquals("Page " + i, futures.get(i).get(5, TimeUnit.SECONDS).title());
+        pool.shutdown();
+
+        assertEquals(pages, server.requests());
+        assertTrue(threads.size() <= 4);
+        assertFalse(threads.contains(Thread.currentThread()));
+    }
+
+    @Test public void executeAsyncOnDefaultExecutor() throws Exception {
+        Future<Connection.Response> future = Jsoup.connect(server.url("/page1")).executeAsync();
+        Connection.Response res = future.get(5, TimeUnit.SECONDS);
+        assertEquals(200, res.statusCode());
+        assertEquals("Page 1", res.parse().title());
+    }
+
+    @Test public void failureIsCauseOfExecutionException() throws Exception {
+        Future<Document> future = Jsoup.connect(server.url("/missing")).getAsync();
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Should have thrown");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof HttpStatusException);
+            assertEquals(404, ((HttpStatusException) e.getCause()).getStatusCode());
+        }
+    }
+
+    @Test public void concurrentCallsOnOneConnection() throws Exception {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Location", server.url("/page0"));
+        headers.put("Content-Type", "text/html");
+        server.respond("/moved", 302, headers, "<p>Moved</p>".getBytes("UTF-8"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        Connection con = Jsoup.connect(server.url("/moved")).executor(pool);
+        List<Future<Document>> documents = new ArrayList<Future<Document>>();
+        List<Future<Connection.Response>> responses = new ArrayList<Future<Connection.Response>>();
+        for (int i = 1; i < pages; i++) { // each changes the connection while others run, as do their redirects
+            con.url(i % 2 == 0 ? server.url("/moved") : server.url("/page" + i));
+            documents.add(con.getAsync());
+            responses.add(con.executeAsync());
+        }
+        for (int i = 1; i < pages; i++) {
+            String title = i % 2 == 0 ? "Page 0" : "Page " + i;
+            assertEquals(title, documents.get(i - 1).get(5, TimeUnit.SECONDS).title());
+            assertEquals(title, responses.get(i - 1).get(5, TimeUnit.SECONDS).parse().title());
+        }
+        pool.shutdown();
+
+        assertEquals(server.url("/page" + (pages - 1)), con.request().url().toExternalForm()); // as last set here
+        assertNull(con.response().url()); // no call has been made on the connection itself
+    }
+
+    // runs on the pool, noting which threads ran tasks
+    private static Executor trackingExecutor(final Executor pool, final Set<Thread> threads) {
+        return new Executor() {
+            public void execute(final Runnable command) {
+                pool.execute(new Runnable() {
+                    public void run() {
+                        threads.add(Thread.currentThread());
+                        command.run();
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package org.jsoup.integration;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests decoding gzip and deflate compressed responses, against a local server.
+ */
+public class CompressedResponseTest {
+    private TestServer server;
+    private String page;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        StringBuilder sb = new StringBuilder("<title>Squeezed</title>");
+        for (int i = 0; i < 10000; i++)
+            sb.append("<p>Paragraph ").append(i).append(" é中</p>");
+        page = sb.toString();
+        byte[] bytes = page.getBytes("UTF-8");
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        write(new GZIPOutputStream(gzip), bytes);
+        serve("/gzip", "gzip", gzip.toByteArray());
+
+        ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+        write(new DeflaterOutputStream(zlib), bytes);
+        serve("/deflate", "Deflate", zlib.toByteArray());
+
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        write(new DeflaterOutputStream(raw, new Deflater(Deflater.DEFAULT_COMPRESSION, true)), bytes);
+        serve("/raw-deflate", "deflate", raw.toByteArray());
+
+        serve("/empty", "gzip", new byte[0]);
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @Test public void advertisesCompression() throws IOException {
+        Jsoup.connect(server.url("/gzip")).get();
+        assertEquals("gzip, deflate", server.lastRequestHeaders().get("accept-encoding"));
+    }
+
+    @Test public void decodesGzip() throws IOException {
+        assertDecodes("/gzip");
+    }
+
+    @Test public void decodesZlibDeflate() throws IOException {
+        assertDecodes("/deflate");
+    }
+
+    @Test public void decodesRawDeflate() throws IOException {
+        assertDecodes("/raw-deflate");
+    }
+
+    @Test public void executeDecodesBody() throws IOException {
+        Connection.Response res = Jsoup.connect(server.url("/deflate")).maxBodySize(0).execute();
+        assertEquals(page, res.body());
+    }
+
+    @Test public void emptyCompressedBody() throws IOException {
+        Connection.Response res = Jsoup.connect(server.url("/empty")).execute();
+        assertEquals("", res.body());
+        assertEquals("", Jsoup.connect(server.url("/empty")).get().title());
+    }
+
+    private void assertDecodes(String path) throws IOException {
+        Document doc = Jsoup.connect(server.url(path)).maxBodySize(0).get();
+        assertEquals("Squeezed", doc.title());
+        assertEquals(10000, doc.select("p").size());
+        assertEquals("Paragraph 9999 é中", doc.select("p").last().text());
+    }
+
+    private void serve(String path, String encoding, byte[] body) {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", "text/html; charset=UTF-8");
+        headers.put("Content-Encoding", encoding);
+        server.respond(path, 200, headers, body);
+    }
+
+    private static void write(OutputStream out, byte[] bytes) throws IOException {
+        out.write(bytes);
+        out.close();
+    }
+}
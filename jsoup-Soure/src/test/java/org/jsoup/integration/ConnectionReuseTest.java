@@ -0,0 +1,87 @@
+package org.jsoup.integration;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests keep-alive connection reuse, against a local server.
+ */
+public class ConnectionReuseTest {
+    private static final int pages = 20;
+    private TestServer server;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        for (int i = 0; i < pages; i++)
+            server.respond("/page" + i, "text/html", "<title>Page " + i + "</title><p>Hello</p>");
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @Test public void defaultReusesOnlyConnectionsReadToTheEnd() throws IOException {
+        for (int i = 0; i < pages; i++)
+            Jsoup.connect(server.url("/page" + i)).get();
+        assertEquals(pages, server.requests());
+        assertEquals(1, server.connections()); // each small body is read to its end before the disconnect
+
+        respondWithRedirect();
+        for (int i = 0; i < 5; i++) {
+            Document doc = Jsoup.connect(server.url("/moved")).get();
+            assertEquals("Page 1", doc.title());
+        }
+        assertEquals(pages + 10, server.requests());
+        assertEquals(6, server.connections()); // each unread redirect is disconnected, so its page needs a new one
+    }
+
+    @Test public void keepAliveReusesConnections() throws IOException {
+        for (int i = 0; i < pages; i++) {
+            Document doc = Jsoup.connect(server.url("/page" + i)).keepAlive(true).get();
+            assertEquals("Page " + i, doc.title());
+        }
+        assertEquals(pages, server.requests());
+        assertEquals(1, server.connections());
+    }
+
+    @Test public void keepAliveAcrossRedirects() throws IOException {
+        respondWithRedirect();
+        for (int i = 0; i < 5; i++) {
+            Document doc = Jsoup.connect(server.url("/moved")).keepAlive(true).get();
+            assertEquals("Page 1", doc.title());
+        }
+        assertEquals(10, server.requests());
+        assertEquals(1, server.connections());
+    }
+
+    @Test public void truncatedBodyDoesNotCorruptNextResponse() throws IOException {
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 10000; i++)
+            big.append("<p>Some text to make a long body</p>");
+        server.respond("/big", "text/html", big.toString());
+
+        for (int i = 0; i < 3; i++) {
+            Document doc = Jsoup.connect(server.url("/big")).keepAlive(true).maxBodySize(1024).get();
+            assertTrue(doc.select("p").size() < 100);
+            // the unread rest of the big body must not be read as the next response
+            assertEquals("Page 2", Jsoup.connect(server.url("/page2")).keepAlive(true).get().title());
+        }
+        assertEquals(6, server.requests());
+    }
+
+    private void respondWithRedirect() throws IOException {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Location", server.url("/page1"));
+        headers.put("Content-Type", "text/html");
+        server.respond("/moved", 302, headers, "<p>Moved</p>".getBytes("UTF-8"));
+    }
+}
@@ -0,0 +1,133 @@
+package org.jsoup.integration;
+
+import org.jsoup.Connection;
+import org.jsoup.helper.FetchScheduler;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests the fetch scheduler, against local servers.
+ */
+public class FetchSchedulerTest {
+    private static final int pages = 12;
+    private TestServer server;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        StringBuilder listing = new StringBuilder("<title>Listing</title>");
+        for (int i = 0; i < pages; i++) {
+            listing.append("<a href='/src/File").append(i).append(".java'>File ").append(i).append("</a>");
+            listing.append("<a href='/src/File").append(i).append(".java#top'>Top</a>"); // duplicate
+            server.respond("/src/File" + i + ".java", "text/plain", "class File" + i + " {}");
+        }
+        server.respond("/list", "text/html", listing.toString());
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @Test public void fetchesListingThenDetailsInParallel() throws Exception {
+        server.delay(50);
+        Recorder recorder = new Recorder("a[href$=.java]");
+        FetchScheduler scheduler = new FetchScheduler(recorder).threads(8).maxPerHost(4);
+        scheduler.add(server.url("/list"));
+        assertTrue(scheduler.await(10, TimeUnit.SECONDS));
+        scheduler.shutdown();
+
+        assertEquals(pages + 1, recorder.bodies.size());
+        assertEquals(pages + 1, server.requests()); // duplicates not refetched
+        assertEquals("class File3 {}", recorder.bodies.get(server.url("/src/File3.java")));
+        assertTrue(recorder.failures.isEmpty());
+        assertTrue(server.maxConcurrentRequests() > 1);
+        assertTrue(server.maxConcurrentRequests() <= 4);
+    }
+
+    @Test public void limitsEachHostNotAllHosts() throws Exception {
+        TestServer other = new TestServer();
+        try {
+            server.delay(50);
+            other.delay(50);
+            for (int i = 0; i < pages; i++)
+                other.respond("/page" + i, "text/html", "<p>Other " + i);
+
+            Recorder recorder = new Recorder(null);
+            FetchScheduler scheduler = new FetchScheduler(recorder).threads(8).maxPerHost(2);
+            for (int i = 0; i < pages; i++) {
+                scheduler.add(server.url("/src/File" + i + ".java"));
+                scheduler.add(other.url("/page" + i));
+            }
+            assertTrue(scheduler.await(10, TimeUnit.SECONDS));
+            scheduler.shutdown();
+
+            assertEquals(2 * pages, recorder.bodies.size());
+            assertEquals(2, server.maxConcurrentRequests());
+            assertEquals(2, other.maxConcurrentRequests());
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test public void delaysBetweenRequestsToHost() throws Exception {
+        Recorder recorder = new Recorder(null);
+        FetchScheduler scheduler = new FetchScheduler(recorder).threads(4).maxPerHost(4).hostDelay(40);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++)
+            scheduler.add(server.url("/src/File" + i + ".java"));
+        assertTrue(scheduler.await(10, TimeUnit.SECONDS));
+        scheduler.shutdown();
+
+        assertEquals(6, recorder.bodies.size());
+        assertTrue(System.currentTimeMillis() - start >= 5 * 40);
+    }
+
+    @Test public void reportsFailures() throws Exception {
+        Recorder recorder = new Recorder(null);
+        FetchScheduler scheduler = new FetchScheduler(recorder);
+        assertTrue(scheduler.add(server.url("/missing")));
+        assertFalse(scheduler.add(server.url("/missing")));
+        assertTrue(scheduler.await(10, TimeUnit.SECONDS));
+        scheduler.shutdown();
+
+        assertEquals(1, recorder.failures.size());
+        assertTrue(recorder.bodies.isEmpty());
+        try {
+            scheduler.add(server.url("/list"));
+            fail("Should not add once shut down");
+        } catch (IllegalStateException e) {
+        }
+    }
+
+    // records bodies, and adds the links matching the query from html pages
+    private static class Recorder implements FetchScheduler.Callback {
+        final Map<String, String> bodies = Collections.synchronizedMap(new HashMap<String, String>());
+        final List<String> failures = Collections.synchronizedList(new ArrayList<String>());
+        private final String linkQuery;
+
+        Recorder(String linkQuery) {
+            this.linkQuery = linkQuery;
+        }
+
+        public void fetched(String url, Connection.Response response, FetchScheduler scheduler) throws IOException {
+            bodies.put(url, response.body());
+            if (linkQuery != null && response.contentType().startsWith("text/html")) {
+                Document doc = response.parse();
+                for (Element link : doc.select(linkQuery))
+                    scheduler.add(link.absUrl("href"));
+            }
+        }
+
+        public void failed(String url, Exception e) {
+            failures.add(url);
+        }
+    }
+}
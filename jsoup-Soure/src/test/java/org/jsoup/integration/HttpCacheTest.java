@@ -0,0 +1,169 @@
+package org.jsoup.integration;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.helper.HttpCache;
+import org.jsoup.helper.LruHttpCache;
+import org.jsoup.nodes.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests the HTTP response cache, against a local server.
+ */
+public class HttpCacheTest {
+    private TestServer server;
+    private File dir;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        serve("/etag", "ETag", "\"v1\"", "<title>Tagged</title><p>One");
+        serve("/dated", "Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT", "<title>Dated</title>");
+        server.respond("/plain", "text/html", "<title>Plain</title>");
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+        if (dir != null) {
+            for (File file : dir.listFiles())
+                file.delete();
+            dir.delete();
+        }
+    }
+
+    @Test public void revalidatesWithETag() throws IOException {
+        HttpCache cache = new LruHttpCache(1024 * 1024);
+        Document first = Jsoup.connect(server.url("/etag")).cache(cache).get();
+        assertNull(server.lastRequestHeaders().get("if-none-match"));
+        first.select("p").remove();
+
+        Document second = Jsoup.connect(server.url("/etag")).cache(cache).get();
+        assertEquals("\"v1\"", server.lastRequestHeaders().get("if-none-match"));
+        assertEquals(1, server.notModifiedReplies());
+        assertEquals("Tagged", second.title());
+        assertEquals("One", second.select("p").text()); // a fresh copy, not the one changed above
+
+        Connection.Response res = Jsoup.connect(server.url("/etag")).cache(cache).execute();
+        assertEquals(200, res.statusCode());
+        assertEquals("text/html", res.contentType());
+        assertEquals("<title>Tagged</title><p>One", res.body());
+        assertEquals(2, server.notModifiedReplies());
+    }
+
+    @Test public void revalidatesWithLastModified() throws IOException {
+        HttpCache cache = new LruHttpCache(1024 * 1024);
+        Jsoup.connect(server.url("/dated")).cache(cache).get();
+        Document doc = Jsoup.connect(server.url("/dated")).cache(cache).get();
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", server.lastRequestHeaders().get("if-modified-since"));
+        assertEquals(1, server.notModifiedReplies());
+        assertEquals("Dated", doc.title());
+    }
+
+    @Test public void refetchesWhenChanged() throws IOException {
+        HttpCache cache = new LruHttpCache(1024 * 1024);
+        Jsoup.connect(server.url("/etag")).cache(cache).get();
+        serve("/etag", "ETag", "\"v2\"", "<title>Changed</title>");
+        assertEquals("Changed", Jsoup.connect(server.url("/etag")).cache(cache).get().title());
+        assertEquals(0, server.notModifiedReplies());
+        assertEquals("\"v2\"", cache.get(server.url("/etag")).etag());
+    }
+
+    @Test public void doesNotCacheWithoutValidators() throws IOException {
+        HttpCache cache = new LruHttpCache(1024 * 1024);
+        Jsoup.connect(server.url("/plain")).cache(cache).get();
+        Jsoup.connect(server.url("/plain")).cache(cache).get();
+        assertNull(server.lastRequestHeaders().get("if-none-match"));
+        assertNull(cache.get(server.url("/plain")));
+    }
+
+    @Test public void diskTierSurvivesRestart() throws IOException {
+        dir = tempDir();
+        Jsoup.connect(server.url("/etag")).cache(new LruHttpCache(0).directory(dir, 1024 * 1024)).get();
+        assertEquals(1, dir.listFiles().length);
+
+        HttpCache restarted = new LruHttpCache(1024).directory(dir, 1024 * 1024);
+        assertEquals("Tagged", Jsoup.connect(server.url("/etag")).cache(restarted).get().title());
+        assertEquals(1, server.notModifiedReplies());
+    }
+
+    @Test public void evictsLeastRecentlyUsed() throws IOException {
+        dir = tempDir();
+        LruHttpCache cache = new LruHttpCache(25).directory(dir, 180); // each entry is 10 body bytes, 59 on disk
+        cache.put(entry("http://example.com/1"));
+        cache.put(entry("http://example.com/2"));
+        cache.get("http://example.com/1"); // now 2 is least recently used
+        cache.put(entry("http://example.com/3"));
+        assertEquals(3, dir.listFiles().length);
+
+        cache.put(entry("http://example.com/4"));
+        assertEquals(3, dir.listFiles().length); // 2 gone from disk too
+        assertNull(cache.get("http://example.com/2"));
+        assertNotNull(cache.get("http://example.com/1"));
+        assertNotNull(cache.get("http://example.com/3")); // from disk
+
+        cache.remove("http://example.com/3");
+        assertNull(cache.get("http://example.com/3"));
+        assertEquals(2, dir.listFiles().length);
+    }
+
+    @Test public void countsKeptDocuments() {
+        LruHttpCache cache = new LruHttpCache(2000);
+        HttpCache.Entry one = entry("http://example.com/1");
+        cache.put(one);
+        cache.put(entry("http://example.com/2"));
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 20; i++)
+            html.append("<p>Paragraph ").append(i);
+        one.document(Jsoup.parse(html.toString()));
+        assertTrue(one.size() > 2000);
+
+        cache.put(entry("http://example.com/3")); // 1 is counted with its document now, so over and dropped
+        assertNull(cache.get("http://example.com/1"));
+        assertNotNull(cache.get("http://example.com/2"));
+        assertNotNull(cache.get("http://example.com/3"));
+    }
+
+    @Test public void failedWriteLeavesNoFile() throws IOException {
+        dir = tempDir();
+        LruHttpCache cache = new LruHttpCache(1024).directory(dir, 1024 * 1024);
+        StringBuilder url = new StringBuilder("http://example.com/");
+        while (url.length() <= 70000) // too long for the entry's format
+            url.append("long/");
+        cache.put(entry(url.toString()));
+        assertEquals(0, dir.listFiles().length);
+        assertNotNull(cache.get(url.toString())); // still in memory
+    }
+
+    @Test public void removesPartWrittenFilesOnStart() throws IOException {
+        dir = tempDir();
+        File stray = File.createTempFile("entry", ".tmp", dir);
+        new LruHttpCache(1024).directory(dir, 1024 * 1024);
+        assertFalse(stray.exists());
+    }
+
+    private void serve(String path, String validator, String value, String body) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", "text/html");
+        headers.put(validator, value);
+        server.respond(path, 200, headers, body.getBytes("UTF-8"));
+    }
+
+    private static HttpCache.Entry entry(String url) {
+        return new HttpCache.Entry(url, "\"e\"", null, "text/html", new byte[10]);
+    }
+
+    private static File tempDir() throws IOException {
+        File dir = File.createTempFile("jsoup-cache", "");
+        dir.delete();
+        dir.mkdir();
+        return dir;
+    }
+}
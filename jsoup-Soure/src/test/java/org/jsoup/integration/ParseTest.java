@@ -127,11 +127,11 @@ public class ParseTest {
         assertEquals("新", doc.text());
         assertEquals("GB2312", doc.outputSettings().charset().displayName());
 
-        // double check, no charset, falls back to utf8 which is incorrect
+        // no charset, so detected from the bytes
         in = getFile("/htmltests/meta-charset-2.html"); //
         doc = Jsoup.parse(in, null, "http://example.com"); // gb2312, no charset
-        assertEquals("UTF-8", doc.outputSettings().charset().displayName());
-        assertFalse("新".equals(doc.text()));
+        assertEquals("GB18030", doc.outputSettings().charset().displayName());
+        assertEquals("新", doc.text());
 
         // confirm fallback to utf8
         in = getFile("/htmltests/meta-charset-3.html");
@@ -0,0 +1,73 @@
+package org.jsoup.integration;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests parsing responses as they are read off the connection, against a local server.
+ */
+public class StreamedParseTest {
+    private TestServer server;
+    private String page;
+
+    @Before public void startServer() throws IOException {
+        server = new TestServer();
+        StringBuilder sb = new StringBuilder("<title>Big &amp; Wide</title>");
+        for (int i = 0; i < 20000; i++)
+            sb.append("<p>Paragraph ").append(i).append(" é中</p>");
+        page = sb.toString();
+        server.respond("/big", "text/html; charset=UTF-8", page);
+        server.respond("/nocharset", "text/html", "<meta charset=UTF-8><title>中</title>");
+    }
+
+    @After public void stopServer() throws IOException {
+        server.stop();
+    }
+
+    @Test public void getParsesAsRead() throws IOException {
+        Connection con = Jsoup.connect(server.url("/big")).maxBodySize(0);
+        Document doc = con.get();
+        assertEquals(Jsoup.parse(page).outerHtml(), doc.outerHtml());
+        assertEquals("Big & Wide", doc.title());
+        assertEquals("UTF-8", doc.outputSettings().charset().name());
+
+        try {
+            con.response().body();
+            fail("Body should not be retained");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
+    @Test public void executeThenParseKeepsBody() throws IOException {
+        Connection.Response res = Jsoup.connect(server.url("/big")).maxBodySize(0).execute();
+        assertEquals("Big & Wide", res.parse().title());
+        assertEquals(page, res.body());
+    }
+
+    @Test public void streamHonoursMaxBodySize() throws IOException {
+        Document doc = Jsoup.connect(server.url("/big")).maxBodySize(1024).get();
+        assertTrue(doc.select("p").size() > 0);
+        assertTrue(doc.select("p").size() < 100);
+    }
+
+    @Test public void metaCharsetFoundByPrescan() throws IOException {
+        Connection con = Jsoup.connect(server.url("/nocharset"));
+        assertEquals("中", con.get().title());
+        assertEquals("UTF-8", con.response().charset());
+    }
+
+    @Test public void keepAliveReusesStreamedConnections() throws IOException {
+        for (int i = 0; i < 5; i++)
+            assertEquals("Big & Wide", Jsoup.connect(server.url("/big")).maxBodySize(0).keepAlive(true).get().title());
+        assertEquals(5, server.requests());
+        assertEquals(1, server.connections());
+    }
+}
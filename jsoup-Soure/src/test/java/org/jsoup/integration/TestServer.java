@@ -0,0 +1,214 @@
+package org.jsoup.integration;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ A minimal in-process HTTP/1.1 server, so connection tests can run without network access. Serves fixed responses by
+ path (ignoring any query), keeps connections alive unless the client asks to close, and counts the connections it
+ accepts and the requests it serves. Replies 304 to a conditional request whose ETag or Last-Modified matches.
+ */
+public class TestServer {
+    private final ServerSocket server;
+    private final Map<String, Reply> replies = new ConcurrentHashMap<String, Reply>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private volatile long delay = 0;
+    private volatile Map<String, String> lastRequestHeaders = Collections.emptyMap();
+
+    public TestServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        Thread acceptor = new Thread("TestServer acceptor") {
+            public void run() {
+                while (!server.isClosed()) {
+                    try {
+                        final Socket socket = server.accept();
+                        connections.incrementAndGet();
+                        Thread handler = new Thread("TestServer connection") {
+                            public void run() {
+                                serve(socket);
+                            }
+                        };
+                        handler.setDaemon(true);
+                        handler.start();
+                    } catch (IOException e) {
+                        // closed
+                    }
+                }
+            }
+        };
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public String url(String path) {
+        return "http://127.0.0.1:" + server.getLocalPort() + path;
+    }
+
+    /**
+     Serve a 200 response with the body at the path.
+     */
+    public TestServer respond(String path, String contentType, String body) {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", contentType);
+        try {
+            return respond(path, 200, headers, body.getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     Serve a response with the given status, headers and body at the path. Content-Length is added.
+     */
+    public TestServer respond(String path, int status, Map<String, String> headers, byte[] body) {
+        replies.put(path, new Reply(status, headers, body));
+        return this;
+    }
+
+    /** Wait this long before each response, to make requests overlap. */
+    public TestServer delay(long millis) {
+        delay = millis;
+        return this;
+    }
+
+    /** Most requests that have been in progress at once. */
+    public int maxConcurrentRequests() {
+        return maxActive.get();
+    }
+
+    /** Number of connections accepted so far. */
+    public int connections() {
+        return connections.get();
+    }
+
+    /** Number of requests served so far. */
+    public int requests() {
+        return requests.get();
+    }
+
+    /** Number of 304 Not Modified replies so far. */
+    public int notModifiedReplies() {
+        return notModified.get();
+    }
+
+    /** Headers of the last request served, with lower case names. */
+    public Map<String, String> lastRequestHeaders() {
+        return lastRequestHeaders;
+    }
+
+    public void stop() throws IOException {
+        server.close();
+    }
+
+    private void serve(Socket socket) {
+        try {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                String requestLine = readLine(in);
+                if (requestLine == null || requestLine.length() == 0)
+                    break;
+                Map<String, String> headers = new HashMap<String, String>();
+                String line;
+                while ((line = readLine(in)) != null && line.length() > 0) {
+                    int colon = line.indexOf(':');
+                    if (colon > 0)
+                        headers.put(line.substring(0, colon).trim().toLowerCase(), line.substring(colon + 1).trim());
+                }
+                if (headers.containsKey("content-length")) { // discard any request body
+                    for (int left = Integer.parseInt(headers.get("content-length")); left > 0; left--)
+                        in.read();
+                }
+                lastRequestHeaders = headers;
+                requests.incrementAndGet();
+                int now = active.incrementAndGet();
+                while (true) {
+                    int max = maxActive.get();
+                    if (now <= max || maxActive.compareAndSet(max, now))
+                        break;
+                }
+                if (delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+                }
+
+                String path = requestLine.split(" ")[1];
+                if (path.indexOf('?') > -1)
+                    path = path.substring(0, path.indexOf('?'));
+                Reply reply = replies.get(path);
+                if (reply == null)
+                    reply = new Reply(404, Collections.singletonMap("Content-Type", "text/plain"), "Not found".getBytes("UTF-8"));
+                if (notModified(reply, headers)) {
+                    reply = new Reply(304, Collections.<String, String>emptyMap(), new byte[0]);
+                    notModified.incrementAndGet();
+                }
+                active.decrementAndGet(); // before the reply, so the client can't start another request first
+                writeReply(out, reply, requestLine.startsWith("HEAD "));
+                if ("close".equalsIgnoreCase(headers.get("connection")))
+                    break;
+            }
+            socket.close();
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    // whether a conditional request's validators match the reply's
+    private static boolean notModified(Reply reply, Map<String, String> requestHeaders) {
+        String etag = reply.headers.get("ETag");
+        String lastModified = reply.headers.get("Last-Modified");
+        if (etag != null && requestHeaders.containsKey("if-none-match"))
+            return etag.equals(requestHeaders.get("if-none-match"));
+        return lastModified != null && lastModified.equals(requestHeaders.get("if-modified-since"));
+    }
+
+    private static void writeReply(OutputStream out, Reply reply, boolean head) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("HTTP/1.1 ").append(reply.status).append(reply.status == 200 ? " OK" : " Status").append("\r\n");
+        for (Map.Entry<String, String> header : reply.headers.entrySet())
+            sb.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        if (reply.status != 304)
+            sb.append("Content-Length: ").append(reply.body.length).append("\r\n");
+        sb.append("\r\n");
+        out.write(sb.toString().getBytes("ISO-8859-1"));
+        if (!head)
+            out.write(reply.body);
+        out.flush();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n')
+                return sb.toString();
+            if (c != '\r')
+                sb.append((char) c);
+        }
+        return sb.length() > 0 ? sb.toString() : null;
+    }
+
+    private static class Reply {
+        final int status;
+        final Map<String, String> headers;
+        final byte[] body;
+
+        Reply(int status, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.jsoup.nodes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Precompiles entities-base.properties and entities-full.properties into the {@link EntitiesData} source, so
+ * {@link Entities} loads primitive arrays rather than parsing the properties at runtime. Run it after changing either
+ * properties file, from the project root, with the compiled main and test classes on the class path:
+ * <pre>java org.jsoup.nodes.BuildEntities src/main/java/org/jsoup/nodes/EntitiesData.java</pre>
+ * {@code EntitiesTest} checks the generated tables against the properties.
+ */
+public class BuildEntities {
+    // xhtml has limited entities
+    private static final Object[][] xhtmlArray = {
+            {"quot", 0x00022},
+            {"amp", 0x00026},
+            {"apos", 0x00027},
+            {"lt", 0x0003C},
+            {"gt", 0x0003E}
+    };
+
+    public static void main(String[] args) throws IOException {
+        String path = args.length > 0 ? args[0] : "src/main/java/org/jsoup/nodes/EntitiesData.java";
+        Writer out = new OutputStreamWriter(new FileOutputStream(new File(path)), "UTF-8");
+        out.write(generate());
+        out.close();
+    }
+
+    static String generate() {
+        Map<String, char[]> base = loadEntities("entities-base.properties");
+        Map<String, char[]> full = loadEntities("entities-full.properties");
+        full.putAll(base);
+        Map<Integer, String> xhtmlByVal = new HashMap<Integer, String>();
+        for (Object[] entity : xhtmlArray)
+            xhtmlByVal.put((Integer) entity[1], (String) entity[0]);
+
+        StringBuilder src = new StringBuilder();
+        src.append("package org.jsoup.nodes;\n\n")
+                .append("/**\n")
+                .append(" * Entity tables, precompiled from entities-base.properties and entities-full.properties by BuildEntities\n")
+                .append(" * (in the tests). See {@link EntityTrie} for the format. Generated: do not edit.\n")
+                .append(" */\n")
+                .append("final class EntitiesData {\n")
+                .append("    private EntitiesData() {}\n\n");
+        escapes(src, "xhtml", xhtmlByVal);
+        trie(src, "base", base);
+        escapes(src, "base", toCodePointKey(base));
+        trie(src, "full", full);
+        escapes(src, "full", toCodePointKey(full));
+        src.append("}\n");
+        return src.toString();
+    }
+
+    // values are hex code points; an entity of more than one code point lists them separated by ','
+    static Map<String, char[]> loadEntities(String filename) {
+        Properties properties = new Properties();
+        Map<String, char[]> entities = new HashMap<String, char[]>();
+        try {
+            InputStream in = Entities.class.getResourceAsStream(filename);
+            properties.load(in);
+            in.close();
+        } catch (IOException e) {
+            throw new MissingResourceException("Error loading entities resource: " + e.getMessage(), "Entities", filename);
+        }
+
+        StringBuilder val = new StringBuilder(4);
+        for (Map.Entry<Object, Object> entry: properties.entrySet()) {
+            val.setLength(0);
+            for (String codePoint : ((String) entry.getValue()).split(","))
+                val.appendCodePoint(Integer.parseInt(codePoint.trim(), 16));
+            entities.put((String) entry.getKey(), val.toString().toCharArray());
+        }
+        return entities;
+    }
+
+    // only entities of a single code point (a char, or a surrogate pair) can be escaped to
+    private static Map<Integer, String> toCodePointKey(Map<String, char[]> inMap) {
+        Map<Integer, String> outMap = new HashMap<Integer, String>();
+        for (Map.Entry<String, char[]> entry: inMap.entrySet()) {
+            char[] value = entry.getValue();
+            if (Character.codePointCount(value, 0, value.length) != 1)
+                continue;
+            Integer character = Character.codePointAt(value, 0);
+            String name = entry.getKey();
+
+            if (outMap.containsKey(character)) {
+                // dedupe, preferring the lower case version
+                if (name.toLowerCase().equals(name))
+                    outMap.put(character, name);
+            } else {
+                outMap.put(character, name);
+            }
+        }
+        return outMap;
+    }
+
+    private static void trie(StringBuilder src, String prefix, Map<String, char[]> entities) {
+        // build as linked nodes, then lay out breadth first
+        Node root = new Node();
+        for (Map.Entry<String, char[]> entry : entities.entrySet()) {
+            Node node = root;
+            String name = entry.getKey();
+            for (int i = 0; i < name.length(); i++) {
+                Character c = name.charAt(i);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    child.label = c;
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.value = entry.getValue();
+        }
+
+        List<Node> order = new ArrayList<Node>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++)
+            order.addAll(order.get(i).children.values());
+
+        StringBuilder labels = new StringBuilder();
+        StringBuilder nodes = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        StringBuilder valueLengths = new StringBuilder();
+        for (Node node : order) {
+            labels.append(node.label);
+            int count = node.children.size();
+            if (count >= EntityTrie.NAMED)
+                throw new IllegalStateException("Too many children");
+            if (node.value != null) {
+                nodes.append((char) (count | EntityTrie.NAMED));
+                values.append(node.value);
+                valueLengths.append((char) node.value.length);
+            } else {
+                nodes.append((char) count);
+            }
+        }
+        field(src, prefix + "Labels", labels);
+        field(src, prefix + "Nodes", nodes);
+        field(src, prefix + "Values", values);
+        field(src, prefix + "ValueLengths", valueLengths);
+    }
+
+    // code points are sorted, and written as chars or surrogate pairs
+    private static void escapes(StringBuilder src, String prefix, Map<Integer, String> byVal) {
+        TreeMap<Integer, String> sorted = new TreeMap<Integer, String>(byVal);
+        StringBuilder codes = new StringBuilder();
+        StringBuilder escapes = new StringBuilder();
+        for (Map.Entry<Integer, String> entry : sorted.entrySet()) {
+            codes.appendCodePoint(entry.getKey());
+            escapes.append('&').append(entry.getValue()).append(';');
+        }
+        field(src, prefix + "EscapeCodes", codes);
+        field(src, prefix + "Escapes", escapes);
+    }
+
+    private static void field(StringBuilder src, String name, CharSequence value) {
+        src.append("    static final String ").append(name).append(" =\n            \"");
+        int lineStart = src.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                src.append('\\').append(c);
+            else if (c >= ' ' && c < 0x7f)
+                src.append(c);
+            else if (c < 0x100) // octal, as unicode escapes of line breaks would break the literal
+                src.append('\\').append(Integer.toOctalString(c | 0x200).substring(1));
+            else
+                src.append(String.format("\\u%04x", (int) c));
+            if (src.length() - lineStart > 100 && i < value.length() - 1) {
+                src.append("\" +\n            \"");
+                lineStart = src.length();
+            }
+        }
+        src.append("\";\n\n");
+    }
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<Character, Node>();
+        char label;
+        char[] value;
+    }
+}
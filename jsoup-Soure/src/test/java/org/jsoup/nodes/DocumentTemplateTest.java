@@ -0,0 +1,100 @@
+package org.jsoup.nodes;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.Benchmark;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests for documents copied lazily from a template.
+ */
+public class DocumentTemplateTest {
+    private static final String html = "<title>T</title><div id=nav><a href=/ class='a b'>Home</a></div>" +
+            "<div id=content><p id=greet>Hello, <b>there</b></p><p>More</p></div>";
+
+    @Test public void copiesMatchTheDocument() {
+        Document doc = Jsoup.parse(html);
+        DocumentTemplate template = new DocumentTemplate(doc);
+        Document copy = template.newDocument();
+        assertEquals(doc.outerHtml(), copy.outerHtml());
+        assertEquals("T", copy.title());
+        assertEquals(2, copy.select("div p").size());
+        assertEquals("/", copy.select("a").attr("href"));
+        assertNotSame(doc.outputSettings(), copy.outputSettings());
+    }
+
+    @Test public void changesStayInTheirCopy() {
+        Document doc = Jsoup.parse(html);
+        DocumentTemplate template = new DocumentTemplate(doc);
+        Document one = template.newDocument();
+        Document two = template.newDocument();
+
+        one.getElementById("greet").text("Hi, Jo");
+        one.select("a").first().addClass("c").attr("href", "/jo");
+        two.select("p").remove();
+        doc.getElementById("nav").remove(); // the source, after the template was made
+
+        assertEquals("Hi, Jo", one.getElementById("greet").text());
+        assertEquals("a b c", one.select("a").first().className());
+        assertEquals(0, two.select("p").size());
+        assertEquals("a b", two.select("a").first().className());
+        assertEquals(Jsoup.parse(html).outerHtml(), template.newDocument().outerHtml());
+    }
+
+    @Test public void childrenAreCopiedAsReached() {
+        DocumentTemplate template = new DocumentTemplate(Jsoup.parse(html));
+        Document copy = template.newDocument();
+        assertTrue(lazy(copy));
+
+        Element body = copy.body();
+        Element nav = body.child(0);
+        assertFalse(lazy(copy));
+        assertTrue(lazy(nav));
+        assertTrue(lazy(body.child(1)));
+        assertEquals(1, nav.childNodeSize());
+        assertTrue(lazy(nav)); // the size is the source's, until used
+
+        nav.empty();
+        assertEquals(0, nav.childNodeSize());
+        assertSame(body, nav.parent());
+        assertEquals(1, body.child(1).siblingIndex());
+        assertEquals(1, template.newDocument().getElementById("nav").childNodeSize());
+    }
+
+    @Test public void viewsTakenWhileLazyFollowChanges() {
+        DocumentTemplate template = new DocumentTemplate(Jsoup.parse("<div><p>One</p></div>"));
+        Element body = template.newDocument().body();
+        List<Node> view = body.childNodes();
+        assertTrue(lazy(body));
+        body.prependElement("h1");
+        assertEquals(2, view.size());
+        assertEquals("h1", ((Element) view.get(0)).tagName());
+        assertEquals("One", ((Element) view.get(1)).text());
+    }
+
+    private static boolean lazy(Node node) {
+        return node.childNodes instanceof LazyChildNodes && !((LazyChildNodes) node.childNodes).filled();
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkAgainstClone() throws Exception {
+        final Document doc = Jsoup.parse(new File(DocumentTemplateTest.class.getResource("/htmltests/news-com-au-home.html").toURI()), "UTF-8");
+        final DocumentTemplate template = new DocumentTemplate(doc);
+        Benchmark.run(new Runnable() {
+            public void run() {
+                Document copy = doc.clone();
+                copy.head().appendElement("meta").attr("name", "user");
+            }
+        }, new Runnable() {
+            public void run() {
+                Document copy = template.newDocument();
+                copy.head().appendElement("meta").attr("name", "user");
+            }
+        }, 500);
+    }
+}
@@ -4,6 +4,10 @@ import org.jsoup.Jsoup;
 import org.jsoup.TextUtil;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static org.junit.Assert.*;
 
 /**
@@ -82,4 +86,33 @@ public class DocumentTest {
                 TextUtil.stripNewlines(clone.html()));
     }
 
+    @Test public void writeToStreamsSameHtml() throws IOException {
+        Document doc = Jsoup.parse("  <title>Hi</title>\n<p title=π>π & < ></p><!-- c --><p>Two  </p>  ");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.writeTo(out);
+        assertEquals(doc.outerHtml(), out.toString("UTF-8"));
+
+        Document.OutputSettings settings = new Document.OutputSettings().charset("ascii").prettyPrint(false);
+        out = new ByteArrayOutputStream();
+        doc.writeTo(out, settings);
+        doc.outputSettings(settings);
+        assertEquals(doc.outerHtml(), out.toString("US-ASCII"));
+        assertTrue(doc.outerHtml().contains("<p title=\"&#x3c0;\">&#x3c0; &amp; &lt; &gt;</p>"));
+    }
+
+    @Test public void outerHtmlToAppendable() throws IOException {
+        Document doc = Jsoup.parse("<div><p>One</p><p>Two</p></div>");
+        StringWriter writer = new StringWriter();
+        doc.outerHtml(writer);
+        assertEquals(doc.outerHtml(), writer.toString());
+
+        Element div = doc.select("div").first();
+        writer = new StringWriter();
+        div.outerHtml(writer);
+        assertEquals(div.outerHtml(), writer.toString());
+
+        writer = new StringWriter();
+        div.html(writer);
+        assertEquals(div.html(), writer.toString());
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 
 import java.nio.charset.Charset;
+import java.util.Map;
 
 public class EntitiesTest {
     @Test public void escape() {
@@ -39,6 +40,22 @@ public class EntitiesTest {
         assertEquals(text, escapedUtf);
     }
 
+    @Test public void escapeWithMultiByteCharset() {
+        String text = "新 π Å & ¾";
+        assertEquals("新 π &#xc5; &amp; &#xbe;", Entities.escape(text, Charset.forName("Shift_JIS").newEncoder(), Entities.EscapeMode.xhtml));
+        assertEquals("新 π &Aring; &amp; &frac34;", Entities.escape(text, Charset.forName("GBK").newEncoder(), Entities.EscapeMode.base));
+    }
+
+    @Test public void escapeLoneSurrogate() {
+        String text = "a\ud800b";
+        assertEquals("a&#xd800;b", Entities.escape(text, Charset.forName("UTF-8").newEncoder(), Entities.EscapeMode.base));
+    }
+
+    @Test public void unescapedTextIsNotCopied() {
+        String text = "Hello there, nothing to escape here";
+        assertSame(text, Entities.escape(text, Charset.forName("UTF-8").newEncoder(), Entities.EscapeMode.base));
+    }
+
     @Test public void unescape() {
         String text = "Hello &amp;&LT&gt; &reg &angst; &angst &#960; &#960 &#x65B0; there &! &frac34; &copy; &COPY;";
         assertEquals("Hello &<> ® Å &angst π π 新 there &! ¾ © ©", Entities.unescape(text));
@@ -81,4 +98,56 @@ public class EntitiesTest {
         String string = "http://www.foo.com?a=1&num_rooms=1&children=0&int=VA&b=2";
         assertEquals(string, Entities.unescape(string));
     }
+
+    @Test public void supplementaryEntities() {
+        // entities outside the BMP decode to a surrogate pair, not a truncated char
+        String text = "&Afr; &Afr &oopf;";
+        assertEquals("\uD835\uDD04 &Afr \uD835\uDD60", Entities.unescape(text));
+        assertEquals("\uD835\uDD04", Entities.getByName("Afr"));
+        assertNull(Entities.getCharacterByName("Afr"));
+        assertEquals(Character.valueOf('<'), Entities.getCharacterByName("lt"));
+
+        // and a BMP char that the truncated value collided with is not escaped as the entity
+        String hangul = "\uD504";
+        assertEquals("&#xd504;", Entities.escape(hangul, Charset.forName("ascii").newEncoder(), Entities.EscapeMode.extended));
+
+        // and they escape back to their names, by code point
+        String afr = "\uD835\uDD04 \uD835\uDD60";
+        assertEquals("&Afr; &oopf;", Entities.escape(afr, Charset.forName("UTF-8").newEncoder(), Entities.EscapeMode.extended));
+        assertEquals("&#x1d504; &#x1d560;", Entities.escape(afr, Charset.forName("ascii").newEncoder(), Entities.EscapeMode.base));
+        assertEquals(afr, Entities.escape(afr, Charset.forName("UTF-8").newEncoder(), Entities.EscapeMode.base));
+    }
+
+    @Test public void entityNameLookup() {
+        assertTrue(Entities.isNamedEntity("angst"));
+        assertFalse(Entities.isBaseNamedEntity("angst"));
+        assertTrue(Entities.isBaseNamedEntity("reg"));
+        assertFalse(Entities.isNamedEntity("an"));
+        assertFalse(Entities.isNamedEntity(""));
+
+        char[] buffer = "x&frac34;y".toCharArray();
+        assertArrayEquals(new char[]{'¾'}, Entities.getCharsByName(buffer, 2, 6, true));
+        assertNull(Entities.getCharsByName(buffer, 2, 5, false));
+    }
+
+    @Test public void precompiledTablesMatchProperties() {
+        // if this fails, the properties have changed: regenerate EntitiesData with BuildEntities
+        Map<String, char[]> base = BuildEntities.loadEntities("entities-base.properties");
+        Map<String, char[]> full = BuildEntities.loadEntities("entities-full.properties");
+        for (Map.Entry<String, char[]> entry : full.entrySet()) {
+            assertEquals(entry.getKey(), new String(entry.getValue()), Entities.getByName(entry.getKey()));
+            assertEquals(entry.getKey(), base.containsKey(entry.getKey()), Entities.isBaseNamedEntity(entry.getKey()));
+        }
+
+        for (Entities.EscapeMode mode : Entities.EscapeMode.values()) {
+            Map<Character, String> escapes = mode.getMap();
+            for (Map.Entry<Character, String> entry : escapes.entrySet()) {
+                assertEquals(entry.getValue(), entry.getKey(), Entities.getCharacterByName(entry.getValue()));
+                if (mode == Entities.EscapeMode.base)
+                    assertTrue(base.containsKey(entry.getValue()));
+            }
+        }
+        assertEquals(5, Entities.EscapeMode.xhtml.getMap().size());
+        assertEquals("amp", Entities.EscapeMode.base.getMap().get('&'));
+    }
 }
@@ -72,4 +72,20 @@ public class TextNodeTest {
         TextNode t = doc.body().textNodes().get(0);
         assertEquals(new String(Character.toChars(135361)), t.outerHtml().trim());
     }
+
+    @Test public void readingAttributesLeavesThemUnmade() {
+        TextNode tn = new TextNode("/there", "http://example.com/");
+        assertEquals("/there", tn.attr("TEXT"));
+        assertEquals("http://example.com/there", tn.attr("abs:text"));
+        assertEquals("http://example.com/there", tn.absUrl("text"));
+        assertTrue(tn.hasAttr("text"));
+        assertTrue(tn.hasAttr("abs:text"));
+        assertFalse(tn.hasAttr("title"));
+        assertEquals("", tn.attr("title"));
+        assertNull(tn.attributes);
+
+        tn.attr("title", "x");
+        assertEquals("x", tn.attr("title"));
+        assertEquals("/there", tn.attr("text"));
+    }
 }
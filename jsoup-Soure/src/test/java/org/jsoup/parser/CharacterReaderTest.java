@@ -1,7 +1,13 @@
 package org.jsoup.parser;
 
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
 import static org.junit.Assert.*;
 
 /**
@@ -199,4 +205,56 @@ public class CharacterReaderTest {
         assertFalse(r.matchesAny(scan));
     }
 
+    @Test public void readsFromReaderAsNeeded() {
+        CharacterReader r = new CharacterReader(new TrickleReader("One Two Three &amp; Four", 3));
+        assertEquals("One", r.consumeTo(' '));
+        r.advance();
+        r.mark();
+        assertEquals("Two Three", r.consumeTo(" &"));
+        assertEquals(5, r.nextIndexOf(';'));
+        assertTrue(r.containsIgnoreCase("AMP"));
+        r.rewindToMark();
+        assertEquals(4, r.pos());
+        assertEquals("Two", r.consumeLetterSequence());
+        assertEquals(" Three &amp; Four", r.consumeToEnd());
+        assertTrue(r.isEmpty());
+        assertEquals(CharacterReader.EOF, r.consume());
+    }
+
+    @Test public void parsesFromReaderAcrossBufferBoundaries() throws IOException {
+        StringBuilder sb = new StringBuilder("<title>Test &amp; Test</title><script>var a = '</SCRIPT'; </script>");
+        for (int i = 0; i < 5000; i++) {
+            sb.append("<p class=n").append(i).append(">Text &lt;").append(i).append("&gt; &copy;&#x41;&notin;");
+            if (i % 100 == 0)
+                sb.append("<!-- a comment that runs for a while, to straddle a read -->");
+        }
+        sb.append("<textarea>").append(new String(new char[70000]).replace('\0', 'x')).append("</textarea>");
+        String html = sb.toString();
+
+        Document fromString = Jsoup.parse(html, "http://example.com/");
+        Document fromReader = Parser.htmlParser().parseInput(new TrickleReader(html, 4099), "http://example.com/");
+        assertEquals(fromString.outerHtml(), fromReader.outerHtml());
+        assertEquals("Test & Test", fromReader.title());
+    }
+
+    // a reader that returns at most a few chars at a time, like a slow network
+    private static class TrickleReader extends Reader {
+        private final Reader in;
+        private final int max;
+
+        TrickleReader(String data, int max) {
+            this.in = new StringReader(data);
+            this.max = max;
+        }
+
+        @Override
+        public int read(char[] buf, int off, int len) throws IOException {
+            return in.read(buf, off, Math.min(len, max));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.DocumentTemplate;
+import org.jsoup.nodes.Element;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests that a document can be read from many threads at once.
+ */
+public class ConcurrentSelectTest {
+    private static final String[] queries = {
+            "div p", "div > p", "li + li", "li ~ li", "div.mod a[href]", "ul li:last-child a", "div:has(p) > a",
+            "div:not(.x) p", "a, div p, li + li", "[class]", "[^data-]", "a[abs:href]", "a[href*=news]",
+            ":containsOwn(the)", ":matches(\\d{4})", "li:nth-child(2n+1)", "li:nth-last-child(2)", "td:nth-of-type(2)",
+            "li:first-of-type", "li:only-child", "span:only-of-type", "a:lt(2)", "*"};
+    private static final int threads = 8;
+    private static final int rounds = 3;
+
+    @Test public void selectsFromManyThreads() throws Throwable {
+        Document reference = parse();
+        final String[] expected = new String[queries.length];
+        for (int i = 0; i < queries.length; i++)
+            expected[i] = describe(reference.select(queries[i]));
+        final String text = reference.text();
+        final String html = reference.outerHtml();
+
+        final Document doc = parse(); // not read before the threads start, so anything made on reading is contended
+        final Evaluator[] evaluators = new Evaluator[queries.length];
+        for (int i = 0; i < queries.length; i++)
+            evaluators[i] = QueryParser.parse(queries[i]); // parsed queries may be held and shared by a caller
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        for (String query : queries)
+            named.put(query, query);
+        final MultiSelector multi = new MultiSelector(named);
+
+        runConcurrently(new Callable<Void>() {
+            public Void call() {
+                for (int round = 0; round < rounds; round++) {
+                    for (int i = 0; i < queries.length; i++) {
+                        assertEquals(queries[i], expected[i], describe(doc.select(queries[i])));
+                        assertEquals(queries[i], expected[i], describe(Collector.collect(evaluators[i], doc)));
+                    }
+                    List<Elements> found = new ArrayList<Elements>(multi.select(doc).values());
+                    for (int i = 0; i < queries.length; i++)
+                        assertEquals(queries[i], expected[i], describe(found.get(i)));
+                    assertEquals(text, doc.text());
+                    assertEquals(html, doc.outerHtml());
+                }
+                return null;
+            }
+        });
+    }
+
+    @Test public void readsATemplateCopyFromManyThreads() throws Throwable {
+        Document reference = parse();
+        final String[] expected = new String[queries.length];
+        for (int i = 0; i < queries.length; i++)
+            expected[i] = describe(reference.select(queries[i]));
+        final String html = reference.outerHtml();
+
+        for (int copies = 0; copies < 5; copies++) {
+            final Document copy = new DocumentTemplate(reference).newDocument(); // filled in by whichever thread is first
+            runConcurrently(new Callable<Void>() {
+                public Void call() {
+                    for (int i = 0; i < queries.length; i++)
+                        assertEquals(queries[i], expected[i], describe(copy.select(queries[i])));
+                    assertEquals(html, copy.outerHtml());
+                    return null;
+                }
+            });
+        }
+    }
+
+    private static Document parse() throws Exception {
+        File in = new File(ConcurrentSelectTest.class.getResource("/htmltests/news-com-au-home.html").toURI());
+        return Jsoup.parse(in, "UTF-8");
+    }
+
+    // the matched elements, by place and class, comparable across parses of the same page
+    private static String describe(Elements elements) {
+        StringBuilder sb = new StringBuilder();
+        for (Element el : elements) {
+            sb.append(el.tagName()).append(':').append(el.siblingIndex());
+            if (el.hasClass("story"))
+                sb.append(".story");
+            sb.append(el.classNames().size()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private static void runConcurrently(final Callable<Void> reader) throws Throwable {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        start.await();
+                        return reader.call();
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause();
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -211,4 +211,44 @@ public class CssTest {
 		assertEquals(Tag.valueOf("body"), sel2.get(0).tag());
 	}
 
+	@Test
+	public void positionsOverLongList() {
+		StringBuilder sb = new StringBuilder("<ul>");
+		for (int i = 1; i <= 10000; i++) {
+			sb.append(i % 3 == 0 ? "<li class=x>" : "<li>").append(i).append("</li>");
+			if (i % 5 == 0) sb.append("<br>");
+		}
+		Document doc = Jsoup.parse(sb.append("</ul>").toString());
+
+		Elements items = doc.select("li:nth-of-type(2n)");
+		assertEquals(5000, items.size());
+		assertEquals("2", items.first().text());
+		assertEquals("10000", items.last().text());
+		assertEquals("9999", doc.select("li:nth-last-of-type(2)").text());
+		assertEquals(2000, doc.select("br:nth-child(6n)").size());
+		assertEquals("1", doc.select("li:first-child").text());
+		assertEquals("10000", doc.select("ul :nth-last-child(2)").text());
+		assertEquals(1, doc.select("br:last-child").size());
+		assertEquals(3333, doc.select("li.x:nth-of-type(n+3)").size());
+	}
+
+	@Test
+	public void positionsFollowChanges() {
+		Document doc = Jsoup.parse("<div><p>One</p><p>Two</p></div>");
+		check(doc.select("p:last-child"), "Two");
+		doc.select("div").first().appendElement("p").text("Three");
+		check(doc.select("p:last-child"), "Three");
+		check(doc.select("p:nth-of-type(3)"), "Three");
+		doc.select("p").first().remove();
+		check(doc.select("p:first-child"), "Two");
+	}
+
+	@Test
+	public void nthOfTypeWithUnknownTags() {
+		Document doc = Jsoup.parse("<div><foo>1</foo><bar>2</bar><foo>3</foo></div>");
+		check(doc.select("foo:nth-of-type(2)"), "3");
+		check(doc.select("bar:only-of-type"), "2");
+		check(doc.select("foo:last-of-type"), "3");
+	}
+
 }
@@ -3,6 +3,7 @@ package org.jsoup.select;
 import org.jsoup.Jsoup;
 import org.jsoup.TextUtil;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.jsoup.nodes.FormElement;
 import org.jsoup.nodes.Node;
 import org.junit.Test;
@@ -198,6 +199,50 @@ public class ElementsTest {
         assertEquals("<div> jsoup </div>", doc.body().html());
     }
     
+    @Test public void removeNested() {
+        Document doc = Jsoup.parse("<div id=1><p>One</p><div id=2><p>Two</p></div><p>Three</p></div><p>Four</p>");
+        doc.outputSettings().prettyPrint(false);
+        Elements divs = doc.select("div");
+        divs.remove();
+        assertEquals("<p>Four</p>", doc.body().html());
+        assertNull(divs.get(0).parent());
+        assertNull(divs.get(1).parent());
+        assertEquals(0, doc.select("p").first().siblingIndex());
+    }
+
+    @Test public void unwrapNested() {
+        Document doc = Jsoup.parse("<div><span>One <span>Two <b>Three</b></span> Four</span> Five</div>");
+        doc.outputSettings().prettyPrint(false);
+        Elements spans = doc.select("span");
+        spans.unwrap();
+        assertEquals("<div>One Two <b>Three</b> Four Five</div>", doc.body().html());
+        for (Element span : spans) {
+            assertNull(span.parent());
+            assertEquals(0, span.childNodeSize());
+        }
+        List<Node> nodes = doc.select("div").first().childNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            assertEquals(i, nodes.get(i).siblingIndex());
+            assertSame(doc.select("div").first(), nodes.get(i).parent());
+        }
+    }
+
+    @Test public void removeManyRowsKeepsIndexes() {
+        StringBuilder h = new StringBuilder("<table>");
+        for (int i = 0; i < 20000; i++)
+            h.append("<tr class=r").append(i % 3).append("><td>").append(i).append("</td></tr>");
+        Document doc = Jsoup.parse(h.toString());
+        doc.select("tr.r1").remove(); // would be quadratic, removing one at a time
+
+        Elements rows = doc.select("tr");
+        assertEquals(13333, rows.size());
+        assertEquals("0", rows.get(0).text());
+        assertEquals("2", rows.get(1).text());
+        for (int i = 0; i < rows.size(); i++)
+            assertEquals(i, rows.get(i).siblingIndex());
+        assertEquals("3", rows.get(1).nextElementSibling().text());
+    }
+
     @Test public void eq() {
         String h = "<p>Hello<p>there<p>world";
         Document doc = Jsoup.parse(h);
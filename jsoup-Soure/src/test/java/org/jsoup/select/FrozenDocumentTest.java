@@ -0,0 +1,177 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.Benchmark;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests that a frozen document answers queries as the document does.
+ */
+public class FrozenDocumentTest {
+    private static final String[] queries = {
+            "div", "div p", "div > p", "li + li", "li ~ li", "h1 ~ p + p", "div.mod a[href]", "ul li:last-child a",
+            "div:has(p) > a", "div:not(.x) p", "> div", "a, div p, li + li", "td:eq(0) ~ td", "* > a", ":root > *",
+            "#yog-page div", "[class]", "[^data-]", "a[href^=http]", "a[href$=.html]", "a[href*=news]",
+            "a[href~=\\d+]", "[abs:href]", "img[src!=x.png]", ":contains(the)", "p:containsOwn(the)",
+            ":matches(\\d{4})", ":matchesOwn(^\\w+$)", "p:empty", "td:empty", ":root", "li:nth-child(2n+1)",
+            "li:nth-last-child(2)", "td:nth-of-type(2)", "td:last-of-type", "li:first-of-type", "li:only-child",
+            "span:only-of-type", "a:lt(2)", "a:gt(3)", "a:eq(0)", "li:first-child", ".Headline, .headline", "*"};
+
+    @Test public void selectsAsTheDocument() throws Exception {
+        for (String file : new String[]{"yahoo-article-1.html", "news-com-au-home.html", "smh-biz-article-1.html"}) {
+            Document doc = Jsoup.parse(new File(FrozenDocumentTest.class.getResource("/htmltests/" + file).toURI()), "UTF-8");
+            FrozenDocument frozen = doc.freeze();
+            assertEquals(doc.title(), frozen.title());
+            assertEquals(doc.text(), frozen.text());
+            for (String query : queries)
+                assertSameElements(file + " " + query, doc.select(query), frozen.select(query));
+
+            Element sub = doc.select("div").get(3);
+            FrozenElement frozenSub = frozen.select("div").get(3);
+            for (String query : queries)
+                assertSameElements(file + " " + query + " in div", sub.select(query), frozenSub.select(query));
+        }
+    }
+
+    @Test public void readsAsTheDocument() {
+        Document doc = Jsoup.parse("<div id=a class='One two'><p>Hello <b>there</b><br>now</p><!-- c -->" +
+                "<pre>  keep\n  this </pre><a href='/x' data-n=1>link</a></div>", "http://example.com/");
+        FrozenElement div = doc.freeze().select("div").get(0);
+        assertEquals("div", div.tagName());
+        assertEquals("a", div.id());
+        assertEquals("One two", div.className());
+        assertTrue(div.hasClass("one"));
+        assertFalse(div.hasClass("on"));
+        assertEquals(doc.select("div").text(), div.text());
+        assertEquals("Hello now", div.select("p").get(0).ownText());
+        assertEquals(3, div.children().size());
+        assertEquals("body", div.parent().tagName());
+
+        FrozenElement a = div.select("a").get(0);
+        assertEquals("/x", a.attr("href"));
+        assertEquals("http://example.com/x", a.attr("abs:href"));
+        assertEquals("http://example.com/x", a.absUrl("href"));
+        assertTrue(a.hasAttr("DATA-N"));
+        assertEquals("", a.attr("title"));
+        assertEquals(2, a.attributes().size());
+        assertEquals(2, a.elementSiblingIndex());
+        assertEquals(a, div.children().get(2));
+    }
+
+    @Test public void snapshotIgnoresLaterChanges() {
+        Document doc = Jsoup.parse("<p>One</p><p>Two</p>");
+        FrozenDocument frozen = doc.freeze();
+        doc.select("p").remove();
+        assertEquals(2, frozen.select("p").size());
+        assertEquals("One Two", frozen.text());
+    }
+
+    @Test public void snapshotOfAnElement() {
+        Document doc = Jsoup.parse("<div><p>One</p></div><p>Two</p>");
+        FrozenDocument frozen = new FrozenDocument(doc.select("div").first());
+        assertEquals("div", frozen.root().tagName());
+        assertNull(frozen.root().parent());
+        assertEquals(1, frozen.select("p").size());
+        assertEquals(1, frozen.select(":root").size());
+        assertEquals(3, frozen.size()); // div, p, text
+    }
+
+    @Test public void snapshotOfAnElementKeepsItsPlace() {
+        Document doc = Jsoup.parse("<ul><li>1</li><p>x</p><li>2</li><li>3</li></ul><div>only</div>");
+        Element li = doc.select("li").get(2);
+        FrozenDocument frozen = new FrozenDocument(li);
+        String[] positional = {"li:eq(3)", "li:lt(2)", "li:gt(2)", "li:last-child", "li:first-child", "li:nth-child(4)",
+                "li:nth-last-child(1)", "li:nth-of-type(3)", "li:last-of-type", "li:first-of-type", "li:only-child",
+                "li:only-of-type", ":root"};
+        for (String query : positional)
+            assertSameElements(query, li.select(query), frozen.select(query));
+        assertEquals(1, frozen.select("li:last-child").size());
+        assertEquals(3, frozen.root().elementSiblingIndex());
+
+        Element div = doc.select("div").first();
+        FrozenDocument frozenDiv = new FrozenDocument(div);
+        for (String query : new String[]{"div:only-of-type", "div:first-child", "div:eq(1)"})
+            assertSameElements(query, div.select(query), frozenDiv.select(query));
+        assertEquals(0, new FrozenDocument(doc.select("body").first()).select("body:only-child").size());
+    }
+
+    @Test public void typesAreByTagName() {
+        Document doc = Jsoup.parse("<div><foo/><foo>x</foo></div>"); // two Tags for foo, as one self closes
+        FrozenDocument frozen = doc.freeze();
+        for (String query : new String[]{"foo:first-of-type", "foo:nth-of-type(2)", "foo:last-of-type", "foo:only-of-type"})
+            assertSameElements(query, doc.select(query), frozen.select(query));
+        assertEquals(1, frozen.select("foo:nth-of-type(2)").size());
+    }
+
+    @Test public void customEvaluatorsAreRefusedBeforeRunning() {
+        Evaluator custom = new Evaluator() {
+            public boolean matches(Element root, Element element) {
+                return true;
+            }
+        };
+        FrozenDocument frozen = Jsoup.parse("<p>").freeze();
+        for (Evaluator query : new Evaluator[]{custom, new CombiningEvaluator.And(new Evaluator.Tag("p"), custom),
+                new StructuralEvaluator.Has(custom)}) {
+            try {
+                frozen.select(query, 0);
+                fail();
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().contains("can't be run on a frozen document"));
+            }
+        }
+    }
+
+    @Test public void everyBuiltInEvaluatorRunsFrozen() {
+        List<Class<?>> builtIns = new ArrayList<Class<?>>();
+        builtIns.addAll(Arrays.asList(Evaluator.class.getDeclaredClasses()));
+        builtIns.addAll(Arrays.asList(StructuralEvaluator.class.getDeclaredClasses()));
+        builtIns.addAll(Arrays.asList(CombiningEvaluator.class.getDeclaredClasses()));
+        for (Class<?> builtIn : builtIns) {
+            if (Evaluator.class.isAssignableFrom(builtIn) && !Modifier.isAbstract(builtIn.getModifiers()))
+                assertTrue(builtIn.getName(), FrozenEvaluator.class.isAssignableFrom(builtIn));
+        }
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkAgainstDocument() throws Exception {
+        final Document doc = Jsoup.parse(new File(FrozenDocumentTest.class.getResource("/htmltests/news-com-au-home.html").toURI()), "UTF-8");
+        final FrozenDocument frozen = doc.freeze();
+        Benchmark.run(new Runnable() {
+            public void run() {
+                for (String query : queries)
+                    doc.select(query);
+            }
+        }, new Runnable() {
+            public void run() {
+                for (String query : queries)
+                    frozen.select(query);
+            }
+        }, 100);
+    }
+
+    private static void assertSameElements(String message, Elements expected, List<FrozenElement> actual) {
+        assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Element el = expected.get(i);
+            FrozenElement frozen = actual.get(i);
+            assertEquals(message, el.tagName(), frozen.tagName());
+            assertEquals(message, el.attributes().asList(), frozen.attributes());
+            assertEquals(message, el.elementSiblingIndex().intValue(), frozen.elementSiblingIndex());
+            if (i < 3) {
+                assertEquals(message, el.text(), frozen.text());
+                assertEquals(message, el.ownText(), frozen.ownText());
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests for the case insensitive search used by the text and attribute value evaluators.
+ */
+public class IgnoreCaseSearchTest {
+    @Test public void findsIgnoringCase() {
+        IgnoreCaseSearch search = new IgnoreCaseSearch("jsoup");
+        assertTrue(search.in("jsoup"));
+        assertTrue(search.in("I like JSoup a lot"));
+        assertTrue(search.in("JSOUP"));
+        assertTrue(search.in("jsojsoup"));
+        assertFalse(search.in("jsou"));
+        assertFalse(search.in("j soup"));
+        assertFalse(search.in(""));
+
+        assertTrue(new IgnoreCaseSearch("").in(""));
+        assertTrue(new IgnoreCaseSearch("Ωμέγα").in("ΑΛΦΑ ΩΜΈΓΑ"));
+        assertTrue(new IgnoreCaseSearch("straße").in("STRAßE"));
+        assertTrue(new IgnoreCaseSearch("中文").in("简体中文"));
+    }
+
+    @Test public void agreesWithLowerCaseContains() {
+        // small alphabets, with chars whose folded low bytes collide in the skip table, so partial matches are common
+        String alphabet = "abABšŠĀā ɡ";
+        Random random = new Random(44);
+        for (int n = 0; n < 20000; n++) {
+            String text = randomString(random, alphabet, random.nextInt(30));
+            String search = randomString(random, alphabet, 1 + random.nextInt(4));
+            assertEquals(text + " / " + search, text.toLowerCase().contains(search.toLowerCase()),
+                    new IgnoreCaseSearch(search.toLowerCase()).in(text));
+        }
+    }
+
+    @Test public void selectsWithoutLowerCaseCopies() {
+        Document doc = Jsoup.parse("<p title='Hello There'>One <b>TWO</b></p><p title=THERE>Three</p>");
+        assertEquals(2, doc.select("p[title*=there]").size());
+        assertEquals(1, doc.select("p[title^=HELLO]").size());
+        assertEquals(2, doc.select("p[title$=ere]").size());
+        assertEquals(0, doc.select("p[title$=hello there!]").size());
+        assertEquals(1, doc.select("p:contains(one two)").size());
+        assertEquals(0, doc.select("p:containsOwn(one two)").size());
+        assertEquals(1, doc.select("p:containsOwn(THREE)").size());
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.Benchmark;
+import org.jsoup.nodes.Document;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests for running several queries in one pass.
+ */
+public class MultiSelectorTest {
+    private static final String[] queries = {
+            "a[href]", "#content", "div.content p", "h1, h2, h3", "img[src$=.png]", ".Headline, .headline",
+            "li:nth-child(2n+1)", "*", "p:containsOwn(the)", "td:eq(0)", "meta[name=keywords]", "div > a, span > a",
+            "#footer a", ":not(div)", "ul li:last-child", "body div.mod:has(a)", "div#yog-cp.yog-cp, div", "[class]"};
+
+    @Test public void matchesSeparateSelects() throws Exception {
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        for (int i = 0; i < queries.length; i++)
+            named.put("q" + i, queries[i]);
+        MultiSelector selector = new MultiSelector(named);
+
+        for (String file : new String[]{"yahoo-article-1.html", "smh-biz-article-1.html", "news-com-au-home.html"}) {
+            Document doc = load(file); // the same selector, reused over documents
+            Map<String, Elements> found = selector.select(doc);
+            assertEquals(queries.length, found.size());
+            for (int i = 0; i < queries.length; i++) {
+                Elements expected = doc.select(queries[i]);
+                assertEquals(file + " " + queries[i], expected.size(), found.get("q" + i).size());
+                for (int j = 0; j < expected.size(); j++)
+                    assertSame(expected.get(j), found.get("q" + i).get(j));
+            }
+        }
+    }
+
+    @Test public void resultsByNameInOrder() {
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        named.put("titles", "h1.title, .title");
+        named.put("missing", "blink");
+        named.put("items", "li");
+        Document doc = Jsoup.parse("<h1 class='Big Title'>T</h1><ul><li>One<li class=' title\tTITLE '>Two</ul>");
+        Map<String, Elements> found = new MultiSelector(named).select(doc);
+
+        assertArrayEquals(new String[]{"titles", "missing", "items"}, found.keySet().toArray());
+        assertEquals("T Two", found.get("titles").text()); // found once each, in document order
+        assertEquals(0, found.get("missing").size());
+        assertEquals(2, found.get("items").size());
+    }
+
+    @Test public void selectsFromRoot() {
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        named.put("ps", "p");
+        Document doc = Jsoup.parse("<p>One</p><div><p>Two</p></div>");
+        assertEquals("Two", new MultiSelector(named).select(doc.select("div").first()).get("ps").text());
+    }
+
+    @Test(expected = Selector.SelectorParseException.class) public void invalidQuery() {
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        named.put("bad", "div:unknown");
+        new MultiSelector(named);
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkSinglePass() throws Exception {
+        final Document doc = load("news-com-au-home.html");
+        Map<String, String> named = new LinkedHashMap<String, String>();
+        for (int i = 0; i < queries.length; i++)
+            named.put("q" + i, queries[i]);
+        final MultiSelector selector = new MultiSelector(named);
+
+        Benchmark.run(new Runnable() {
+            public void run() {
+                for (String query : queries)
+                    doc.select(query);
+            }
+        }, new Runnable() {
+            public void run() {
+                selector.select(doc);
+            }
+        }, 300);
+    }
+
+    private static Document load(String name) throws IOException, URISyntaxException {
+        File file = new File(MultiSelectorTest.class.getResource("/htmltests/" + name).toURI());
+        return Jsoup.parse(file, "UTF-8");
+    }
+}
@@ -0,0 +1,105 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.Benchmark;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests that the query automaton finds the same as the evaluator engine.
+ */
+public class QueryAutomatonTest {
+    private static final String[] queries = {
+            "div", "div p", "div > p", "div p a", "div > div > a", "li + li", "li ~ li", "h1 ~ p + p",
+            "div.mod a[href]", "ul li:last-child a", "div:has(p) > a", "div:not(.x) p", "body > div > div",
+            "> div", "> * > *", "a, div p, li + li", "p, p", "td:eq(0) ~ td", "table tr > td:nth-child(2n+1)",
+            "* > a", "div a ~ a", "ol li, ul > li > a", "div#yog-page div", ":root > *", "div p:containsOwn(the)",
+            "div ~ div div", "span + a, a + span", "html body div", "div div div div div"};
+
+    @Test public void findsTheSameAsEvaluators() throws Exception {
+        for (String file : new String[]{"yahoo-article-1.html", "news-com-au-home.html", "smh-biz-article-1.html"}) {
+            Document doc = Jsoup.parse(new File(QueryAutomatonTest.class.getResource("/htmltests/" + file).toURI()), "UTF-8");
+            Element sub = doc.select("div").get(3);
+            for (String query : queries) {
+                assertSame(file + " " + query, Collector.collect(QueryParser.parse(query), doc),
+                        QueryAutomaton.compile(query).select(doc));
+                assertSame(file + " " + query + " in " + sub.id(), Collector.collect(QueryParser.parse(query), sub),
+                        QueryAutomaton.compile(query).select(sub));
+            }
+        }
+    }
+
+    @Test public void rootIsNotAnAncestorButIsAParent() {
+        Document doc = Jsoup.parse("<div id=1><p>One</p><div id=2><p>Two</p></div></div>");
+        Element outer = doc.getElementById("1");
+        assertEquals("Two", outer.select("div p").text());
+        assertEquals("One Two", outer.select("div > p").text());
+        assertEquals("One", outer.select("> p").text());
+        assertEquals("One Two", outer.select("> p, div > p").text());
+        assertEquals("2", outer.select("p + div").first().id());
+    }
+
+    @Test public void siblingsAreTrackedPerParent() {
+        Document doc = Jsoup.parse("<div><h1>A</h1><p>1</p><span>x</span><p>2</p></div><div><p>3</p><h1>B</h1><p>4</p></div>");
+        assertEquals("1 2 4", doc.select("h1 ~ p").text());
+        assertEquals("1 4", doc.select("h1 + p").text());
+        assertEquals("2", doc.select("span + p").text());
+        assertEquals("", doc.select("span ~ h1").text());
+    }
+
+    @Test public void fallsBackForLargeQueries() {
+        StringBuilder query = new StringBuilder("p");
+        for (int i = 0; i < 64; i++)
+            query.append(", b").append(i);
+        assertNull(QueryAutomaton.compile(query.toString()));
+        assertNotNull(QueryAutomaton.compile(query.substring(0, query.lastIndexOf(","))));
+
+        Document doc = Jsoup.parse("<p>One</p><b0>Two</b0>");
+        assertEquals(2, doc.select(query.toString()).size());
+    }
+
+    @Test public void combinesOnlyWithCombinators() {
+        assertFalse(QueryAutomaton.compile("div.nav, p:has(a), [title]").combines());
+        assertTrue(QueryAutomaton.compile("div p").combines());
+        assertTrue(QueryAutomaton.compile("p, div > p").combines());
+    }
+
+    @Test public void simpleQueriesReuseTheirCompounds() {
+        for (String query : new String[]{"div.nav", "p:has(a)", "div.nav, p:has(a), [title]", "a, a", ":eq(1), li"}) {
+            QueryAutomaton compiled = QueryAutomaton.compile(query);
+            assertEquals(query, QueryParser.parse(query).toString(), compiled.evaluator().toString());
+        }
+    }
+
+    @Test(expected = Selector.SelectorParseException.class) public void trailingCombinator() {
+        QueryAutomaton.compile("div >");
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkAgainstEvaluators() throws Exception {
+        final Document doc = Jsoup.parse(new File(QueryAutomatonTest.class.getResource("/htmltests/news-com-au-home.html").toURI()), "UTF-8");
+        Benchmark.run(new Runnable() {
+            public void run() {
+                for (String query : queries)
+                    Collector.collect(QueryParser.parse(query), doc);
+            }
+        }, new Runnable() {
+            public void run() {
+                for (String query : queries)
+                    QueryAutomaton.compile(query).select(doc);
+            }
+        }, 200);
+    }
+
+    private static void assertSame(String message, Elements expected, Elements actual) {
+        assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertTrue(message, expected.get(i) == actual.get(i));
+    }
+}
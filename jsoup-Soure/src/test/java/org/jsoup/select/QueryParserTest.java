@@ -1,6 +1,13 @@
 package org.jsoup.select;
 
+import org.jsoup.Jsoup;
+import org.jsoup.integration.Benchmark;
+import org.jsoup.nodes.Document;
+import org.junit.Ignore;
 import org.junit.Test;
+
+import java.util.regex.Pattern;
+
 import static org.junit.Assert.*;
 
 /**
@@ -39,4 +46,63 @@ public class QueryParserTest {
         assertEquals("li :prevli :ImmediateParentol", andRight.toString());
         assertEquals(2, andLeft.evaluators.size());
     }
+
+    @Test public void ordersAndTermsCheapestFirst() {
+        Evaluator eval = QueryParser.parse("div:matches(foo.*bar).price");
+        assertEquals("div .price :matches(foo.*bar", eval.toString());
+
+        eval = QueryParser.parse(":containsOwn(x)[title]#a");
+        assertEquals("#a [title] :containsOwn(x", eval.toString());
+
+        eval = QueryParser.parse("a[href*=x][^data-].ad");
+        assertEquals("a .ad [href*=x] [^data-]", eval.toString()); // class with attribute presence, before values
+    }
+
+    @Test public void flattensNestedAnds() {
+        // "div.price p" parses as AND(AND(p, .x), :parent(div.price)); the inner AND joins the outer
+        Evaluator eval = QueryParser.parse("div.price p.x:contains(y)");
+        CombiningEvaluator.And and = (CombiningEvaluator.And) eval;
+        assertEquals(4, and.evaluators.size());
+        assertEquals("p .x :parentdiv .price :contains(y", and.toString());
+    }
+
+    @Test public void removesRepeatedOrTerms() {
+        CombiningEvaluator.Or or = (CombiningEvaluator.Or) QueryParser.parse("p, div.a, p, div.a, span");
+        assertEquals(3, or.evaluators.size());
+        assertEquals(":or[p, div .a, span]", or.toString());
+
+        assertTrue(QueryParser.parse("p, p") instanceof Evaluator.Tag);
+    }
+
+    @Test public void optimisedQueriesSelectTheSame() {
+        Document doc = Jsoup.parse("<div class=price id=a>foo and bar</div><div>foo bar</div><p class=price>foo x bar" +
+                "<div class=price><p>One</p><p title=t>Two</p></div>");
+        assertEquals(1, doc.select("div:matches(foo.*bar).price").size());
+        assertEquals("a", doc.select("div:matches(foo.*bar).price").first().id());
+        assertEquals(2, doc.select(".price:matches(foo.*bar)").size());
+        assertEquals(2, doc.select("div.price > p, p[title], div.price > p").size());
+        assertEquals("Two", doc.select(":containsOwn(two)[title]p").text());
+    }
+
+    @Ignore // a benchmark, run by hand
+    @Test public void benchmarkCostOrdering() {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+            html.append("<div class=").append(i % 10 == 0 ? "price" : "item").append("><p>foo ").append(i).append(" bar</p></div>");
+        final Document doc = Jsoup.parse(html.toString());
+        final Evaluator asWritten = new CombiningEvaluator.And(new Evaluator.Tag("div"),
+                new Evaluator.Matches(Pattern.compile("foo.*bar")), new Evaluator.Class("price"));
+        final Evaluator optimised = QueryParser.parse("div:matches(foo.*bar).price");
+        assertEquals(Collector.collect(asWritten, doc), Collector.collect(optimised, doc));
+
+        Benchmark.run(new Runnable() {
+            public void run() {
+                Collector.collect(asWritten, doc);
+            }
+        }, new Runnable() {
+            public void run() {
+                Collector.collect(optimised, doc);
+            }
+        }, 500);
+    }
 }
@@ -0,0 +1,155 @@
+package org.jsoup.select;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.StringUtil;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ Tests for TextCollector.
+ */
+public class TextCollectorTest {
+    @Test public void matchesElementText() {
+        String h = "<div>  Hello <b> there </b>\n now <p>One<br>Two</p><pre>  keep\n  this </pre> </div>";
+        Document doc = Jsoup.parse(h);
+        for (Element el : doc.getAllElements()) {
+            StringBuilder accum = new StringBuilder();
+            try {
+                TextCollector.text(el, accum);
+            } catch (IOException e) {
+                fail();
+            }
+            assertEquals(oldText(el), accum.toString());
+        }
+    }
+
+    @Test public void joinedTextOfNestedElements() {
+        Document doc = Jsoup.parse("<div id=1><p>One <b>Two</b></p><p>Three</p></div><div id=2><p>Four</p></div>");
+        Elements els = doc.select("div, p, b");
+        assertEquals(joinedOldText(els), els.text());
+        assertEquals("One Two Three One Two Two Three Four Four", els.text());
+
+        Elements reversed = new Elements();
+        for (int i = els.size() - 1; i >= 0; i--)
+            reversed.add(els.get(i));
+        assertEquals(joinedOldText(reversed), reversed.text());
+    }
+
+    @Test public void emptyElementsJoinLikeText() {
+        Document doc = Jsoup.parse("<p>One</p><p></p><p> </p><p>Two</p>");
+        Elements ps = doc.select("p");
+        assertEquals("One   Two", ps.text());
+
+        Elements leadingEmpty = doc.select("p:eq(1), p:eq(3)");
+        assertEquals(joinedOldText(leadingEmpty), leadingEmpty.text());
+    }
+
+    @Test public void eachText() {
+        Document doc = Jsoup.parse("<div><p>One <b>Two</b></p><p>Three</p></div><p>Four</p>");
+        Elements els = doc.select("div, p, b");
+        List<String> texts = els.eachText();
+        assertEquals(els.size(), texts.size());
+        for (int i = 0; i < els.size(); i++)
+            assertEquals(oldText(els.get(i)), texts.get(i));
+        assertEquals("One Two Three", texts.get(0));
+        assertEquals("Two", texts.get(2));
+    }
+
+    @Test public void writesToAppendable() throws IOException {
+        Document doc = Jsoup.parse("<ul><li>One</li><li>Two <i>2</i></li></ul>");
+        StringWriter writer = new StringWriter();
+        TextCollector.text(doc.select("li"), writer);
+        assertEquals("One Two 2", writer.toString());
+    }
+
+    @Test public void findAgreesWithTextFind() {
+        StringBuilder h = new StringBuilder("<div id=big>  Start <b>here</b>\n");
+        for (int i = 0; i < 150; i++)
+            h.append("<p>Paragraph ").append(i).append(" <i>with</i>  words</p>");
+        h.append("<pre>  keep\n  this </pre> The end. </div><p>   </p><p></p>");
+        Document doc = Jsoup.parse(h.toString());
+        String[] regexes = {"Start", "here\\s+Par", "^Start", "end\\.$", "end\\. ?$", "words$", "\\d+ with",
+                "keep\n  this", "Paragraph 149(?! with)", "Paragraph 12\\b", "Paragraph 1(?=2)", "nope", "^$", "s*", "(?s).*end"};
+        for (String regex : regexes) {
+            Pattern pattern = Pattern.compile(regex);
+            for (Element el : doc.getAllElements())
+                assertEquals(regex, pattern.matcher(el.text()).find(), TextCollector.find(pattern, el));
+        }
+    }
+
+    @Test public void findStopsEarly() {
+        StringBuilder h = new StringBuilder("<body><p>Match me");
+        for (int i = 0; i < 10000; i++)
+            h.append("<p>Paragraph ").append(i);
+        Element body = Jsoup.parse(h.toString()).body();
+
+        TextCollector.LazyText text = new TextCollector.LazyText(body);
+        assertTrue(text.produce(10));
+        assertEquals("Match me", text.out.substring(0, 8));
+        assertTrue(text.out.length() < 100);
+        while (text.produce(text.out.length() + 1000)) {
+            // to the end
+        }
+        assertEquals(body.text(), text.out.toString());
+
+        assertTrue(TextCollector.find(Pattern.compile("Match"), body));
+        assertEquals(1, body.select("body:matches(Match \\w+)").size());
+    }
+
+    @Test public void emptyTextFind() {
+        Document doc = Jsoup.parse("<div> <span></span> </div>");
+        assertTrue(TextCollector.find(Pattern.compile("^$"), doc.select("div").first()));
+        assertFalse(TextCollector.find(Pattern.compile("."), doc.select("div").first()));
+    }
+
+    // the per element implementation that TextCollector replaces
+    private static String oldText(Element el) {
+        final StringBuilder accum = new StringBuilder();
+        new NodeTraversor(new NodeVisitor() {
+            public void head(Node node, int depth) {
+                if (node instanceof TextNode) {
+                    TextNode textNode = (TextNode) node;
+                    String text = textNode.getWholeText();
+                    Element parent = (Element) textNode.parent();
+                    boolean preserve = parent.tag().preserveWhitespace() ||
+                            parent.parent() != null && parent.parent().tag().preserveWhitespace();
+                    if (!preserve) {
+                        text = StringUtil.normaliseWhitespace(text);
+                        if (accum.length() != 0 && accum.charAt(accum.length() - 1) == ' ')
+                            text = text.replaceFirst("^\\s+", "");
+                    }
+                    accum.append(text);
+                } else if (node instanceof Element) {
+                    Element element = (Element) node;
+                    if (accum.length() > 0 && (element.isBlock() || element.tagName().equals("br")) &&
+                            accum.charAt(accum.length() - 1) != ' ')
+                        accum.append(" ");
+                }
+            }
+
+            public void tail(Node node, int depth) {
+            }
+        }).traverse(el);
+        return accum.toString().trim();
+    }
+
+    private static String joinedOldText(Elements els) {
+        StringBuilder sb = new StringBuilder();
+        for (Element element : els) {
+            if (sb.length() != 0)
+                sb.append(" ");
+            sb.append(oldText(element));
+        }
+        return sb.toString();
+    }
+}